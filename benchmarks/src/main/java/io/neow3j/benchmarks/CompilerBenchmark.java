@@ -0,0 +1,35 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.benchmarks.contracts.BenchmarkContract;
+import io.neow3j.compiler.CompilationUnit;
+import io.neow3j.compiler.Compiler;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the compilation of a smart contract class, including reading the class file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilerBenchmark {
+
+    @Benchmark
+    public CompilationUnit compileClass() throws IOException {
+        // A compiler instance can only be used for one compilation.
+        return new Compiler().compileClass(BenchmarkContract.class.getName());
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.Base58;
+import io.neow3j.utils.Numeric;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hexadecimal and Base58 encoding and decoding of byte arrays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+
+    // Sizes of an address payload, a hash and a typical transaction.
+    @Param({"25", "32", "250"})
+    private int size;
+
+    private byte[] bytes;
+    private String hex;
+    private String base58;
+
+    @Setup
+    public void setUp() {
+        bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        hex = Numeric.toHexStringNoPrefix(bytes);
+        base58 = Base58.encode(bytes);
+    }
+
+    @Benchmark
+    public String toHexString() {
+        return Numeric.toHexString(bytes);
+    }
+
+    @Benchmark
+    public byte[] hexStringToByteArray() {
+        return Numeric.hexStringToByteArray(hex);
+    }
+
+    @Benchmark
+    public String base58Encode() {
+        return Base58.encode(bytes);
+    }
+
+    @Benchmark
+    public byte[] base58Decode() {
+        return Base58.decode(base58);
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.Hash;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hash functions used for transaction ids, block hashes and script hashes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+
+    // Sizes of a script hash pre-image, a typical transaction and a large transaction.
+    @Param({"33", "250", "10000"})
+    private int size;
+
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        input = new byte[size];
+        new Random(42).nextBytes(input);
+    }
+
+    @Benchmark
+    public byte[] sha256() {
+        return Hash.sha256(input);
+    }
+
+    @Benchmark
+    public byte[] hash256() {
+        return Hash.hash256(input);
+    }
+
+    @Benchmark
+    public byte[] ripemd160() {
+        return Hash.ripemd160(input);
+    }
+
+    @Benchmark
+    public byte[] sha256AndThenRipemd160() {
+        return Hash.sha256AndThenRipemd160(input);
+    }
+
+}
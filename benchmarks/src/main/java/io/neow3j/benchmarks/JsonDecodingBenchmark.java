@@ -0,0 +1,66 @@
+package io.neow3j.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the decoding of JSON-RPC responses with the object mapper used by the services.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDecodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] getBlockResponse;
+    private byte[] getApplicationLogResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = ObjectMapperFactory.getObjectMapper();
+        getBlockResponse = readResource("/responses/getblock.json");
+        getApplicationLogResponse = readResource("/responses/getapplicationlog.json");
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(name)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public NeoGetBlock decodeGetBlock() throws IOException {
+        return objectMapper.readValue(getBlockResponse, NeoGetBlock.class);
+    }
+
+    @Benchmark
+    public NeoGetApplicationLog decodeGetApplicationLog() throws IOException {
+        return objectMapper.readValue(getApplicationLogResponse, NeoGetApplicationLog.class);
+    }
+
+}
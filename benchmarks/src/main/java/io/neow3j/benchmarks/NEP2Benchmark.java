@@ -0,0 +1,57 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.exceptions.CipherException;
+import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
+import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
+import io.neow3j.utils.Numeric;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the NEP-2 encryption and decryption of private keys with the standard scrypt
+ * parameters. Both are dominated by scrypt and take in the order of tens of milliseconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NEP2Benchmark {
+
+    private static final String PRIVATE_KEY =
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3";
+    private static final String PASSWORD = "neo";
+
+    private ECKeyPair keyPair;
+    private String encryptedKey;
+
+    @Setup
+    public void setUp() throws CipherException {
+        keyPair = ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+        encryptedKey = NEP2.encrypt(PASSWORD, keyPair);
+    }
+
+    @Benchmark
+    public String encrypt() throws CipherException {
+        return NEP2.encrypt(PASSWORD, keyPair);
+    }
+
+    @Benchmark
+    public ECKeyPair decrypt()
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+        return NEP2.decrypt(PASSWORD, encryptedKey);
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.contract.ContractParameter;
+import io.neow3j.contract.NeoToken;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.transaction.Signer;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.Numeric;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the binary serialization of transactions and scripts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final String PRIVATE_KEY =
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3";
+
+    private ScriptHash account;
+    private Transaction transaction;
+    private byte[] serializedTransaction;
+    private byte[] varInts;
+
+    @Setup
+    public void setUp() throws IOException {
+        ECKeyPair keyPair = ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+        account = ScriptHash.fromPublicKey(keyPair.getPublicKey().getEncoded(true));
+        Neow3j neow3j = Neow3j.build(new HttpService());
+        // Set the magic number so that no request is sent when calculating the transaction id.
+        neow3j.setNetworkMagicNumber(769);
+
+        List<Witness> witnesses = new ArrayList<>();
+        transaction = new Transaction(neow3j, (byte) 0, 1234L, 2106265L,
+                Collections.singletonList(Signer.calledByEntry(account)), 9007810L, 1268390L,
+                new ArrayList<>(), buildTransferScript(), witnesses);
+        witnesses.add(Witness.create(transaction.getHashData(), keyPair));
+        serializedTransaction = transaction.toArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            for (long i = 0; i < 1000; i++) {
+                writer.writeVarInt(i * 1000);
+            }
+        }
+        varInts = out.toByteArray();
+    }
+
+    private byte[] buildTransferScript() {
+        return new ScriptBuilder().contractCall(NeoToken.SCRIPT_HASH, "transfer", Arrays.asList(
+                ContractParameter.hash160(account),
+                ContractParameter.hash160(NeoToken.SCRIPT_HASH),
+                ContractParameter.integer(1000),
+                ContractParameter.any(null)))
+                .toArray();
+    }
+
+    @Benchmark
+    public byte[] scriptBuilderContractCall() {
+        return buildTransferScript();
+    }
+
+    @Benchmark
+    public byte[] transactionToArray() {
+        return transaction.toArray();
+    }
+
+    @Benchmark
+    public Transaction transactionDeserialize() throws DeserializationException {
+        return NeoSerializableInterface.from(serializedTransaction, Transaction.class);
+    }
+
+    @Benchmark
+    public String transactionGetTxId() throws IOException {
+        return transaction.getTxId();
+    }
+
+    @Benchmark
+    public byte[] binaryWriterVarInts() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(varInts.length);
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            for (long i = 0; i < 1000; i++) {
+                writer.writeVarInt(i * 1000);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public long binaryReaderVarInts() throws IOException {
+        long sum = 0;
+        try (BinaryReader reader = new BinaryReader(varInts)) {
+            for (int i = 0; i < 1000; i++) {
+                sum += reader.readVarInt();
+            }
+        }
+        return sum;
+    }
+
+}
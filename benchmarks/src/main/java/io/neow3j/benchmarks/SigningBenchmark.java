@@ -0,0 +1,77 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.crypto.SignatureVerifier;
+import io.neow3j.crypto.SigningContext;
+import io.neow3j.utils.Numeric;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the creation and verification of ECDSA signatures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SigningBenchmark {
+
+    private static final String PRIVATE_KEY =
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3";
+
+    private ECKeyPair keyPair;
+    private SigningContext signingContext;
+    private byte[] message;
+    private byte[] messageHash;
+    private SignatureData signature;
+    private SignatureVerifier signatureVerifier;
+
+    @Setup
+    public void setUp() {
+        keyPair = ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+        // The size of a typical transaction's hash data.
+        message = new byte[250];
+        new Random(42).nextBytes(message);
+        messageHash = Hash.sha256(message);
+        signingContext = new SigningContext(keyPair);
+        signature = signingContext.signMessage(message);
+        signatureVerifier = new SignatureVerifier();
+    }
+
+    @Benchmark
+    public BigInteger[] signHash() {
+        return keyPair.sign(messageHash);
+    }
+
+    @Benchmark
+    public SignatureData signMessage() {
+        return Sign.signMessage(message, keyPair);
+    }
+
+    @Benchmark
+    public SignatureData signMessageWithContext() {
+        return signingContext.signMessage(message);
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return signatureVerifier.verifyHash(messageHash, signature, keyPair.getPublicKey());
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.neow3j.benchmarks.contracts;
+
+import io.neow3j.devpack.Hash160;
+import io.neow3j.devpack.Runtime;
+import io.neow3j.devpack.Storage;
+import io.neow3j.devpack.StorageContext;
+import io.neow3j.devpack.annotations.DisplayName;
+
+/**
+ * The contract compiled in the {@link io.neow3j.benchmarks.CompilerBenchmark}. It contains a mix
+ * of loops, branches, arithmetic, storage access and syscalls.
+ */
+@DisplayName("BenchmarkContract")
+public class BenchmarkContract {
+
+    static final StorageContext ctx = Storage.getStorageContext();
+
+    public static int sum(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public static int fibonacci(int n) {
+        if (n < 2) {
+            return n;
+        }
+        int a = 0;
+        int b = 1;
+        for (int i = 1; i < n; i++) {
+            int c = a + b;
+            a = b;
+            b = c;
+        }
+        return b;
+    }
+
+    public static String classify(int value) {
+        switch (value) {
+            case 0:
+                return "zero";
+            case 1:
+                return "one";
+            case 2:
+                return "two";
+            default:
+                return value < 0 ? "negative" : "many";
+        }
+    }
+
+    public static boolean store(Hash160 owner, byte[] key, int value) {
+        if (!Runtime.checkWitness(owner)) {
+            return false;
+        }
+        Storage.put(ctx, key, value);
+        return true;
+    }
+
+    public static byte[] load(byte[] key) {
+        return Storage.get(ctx, key);
+    }
+
+}
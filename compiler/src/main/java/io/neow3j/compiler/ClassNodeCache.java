@@ -0,0 +1,88 @@
+package io.neow3j.compiler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Holds the {@code ClassNode}s of the classes needed in the compilation, mapped by the classes'
+ * internal names. Every class is read from its class file only once, even if it is used by many
+ * contracts, e.g., the devpack classes.
+ * <p>
+ * A cache can be shared by compilations that run in parallel. The compiler does not modify the
+ * {@code ClassNode}s it reads.
+ */
+public class ClassNodeCache {
+
+    // The class loader used to read the class files.
+    private final ClassLoader classLoader;
+
+    // Maps internal class names to the parsed classes.
+    private final Map<String, ClassNode> classNodes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty cache that reads classes with the given class loader.
+     *
+     * @param classLoader The class loader to read classes with.
+     */
+    public ClassNodeCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Gets the {@code ClassNode} for the given class. The class is read with this cache's class
+     * loader if it is not in the cache yet.
+     *
+     * @param internalName The class name in internal name representation as provided by ASM,
+     *                     e.g., {@code io/neow3j/devpack/Storage}.
+     * @return the class node.
+     * @throws IOException if an error occurs when reading the class file.
+     */
+    public ClassNode getClassNode(String internalName) throws IOException {
+        try {
+            // Threads that need a class that is being read wait for it instead of reading it
+            // again.
+            return classNodes.computeIfAbsent(internalName, this::readClassNode);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ClassNode readClassNode(String internalName) {
+        try {
+            ClassNode classNode = AsmHelper.getAsmClassForInternalName(internalName, classLoader);
+            initializeLazyFields(classNode);
+            return classNode;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ASM creates some fields on first access, e.g., the label of a `LabelNode`. If two threads
+    // did that at the same time, they could end up with different labels for the same `LabelNode`.
+    // Thus, these fields are created before the class node is shared.
+    private static void initializeLazyFields(ClassNode classNode) {
+        for (MethodNode method : classNode.methods) {
+            if (method.instructions.size() == 0) {
+                continue;
+            }
+            // Builds the instruction list's index cache.
+            method.instructions.get(0);
+            for (AbstractInsnNode insn : method.instructions) {
+                if (insn instanceof LabelNode) {
+                    ((LabelNode) insn).getLabel();
+                }
+            }
+        }
+    }
+
+}
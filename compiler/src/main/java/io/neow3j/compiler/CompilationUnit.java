@@ -2,7 +2,9 @@ package io.neow3j.compiler;
 
 import io.neow3j.contract.NefFile;
 import io.neow3j.protocol.core.methods.response.ContractManifest;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.objectweb.asm.tree.ClassNode;
 
@@ -18,6 +20,11 @@ public class CompilationUnit {
      */
     private ClassLoader classLoader;
 
+    /**
+     * The cache holding the classes read in the compilation.
+     */
+    private ClassNodeCache classNodeCache;
+
     /**
      * The module containing the compiled classes and methods.
      */
@@ -44,8 +51,23 @@ public class CompilationUnit {
     // Maps fully qualified class names to their source files (aboslute file paths).
     private final Map<String, String> sourceFileMap = new HashMap<>();
 
+    // Maps the IDs of the compiled methods to the number of bytes that the peephole optimizer
+    // saved in them.
+    private final Map<String, Integer> peepholeSavings = new LinkedHashMap<>();
+
     public CompilationUnit(ClassLoader classLoader) {
-        this.classLoader = classLoader;
+        this(new ClassNodeCache(classLoader));
+    }
+
+    /**
+     * Constructs a compilation unit that reads classes through the given cache. The cache's class
+     * loader is used for loading classes.
+     *
+     * @param classNodeCache The cache to read classes through.
+     */
+    public CompilationUnit(ClassNodeCache classNodeCache) {
+        this.classLoader = classNodeCache.getClassLoader();
+        this.classNodeCache = classNodeCache;
         this.neoModule = new NeoModule();
     }
 
@@ -53,6 +75,10 @@ public class CompilationUnit {
         return classLoader;
     }
 
+    public ClassNodeCache getClassNodeCache() {
+        return classNodeCache;
+    }
+
     public NeoModule getNeoModule() {
         return neoModule;
     }
@@ -71,6 +97,7 @@ public class CompilationUnit {
 
     protected void setClassLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        this.classNodeCache = new ClassNodeCache(classLoader);
     }
 
     protected void setNef(NefFile nef) {
@@ -124,4 +151,29 @@ public class CompilationUnit {
         sourceFileMap.put(className, sourceFile);
     }
 
-}
\ No newline at end of file
+    /**
+     * Gets the number of bytes that the peephole optimizer saved in each method, mapped by the
+     * method IDs.
+     *
+     * @return the saved bytes per method.
+     * @see PeepholeOptimizer
+     */
+    public Map<String, Integer> getPeepholeSavings() {
+        return Collections.unmodifiableMap(peepholeSavings);
+    }
+
+    /**
+     * Gets the number of bytes that the peephole optimizer saved in the whole script.
+     *
+     * @return the saved bytes.
+     * @see PeepholeOptimizer
+     */
+    public int getTotalPeepholeSavings() {
+        return peepholeSavings.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    protected void addPeepholeSavings(String methodId, int savedBytes) {
+        peepholeSavings.merge(methodId, savedBytes, Integer::sum);
+    }
+
+}
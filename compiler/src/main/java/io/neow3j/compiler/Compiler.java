@@ -32,9 +32,17 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -66,12 +74,57 @@ public class Compiler {
 
     private final CompilationUnit compUnit;
 
+    private final PeepholeOptimizer optimizer;
+
+    /**
+     * Constructs a compiler that does not optimize the produced code. Use
+     * {@link Compiler#Compiler(PeepholeOptimizer)} to enable the optimization.
+     */
     public Compiler() {
-        compUnit = new CompilationUnit(this.getClass().getClassLoader());
+        this(Compiler.class.getClassLoader());
     }
 
+    /**
+     * Constructs a compiler that uses the given class loader and does not optimize the produced
+     * code.
+     *
+     * @param classLoader The class loader used to load the classes needed in the compilation.
+     */
     public Compiler(ClassLoader classLoader) {
-        compUnit = new CompilationUnit(classLoader);
+        this(classLoader, new PeepholeOptimizer(EnumSet.noneOf(PeepholeOptimizer.Rule.class)));
+    }
+
+    /**
+     * Constructs a compiler that uses the given optimizer, e.g., {@code new PeepholeOptimizer()}
+     * to apply all optimization rules.
+     *
+     * @param optimizer The optimizer to run on every method.
+     */
+    public Compiler(PeepholeOptimizer optimizer) {
+        this(Compiler.class.getClassLoader(), optimizer);
+    }
+
+    /**
+     * Constructs a compiler that uses the given class loader and optimizer.
+     *
+     * @param classLoader The class loader used to load the classes needed in the compilation.
+     * @param optimizer   The optimizer to run on every method. Construct it with no rules to
+     *                    disable the optimization.
+     */
+    public Compiler(ClassLoader classLoader, PeepholeOptimizer optimizer) {
+        this(new ClassNodeCache(classLoader), optimizer);
+    }
+
+    /**
+     * Constructs a compiler that reads classes through the given cache and uses the given
+     * optimizer. Compilers that share a cache read the classes they have in common only once.
+     *
+     * @param classNodeCache The cache used to read the classes needed in the compilation.
+     * @param optimizer      The optimizer to run on every method.
+     */
+    public Compiler(ClassNodeCache classNodeCache, PeepholeOptimizer optimizer) {
+        compUnit = new CompilationUnit(classNodeCache);
+        this.optimizer = optimizer;
     }
 
     public static ContractParameterType mapTypeToParameterType(Type type) {
@@ -139,60 +192,100 @@ public class Compiler {
         return ContractParameterType.ANY;
     }
 
-//    /**
-//     * Converts the given classes to neo-vm code and generates debug information with the help of
-//     * the given source file paths.
-//     * <p>
-//     * Make sure that the {@code Classloader} used to initialize this {@code Compiler} includes
-//     the
-//     * paths to the given class files.
-//     *
-//     * @param classNames      The fully qualified names of the classes
-//     * @param sourceFilePaths The absolute paths to the source files of the given classes.
-//     * @return the compilation results.
-//     * @throws IOException if something goes wrong when reading Java and class files from disk.
-//     */
-//    public CompilationUnit compileClasses(Set<String> classNames, Set<String> sourceFilePaths)
-//            throws IOException {
-//
-//        List<ClassNode> classes = new ArrayList<>();
-//        for (String className : classNames) {
-//            ClassNode asmClass = getAsmClass(className, compUnit.getClassLoader());
-//            classes.add(asmClass);
-//            String relativePath = className.replace(".", "/");
-//            String sourceFilePath = sourceFilePaths.stream()
-//                    .filter(path -> path.contains(relativePath))
-//                    .findFirst().orElseThrow(() -> new CompilerException(
-//                            "Could not find source file for class " + className));
-//            compUnit.addClassToSourceMapping(className, sourceFilePath);
-//        }
-//        for (ClassNode asmClass : classes) {
-//            compileClass(asmClass);
-//        }
-//        finalizeCompilation();
-//        return compUnit;
-//    }
-
-//    /**
-//     * Converts the given JVM class files a neo-vm script. No debugging information is created
-//     * because the source files are unknown.
-//     * <p>
-//     * Make sure that the {@code Classloader} used to initialize this {@code Compiler} includes
-//     the
-//     * paths to the given class files.
-//     *
-//     * @param classNames The fully qualified names of the classes to convert to neo-vm code.
-//     * @return The compilation result.
-//     * @throws IOException if something goes wrong when reading Java and class files from disk.
-//     */
-//    public CompilationUnit compileClasses(Set<String> classNames) throws IOException {
-//        for (String className : classNames) {
-//            ClassNode asmClass = getAsmClass(className, compUnit.getClassLoader());
-//            compileClass(asmClass);
-//        }
-//        finalizeCompilation();
-//        return compUnit;
-//    }
+    /**
+     * Compiles each of the given contract classes to a separate NeoVM script and produces
+     * debugging information for them.
+     * <p>
+     * The classes are compiled in parallel. They share this compiler's class cache and optimizer,
+     * so classes that several contracts use, e.g., the devpack classes, are read only once. The
+     * compilation unit of this compiler is not used.
+     *
+     * @param sourceFilePaths The absolute paths of the classes' source files mapped by the fully
+     *                        qualified names of the classes to compile.
+     * @return the compilation units mapped by the fully qualified class names.
+     * @throws IOException If an error occurs when reading the class and source files.
+     */
+    public java.util.Map<String, CompilationUnit> compileClasses(
+            java.util.Map<String, String> sourceFilePaths) throws IOException {
+
+        return compileInParallel(sourceFilePaths.keySet(),
+                (c, className) -> c.compileClass(className, sourceFilePaths.get(className)));
+    }
+
+    /**
+     * Compiles each of the given contract classes to a separate NeoVM script.
+     * <p>
+     * The classes are compiled in parallel. They share this compiler's class cache and optimizer,
+     * so classes that several contracts use, e.g., the devpack classes, are read only once. The
+     * compilation unit of this compiler is not used.
+     *
+     * @param classNames The fully qualified names of the classes to compile.
+     * @return the compilation units mapped by the fully qualified class names.
+     * @throws IOException If an error occurs when reading class files.
+     */
+    public java.util.Map<String, CompilationUnit> compileClasses(Collection<String> classNames)
+            throws IOException {
+
+        return compileInParallel(classNames, Compiler::compileClass);
+    }
+
+    // Compiles every class with a new compiler. The compilers run on a thread pool with at most
+    // one thread per processor.
+    private java.util.Map<String, CompilationUnit> compileInParallel(Collection<String> classNames,
+            ClassCompilation compilation) throws IOException {
+
+        java.util.Map<String, CompilationUnit> units = new LinkedHashMap<>();
+        if (classNames.isEmpty()) {
+            return units;
+        }
+        ClassNodeCache classNodeCache = compUnit.getClassNodeCache();
+        int threads = Math.min(classNames.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            java.util.Map<String, Future<CompilationUnit>> futures = new LinkedHashMap<>();
+            for (String className : classNames) {
+                futures.put(className, executor.submit(() -> compilation.compile(
+                        new Compiler(classNodeCache, optimizer), className)));
+            }
+            for (Entry<String, Future<CompilationUnit>> future : futures.entrySet()) {
+                units.put(future.getKey(), getCompilationResult(future.getValue()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return units;
+    }
+
+    private static CompilationUnit getCompilationResult(Future<CompilationUnit> future)
+            throws IOException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompilerException(e);
+        } catch (ExecutionException e) {
+            // Rethrow the exception as if the class had been compiled on the calling thread.
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompilerException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClassCompilation {
+
+        CompilationUnit compile(Compiler compiler, String className) throws IOException;
+
+    }
 
     /**
      * Compiles the given class to the corresponding neo-vm script and produces debugging
@@ -206,7 +299,7 @@ public class Compiler {
     public CompilationUnit compileClass(String className, String sourceFilePath)
             throws IOException {
 
-        ClassNode asmClass = getAsmClass(className, compUnit.getClassLoader());
+        ClassNode asmClass = getContractClassNode(className);
         String relativePath = className.replace(".", "/");
         if (!sourceFilePath.contains(relativePath)) {
             throw new IllegalArgumentException("Source file path does not correspond to the fully "
@@ -225,7 +318,11 @@ public class Compiler {
      * @throws IOException if an error occurs when trying to read class files.
      */
     public CompilationUnit compileClass(String fullyQualifiedClassName) throws IOException {
-        return compileClass(getAsmClass(fullyQualifiedClassName, compUnit.getClassLoader()));
+        return compileClass(getContractClassNode(fullyQualifiedClassName));
+    }
+
+    private ClassNode getContractClassNode(String fullyQualifiedClassName) throws IOException {
+        return compUnit.getClassNodeCache().getClassNode(fullyQualifiedClassName.replace('.', '/'));
     }
 
     /**
@@ -260,6 +357,9 @@ public class Compiler {
     }
 
     private void finalizeCompilation() {
+        // The optimizer removes instructions and methods. Thus, it has to run before the module
+        // sets the jump offsets and method addresses.
+        optimizer.optimize(compUnit);
         compUnit.getNeoModule().finalizeModule();
         // TODO: Pass MethodTokens to the NefFile constructor.
         NefFile nef = new NefFile(COMPILER_NAME, compUnit.getNeoModule().toByteArray(),
@@ -79,8 +79,9 @@ public class DebugInfo {
             }
             String name = ClassUtils.getFullyQualifiedNameForInternalName(
                     neoMethod.getOwnerClass().name) + "," + neoMethod.getName();
-            String range = (neoMethod.getStartAddress() + neoMethod.getInstructions().firstKey())
-                    + "-" + (neoMethod.getStartAddress() + neoMethod.getInstructions().lastKey());
+            List<NeoInstruction> insns = neoMethod.getInstructions();
+            String range = (neoMethod.getStartAddress() + insns.get(0).getAddress()) + "-"
+                    + (neoMethod.getStartAddress() + insns.get(insns.size() - 1).getAddress());
             List<String> params = collectVars(neoMethod.getParametersByNeoIndex().values());
             List<String> vars = collectVars(neoMethod.getVariablesByNeoIndex().values());
             String returnType = mapTypeToParameterType(
@@ -100,7 +101,7 @@ public class DebugInfo {
 
     private static List<String> collectSequencePoints(NeoMethod neoMethod, int documentIndex) {
         List<String> sequencePoints = new ArrayList<>();
-        for (NeoInstruction insn : neoMethod.getInstructions().values()) {
+        for (NeoInstruction insn : neoMethod.getInstructions()) {
             if (insn.getLineNr() == null) {
                 continue;
             }
@@ -257,9 +257,9 @@ public class NeoInstruction {
             int specifiedOperandSize = 0;
             try {
                 if (operandSize.prefixSize() == 1) {
-                    specifiedOperandSize = reader.readByte();
+                    specifiedOperandSize = reader.readByte() & 0xff;
                 } else if (operandSize.prefixSize() == 2) {
-                    specifiedOperandSize = reader.readInt16();
+                    specifiedOperandSize = reader.readUInt16();
                 } else if (operandSize.prefixSize() == 4) {
                     specifiedOperandSize = reader.readInt32();
                 }
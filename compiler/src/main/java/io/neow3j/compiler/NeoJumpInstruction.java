@@ -15,6 +15,8 @@ public class NeoJumpInstruction extends NeoInstruction {
 
     // Constructs a new jump instruction with a 4-byte, zero-valued operand. The operand is the
     // target address of this jump instruction. That address is set in `NeoMethod.finalizeMethod()`.
+    // If the target is close enough, the module replaces the instruction with its 1-byte form
+    // before (see `NeoModule.finalizeModule()`).
     public NeoJumpInstruction(OpCode opcode, Label label) {
         super(opcode, new byte[4]);
         this.label = label;
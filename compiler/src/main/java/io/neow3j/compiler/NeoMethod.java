@@ -16,11 +16,12 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -52,9 +53,9 @@ public class NeoMethod {
     // The method's name that is, e.g., used when generating the contract's ABI.
     private String name;
 
-    // This method's instructions sorted by their address. The addresses in this map are only
-    // relative to this method and not the whole `NeoModule` in which this method lives in.
-    private SortedMap<Integer, NeoInstruction> instructions = new TreeMap<>();
+    // This method's instructions in the order of their addresses. The addresses are only relative
+    // to this method and not the whole `NeoModule` in which this method lives in.
+    private List<NeoInstruction> instructions = new ArrayList<>();
 
     // This list contains those instructions that represent a jump, i.e. they remember a label to
     // which they need to jump. All instructions in this list are also present in the `instructions`
@@ -66,6 +67,10 @@ public class NeoMethod {
     // opcodes like JMPIF.
     private final Map<Label, NeoInstruction> jumpTargets = new HashMap<>();
 
+    // The reverse of `jumpTargets`, mapping labeled instructions to their label. Used to check in
+    // constant time if an instruction is labeled.
+    private final Map<NeoInstruction, Label> labels = new IdentityHashMap<>();
+
     // This list contains those instructions that represent the beginning of a try block.
     // All instructions in this list are also present in the `instructions` map.
     private final List<NeoTryInstruction> tryInstructions = new ArrayList<>();
@@ -90,6 +95,11 @@ public class NeoMethod {
     // method-internal address.
     private int lastAddress = 0;
 
+    // Tells if the addresses of the instructions and `lastAddress` are up to date. Appending an
+    // instruction keeps them up to date. Inserting instructions doesn't. The addresses are then
+    // assigned again when they are needed, i.e., once for all inserted instructions.
+    private boolean addressesUpToDate = true;
+
     // The address in the NeoModule at which this method starts.
     private Integer startAddress = null;
 
@@ -397,13 +407,13 @@ public class NeoMethod {
     }
 
     /**
-     * Gets the sorted instructions of this method. The map is sorted by instruction addresses,
-     * i.e., the keys are the addresses.
+     * Gets the instructions of this method in the order of their addresses.
      *
      * @return the instructions.
      */
-    public SortedMap<Integer, NeoInstruction> getInstructions() {
-        return instructions;
+    public List<NeoInstruction> getInstructions() {
+        ensureAddressesUpToDate();
+        return Collections.unmodifiableList(instructions);
     }
 
     /**
@@ -433,6 +443,7 @@ public class NeoMethod {
      * @return the next instruction address.
      */
     public int getLastAddress() {
+        ensureAddressesUpToDate();
         return lastAddress;
     }
 
@@ -491,19 +502,39 @@ public class NeoMethod {
         insertTryCatchBlocks();
     }
 
+    // Inserts a try instruction in front of the first instruction of every try block. All try
+    // instructions are inserted in one pass over the instructions.
     private void insertTryCatchBlocks() {
+        if (tryCatchFinallyBlocks.isEmpty()) {
+            return;
+        }
+        Map<NeoInstruction, List<NeoTryInstruction>> tryInsnsByFirstInsn = new IdentityHashMap<>();
         for (TryCatchFinallyBlock block : tryCatchFinallyBlocks) {
-            insertTryInstruction(block);
+            NeoInstruction insn = jumpTargets.get(block.tryLabelNode.getLabel());
+            if (insn == null) {
+                throw new CompilerException(sourceClass, "Could not find the beginning "
+                        + "instruction of a try block.");
+            }
+            NeoTryInstruction tryInsn = buildTryInstruction(block);
+            // Try blocks that start at the same instruction are nested. The JVM lists inner blocks
+            // before outer ones, but the outer try instruction has to come first.
+            tryInsnsByFirstInsn.computeIfAbsent(insn, i -> new ArrayList<>()).add(0, tryInsn);
+            tryInstructions.add(tryInsn);
         }
+        List<NeoInstruction> newInstructions = new ArrayList<>(
+                instructions.size() + tryInstructions.size());
+        for (NeoInstruction insn : instructions) {
+            List<NeoTryInstruction> tryInsns = tryInsnsByFirstInsn.get(insn);
+            if (tryInsns != null) {
+                newInstructions.addAll(tryInsns);
+            }
+            newInstructions.add(insn);
+        }
+        instructions = newInstructions;
+        addressesUpToDate = false;
     }
 
-    private void insertTryInstruction(TryCatchFinallyBlock block) {
-        NeoInstruction insn = jumpTargets.get(block.tryLabelNode.getLabel());
-        if (insn == null) {
-            throw new CompilerException(sourceClass, "Could not find the beginning instruction of "
-                    + "a try block.");
-        }
-        int addr = insn.getAddress();
+    private NeoTryInstruction buildTryInstruction(TryCatchFinallyBlock block) {
         Label catchLabel = null;
         if (block.catchLabelNode != null) {
             catchLabel = block.catchLabelNode.getLabel();
@@ -512,27 +543,7 @@ public class NeoMethod {
         if (block.finallyLabelNode != null) {
             finallyLabel = block.finallyLabelNode.getLabel();
         }
-        NeoTryInstruction tryInsn = new NeoTryInstruction(catchLabel, finallyLabel);
-        insertInstruction(addr, tryInsn);
-        tryInstructions.add(tryInsn);
-    }
-
-    // Adds the given instruction at the given address into the sorted instructions map of this
-    // method. The address is set on the instruction as well. Shifts all instructions
-    // with an address equal or bigger than the given address by the size of the new instructions.
-    private void insertInstruction(int atAddr, NeoInstruction newInsn) {
-        SortedMap<Integer, NeoInstruction> head = instructions.headMap(atAddr);
-        SortedMap<Integer, NeoInstruction> tail = instructions.tailMap(atAddr);
-        SortedMap<Integer, NeoInstruction> newMap = new TreeMap<>(head);
-        newInsn.setAddress(atAddr);
-        newMap.put(newInsn.getAddress(), newInsn);
-        int shift = newInsn.byteSize();
-        tail.forEach((i, insn) -> {
-            insn.setAddress(i + shift);
-            newMap.put(i + shift, insn);
-        });
-        instructions = newMap;
-        increaseLastAddress(newInsn);
+        return new NeoTryInstruction(catchLabel, finallyLabel);
     }
 
     /**
@@ -557,22 +568,21 @@ public class NeoMethod {
             // TODO: Clarify if we only need jump points for instructions that additionally have
             //  a `FrameNode` before them.
             this.jumpTargets.put(this.currentLabel, neoInsn);
+            this.labels.put(neoInsn, this.currentLabel);
             this.currentLabel = null;
         }
         addInstructionInternal(neoInsn);
     }
 
     private void addInstructionInternal(NeoInstruction neoInsn) {
-        neoInsn.setAddress(lastAddress);
-        this.instructions.put(lastAddress, neoInsn);
+        if (addressesUpToDate) {
+            neoInsn.setAddress(lastAddress);
+            this.lastAddress += neoInsn.byteSize();
+        }
+        this.instructions.add(neoInsn);
         if (neoInsn instanceof NeoJumpInstruction) {
             this.jumpInstructions.add((NeoJumpInstruction) neoInsn);
         }
-        increaseLastAddress(neoInsn);
-    }
-
-    private void increaseLastAddress(NeoInstruction neoInsn) {
-        this.lastAddress += neoInsn.byteSize();
     }
 
     /**
@@ -581,8 +591,8 @@ public class NeoMethod {
      * @throws CompilerException if the instruction is a jump target.
      */
     public void removeLastInstruction() {
-        NeoInstruction lastInsn = this.instructions.get(this.instructions.lastKey());
-        if (this.jumpTargets.containsValue(lastInsn)) {
+        NeoInstruction lastInsn = getLastInstruction();
+        if (this.labels.containsKey(lastInsn)) {
             throw new CompilerException(this, "Attempting to remove an instruction that is a jump "
                     + "target for another instruction.");
         }
@@ -590,9 +600,16 @@ public class NeoMethod {
     }
 
     private void removeLastInstructionInternal() {
-        NeoInstruction insn = instructions.remove(instructions.lastKey());
-        jumpInstructions.remove(insn);
-        lastAddress -= insn.byteSize();
+        NeoInstruction insn = instructions.remove(instructions.size() - 1);
+        // The jump instructions are in the same order as the instructions. Thus, if the removed
+        // instruction is a jump, it is the last one in the jump instructions.
+        int lastJumpIdx = jumpInstructions.size() - 1;
+        if (lastJumpIdx >= 0 && jumpInstructions.get(lastJumpIdx) == insn) {
+            jumpInstructions.remove(lastJumpIdx);
+        }
+        if (addressesUpToDate) {
+            lastAddress -= insn.byteSize();
+        }
     }
 
     /**
@@ -602,13 +619,11 @@ public class NeoMethod {
      * @param newInsn The replacement instruction.
      */
     public void replaceLastInstruction(NeoInstruction newInsn) {
-        NeoInstruction lastInsn = this.instructions.get(this.instructions.lastKey());
-        if (jumpTargets.containsValue(lastInsn)) {
-            Optional<Entry<Label, NeoInstruction>> jumpTarget = jumpTargets.entrySet().stream()
-                    .filter(e -> e.getValue() == lastInsn).findFirst();
-            Label label = jumpTarget.get().getKey();
-            jumpTargets.remove(label);
+        NeoInstruction lastInsn = getLastInstruction();
+        Label label = labels.remove(lastInsn);
+        if (label != null) {
             jumpTargets.put(label, newInsn);
+            labels.put(newInsn, label);
         }
         if (lastInsn.getLineNr() != null) {
             newInsn.setLineNr(lastInsn.getLineNr());
@@ -623,7 +638,7 @@ public class NeoMethod {
      * @return the last instruction.
      */
     public NeoInstruction getLastInstruction() {
-        return this.instructions.get(this.instructions.lastKey());
+        return this.instructions.get(this.instructions.size() - 1);
     }
 
     /**
@@ -635,7 +650,7 @@ public class NeoMethod {
     public byte[] toByteArray() {
         byte[] bytes = new byte[byteSize()];
         int i = 0;
-        for (NeoInstruction insn : this.instructions.values()) {
+        for (NeoInstruction insn : this.instructions) {
             byte[] insnBytes = insn.toByteArray();
             System.arraycopy(insnBytes, 0, bytes, i, insnBytes.length);
             i += insnBytes.length;
@@ -649,9 +664,7 @@ public class NeoMethod {
      * @return the byte-size of this method.
      */
     protected int byteSize() {
-        return this.instructions.values().stream()
-                .map(NeoInstruction::byteSize)
-                .reduce(Integer::sum).get();
+        return getLastAddress();
     }
 
     protected void finalizeMethod() {
@@ -659,6 +672,165 @@ public class NeoMethod {
         setTryInstructionOffsets();
     }
 
+    /**
+     * Replaces the wide jump and try instructions of this method with their short forms if their
+     * target offsets fit into one byte, given the current instruction addresses.
+     * <p>
+     * The addresses of the instructions are not updated. Shrinking an instruction only brings
+     * other instructions closer together. Thus, the offsets of the shrunk instructions still fit
+     * after updating the addresses with {@link NeoMethod#updateAddresses()}.
+     *
+     * @return true if at least one instruction was shrunk. False, otherwise.
+     */
+    boolean shrinkJumpInstructions() {
+        boolean shrunk = false;
+        for (NeoJumpInstruction jumpInsn : this.jumpInstructions) {
+            OpCode shortOpcode = getShortJumpOpcode(jumpInsn.getOpcode());
+            if (shortOpcode == null || jumpInsn.getLabel() == null
+                    || !this.jumpTargets.containsKey(jumpInsn.getLabel())) {
+                continue;
+            }
+            if (fitsInByte(getOffset(jumpInsn, jumpInsn.getLabel()))) {
+                jumpInsn.setOpcode(shortOpcode);
+                jumpInsn.setOperand(new byte[1]);
+                shrunk = true;
+            }
+        }
+        for (NeoTryInstruction tryInsn : this.tryInstructions) {
+            if (tryInsn.getOpcode() != OpCode.TRY_L) {
+                continue;
+            }
+            Label catchLabel = tryInsn.getCatchOffsetLabel();
+            Label finallyLabel = tryInsn.getFinallyOffsetLabel();
+            if ((catchLabel != null && !this.jumpTargets.containsKey(catchLabel))
+                    || (finallyLabel != null && !this.jumpTargets.containsKey(finallyLabel))) {
+                continue;
+            }
+            if (fitsInByte(getOffset(tryInsn, catchLabel))
+                    && fitsInByte(getOffset(tryInsn, finallyLabel))) {
+                tryInsn.setOpcode(OpCode.TRY);
+                tryInsn.setOperand(new byte[2]);
+                shrunk = true;
+            }
+        }
+        return shrunk;
+    }
+
+    /**
+     * Assigns new addresses to this method's instructions according to their current sizes.
+     * Needs to be called after changing the size of instructions, e.g., when shrinking them.
+     */
+    void updateAddresses() {
+        int address = 0;
+        for (NeoInstruction insn : this.instructions) {
+            insn.setAddress(address);
+            address += insn.byteSize();
+        }
+        this.lastAddress = address;
+        this.addressesUpToDate = true;
+    }
+
+    private void ensureAddressesUpToDate() {
+        if (!addressesUpToDate) {
+            updateAddresses();
+        }
+    }
+
+    /**
+     * Gets the instructions of this method that are the target of one of its jump or try
+     * instructions.
+     * <p>
+     * Not every labeled instruction is a target. The compiler keeps the labels of all JVM
+     * instructions, e.g., also the ones marking the beginning of a source code line.
+     *
+     * @return the targeted instructions.
+     */
+    Set<NeoInstruction> getReferencedJumpTargets() {
+        Set<NeoInstruction> targets = new HashSet<>();
+        for (NeoJumpInstruction jumpInsn : this.jumpInstructions) {
+            addJumpTarget(targets, jumpInsn.getLabel());
+        }
+        for (NeoTryInstruction tryInsn : this.tryInstructions) {
+            addJumpTarget(targets, tryInsn.getCatchOffsetLabel());
+            addJumpTarget(targets, tryInsn.getFinallyOffsetLabel());
+        }
+        return targets;
+    }
+
+    private void addJumpTarget(Set<NeoInstruction> targets, Label label) {
+        if (label != null && this.jumpTargets.containsKey(label)) {
+            targets.add(this.jumpTargets.get(label));
+        }
+    }
+
+    /**
+     * Gets the instruction labeled with the given label.
+     *
+     * @param label The label.
+     * @return the instruction or null if no instruction has that label.
+     */
+    NeoInstruction getJumpTarget(Label label) {
+        return this.jumpTargets.get(label);
+    }
+
+    /**
+     * Replaces the instructions of this method with the given ones and assigns new addresses to
+     * them. Used by optimizations that remove instructions. Labels and jump instructions that
+     * are not part of the given instructions anymore are dropped.
+     *
+     * @param newInstructions The instructions in the order they are executed.
+     */
+    void setInstructions(List<NeoInstruction> newInstructions) {
+        Set<NeoInstruction> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+        retained.addAll(newInstructions);
+        this.jumpTargets.values().removeIf(insn -> !retained.contains(insn));
+        this.labels.keySet().removeIf(insn -> !retained.contains(insn));
+        this.jumpInstructions.removeIf(insn -> !retained.contains(insn));
+        this.tryInstructions.removeIf(insn -> !retained.contains(insn));
+        this.instructions = new ArrayList<>(newInstructions);
+        updateAddresses();
+    }
+
+    // Gets the offset from the given instruction to the instruction with the given label. Returns
+    // 0 if no label is given.
+    private int getOffset(NeoInstruction insn, Label label) {
+        if (label == null) {
+            return 0;
+        }
+        return this.jumpTargets.get(label).getAddress() - insn.getAddress();
+    }
+
+    static boolean fitsInByte(int offset) {
+        return offset >= Byte.MIN_VALUE && offset <= Byte.MAX_VALUE;
+    }
+
+    // Gets the jump opcode with a 1-byte offset that corresponds to the given jump opcode with a
+    // 4-byte offset. Returns null if the given opcode is not a wide jump opcode.
+    private static OpCode getShortJumpOpcode(OpCode opcode) {
+        switch (opcode) {
+            case JMP_L:
+                return OpCode.JMP;
+            case JMPIF_L:
+                return OpCode.JMPIF;
+            case JMPIFNOT_L:
+                return OpCode.JMPIFNOT;
+            case JMPEQ_L:
+                return OpCode.JMPEQ;
+            case JMPNE_L:
+                return OpCode.JMPNE;
+            case JMPGT_L:
+                return OpCode.JMPGT;
+            case JMPGE_L:
+                return OpCode.JMPGE;
+            case JMPLT_L:
+                return OpCode.JMPLT;
+            case JMPLE_L:
+                return OpCode.JMPLE;
+            default:
+                return null;
+        }
+    }
+
     // Updates the jump instructions with the correct target address offset.
     private void setJumpInstructionOffsets() {
         for (NeoJumpInstruction jumpInsn : this.jumpInstructions) {
@@ -671,47 +843,47 @@ public class NeoMethod {
                                 + "code line number %d.", jumpInsn.getOpcode().name(),
                         jumpInsn.getLineNr()));
             }
-            NeoInstruction destinationInsn = this.jumpTargets.get(jumpInsn.getLabel());
-            int offset = destinationInsn.getAddress() - jumpInsn.getAddress();
-            // It is assumed that the compiler makes use only of the wide (4-byte) jump opcodes. We
-            // can therefore always use 4-byte operand.
-            jumpInsn.setOperand(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-                    .putInt(offset).array());
+            int offset = getOffset(jumpInsn, jumpInsn.getLabel());
+            // The jump instruction is either a wide (4-byte) or, if shrunk by the module, a short
+            // (1-byte) jump.
+            jumpInsn.setOperand(encodeOffset(offset, jumpInsn.getOperand().length));
         }
     }
 
-    // Updates the try instructions (TRY_L) with the correct address offsets for the catch and
-    // finally blocks.
+    // Updates the try instructions (TRY_L or TRY) with the correct address offsets for the catch
+    // and finally blocks.
     private void setTryInstructionOffsets() {
         for (NeoTryInstruction tryInsn : this.tryInstructions) {
-            byte[] catchOffset = new byte[4];
-            if (tryInsn.getCatchOffsetLabel() != null) {
-                if (!this.jumpTargets.containsKey(tryInsn.getCatchOffsetLabel())) {
-                    throw new CompilerException("Missing target instruction for catch block of a "
-                            + "try block");
-                }
-                NeoInstruction destInsn = this.jumpTargets.get(tryInsn.getCatchOffsetLabel());
-                int offset = destInsn.getAddress() - tryInsn.getAddress();
-                catchOffset = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(offset)
-                        .array();
+            // The operand holds the catch and the finally offset.
+            int offsetSize = tryInsn.getOperand().length / 2;
+            if (tryInsn.getCatchOffsetLabel() != null
+                    && !this.jumpTargets.containsKey(tryInsn.getCatchOffsetLabel())) {
+                throw new CompilerException("Missing target instruction for catch block of a "
+                        + "try block");
             }
+            byte[] catchOffset = encodeOffset(getOffset(tryInsn, tryInsn.getCatchOffsetLabel()),
+                    offsetSize);
 
-            byte[] finallyOffset = new byte[4];
-            if (tryInsn.getFinallyOffsetLabel() != null) {
-                if (!this.jumpTargets.containsKey(tryInsn.getFinallyOffsetLabel())) {
-                    throw new CompilerException("Missing target instruction for finally block of a "
-                            + "try block");
-                }
-                NeoInstruction destInsn = this.jumpTargets.get(tryInsn.getFinallyOffsetLabel());
-                int offset = destInsn.getAddress() - tryInsn.getAddress();
-                finallyOffset = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(offset)
-                        .array();
+            if (tryInsn.getFinallyOffsetLabel() != null
+                    && !this.jumpTargets.containsKey(tryInsn.getFinallyOffsetLabel())) {
+                throw new CompilerException("Missing target instruction for finally block of a "
+                        + "try block");
             }
+            byte[] finallyOffset = encodeOffset(
+                    getOffset(tryInsn, tryInsn.getFinallyOffsetLabel()), offsetSize);
 
             tryInsn.setOperand(ArrayUtils.concatenate(catchOffset, finallyOffset));
         }
     }
 
+    // Encodes the given offset as a 1-byte or 4-byte little-endian operand.
+    static byte[] encodeOffset(int offset, int size) {
+        if (size == 1) {
+            return new byte[]{(byte) offset};
+        }
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(offset).array();
+    }
+
     public void initialize(CompilationUnit compUnit) {
         if ((asmMethod.access & Opcodes.ACC_PUBLIC) > 0
                 && (asmMethod.access & Opcodes.ACC_STATIC) > 0
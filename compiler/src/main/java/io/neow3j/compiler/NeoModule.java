@@ -8,15 +8,16 @@ import io.neow3j.devpack.annotations.MethodSignature;
 import io.neow3j.devpack.annotations.OnDeployment;
 import io.neow3j.devpack.annotations.OnVerification;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class NeoModule {
 
@@ -109,39 +110,110 @@ public class NeoModule {
         events.put(event.getDisplayName(), event);
     }
 
+    /**
+     * Removes the methods that cannot be invoked, i.e., methods that are not in the ABI and that
+     * are not called by any ABI method, directly or indirectly.
+     *
+     * @return the removed methods.
+     */
+    List<NeoMethod> removeUnusedMethods() {
+        Set<NeoMethod> used = new HashSet<>();
+        Deque<NeoMethod> toVisit = new ArrayDeque<>();
+        sortedMethods.stream().filter(NeoMethod::isAbiMethod).forEach(toVisit::add);
+        while (!toVisit.isEmpty()) {
+            NeoMethod method = toVisit.pop();
+            if (!used.add(method)) {
+                continue;
+            }
+            for (NeoInstruction insn : method.getInstructions()) {
+                if (isCall(insn) && insn.getExtra() instanceof NeoMethod) {
+                    toVisit.push((NeoMethod) insn.getExtra());
+                }
+            }
+        }
+        List<NeoMethod> unused = sortedMethods.stream()
+                .filter(m -> !used.contains(m))
+                .collect(Collectors.toList());
+        sortedMethods.removeAll(unused);
+        unused.forEach(m -> methods.remove(m.getId()));
+        return unused;
+    }
+
     void finalizeModule() {
         checkForDuplicatesOfMethodSignatureAnnotations();
-        int startAddress = 0;
+        // The compiler emits the wide (4-byte offset) forms of jumps, calls and try instructions.
+        // Replace them with their short (1-byte offset) forms wherever the offsets fit. Shrinking
+        // instructions shifts the addresses of the following instructions, which might allow
+        // shrinking further instructions. Thus, repeat until no more instruction can be shrunk.
+        // Because shrinking only ever brings instructions closer together, a shrunk instruction
+        // never has to be widened again.
+        setMethodStartAddresses();
+        boolean shrunk;
+        do {
+            shrunk = false;
+            for (NeoMethod method : this.sortedMethods) {
+                shrunk |= method.shrinkJumpInstructions();
+                shrunk |= shrinkCallInstructions(method);
+            }
+            if (shrunk) {
+                this.sortedMethods.forEach(NeoMethod::updateAddresses);
+                setMethodStartAddresses();
+            }
+        } while (shrunk);
+
         for (NeoMethod method : this.sortedMethods) {
             method.finalizeMethod();
-            method.setStartAddress(startAddress);
-            // At this point, the `nextAddress` should be set to one byte after the last
-            // instruction byte of a method. So we can simply add this number to the current
-            // start address and get the start address of the next method.
-            startAddress += method.getLastAddress();
         }
         for (NeoMethod method : sortedMethods) {
-            for (Entry<Integer, NeoInstruction> entry : method.getInstructions().entrySet()) {
-                NeoInstruction insn = entry.getValue();
-                // Currently we're only using OpCode.CALL_L. Using CALL instead of CALL_L might
-                // lead to some savings in script size but will also require shifting
-                // addresses of all following instructions.
-                if (insn.getOpcode().equals(OpCode.CALL_L)) {
-                    if (!(insn.getExtra() instanceof NeoMethod)) {
-                        throw new CompilerException(format("Instruction with %s opcode is "
-                                + "missing the reference to the called method. The jump address "
-                                + "cannot be resolved.", OpCode.CALL_L.name()));
-                    }
-                    NeoMethod calledMethod = (NeoMethod) insn.getExtra();
-                    int offset = calledMethod.getStartAddress()
-                            - (method.getStartAddress() + entry.getKey());
-                    insn.setOperand(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-                            .putInt(offset).array());
+            for (NeoInstruction insn : method.getInstructions()) {
+                if (isCall(insn)) {
+                    int offset = getCallOffset(method, insn);
+                    insn.setOperand(NeoMethod.encodeOffset(offset, insn.getOperand().length));
                 }
             }
         }
     }
 
+    private void setMethodStartAddresses() {
+        int startAddress = 0;
+        for (NeoMethod method : this.sortedMethods) {
+            method.setStartAddress(startAddress);
+            // The `lastAddress` is set to one byte after the last instruction byte of a method.
+            // So we can simply add this number to the current start address and get the start
+            // address of the next method.
+            startAddress += method.getLastAddress();
+        }
+    }
+
+    // Replaces the CALL_L instructions of the given method with CALL if the offset to the called
+    // method fits into one byte.
+    private boolean shrinkCallInstructions(NeoMethod method) {
+        boolean shrunk = false;
+        for (NeoInstruction insn : method.getInstructions()) {
+            if (insn.getOpcode() == OpCode.CALL_L
+                    && NeoMethod.fitsInByte(getCallOffset(method, insn))) {
+                insn.setOpcode(OpCode.CALL);
+                insn.setOperand(new byte[1]);
+                shrunk = true;
+            }
+        }
+        return shrunk;
+    }
+
+    private static boolean isCall(NeoInstruction insn) {
+        return insn.getOpcode() == OpCode.CALL_L || insn.getOpcode() == OpCode.CALL;
+    }
+
+    private static int getCallOffset(NeoMethod method, NeoInstruction insn) {
+        if (!(insn.getExtra() instanceof NeoMethod)) {
+            throw new CompilerException(format("Instruction with %s opcode is missing the "
+                    + "reference to the called method. The jump address cannot be resolved.",
+                    insn.getOpcode().name()));
+        }
+        NeoMethod calledMethod = (NeoMethod) insn.getExtra();
+        return calledMethod.getStartAddress() - (method.getStartAddress() + insn.getAddress());
+    }
+
     private void checkForDuplicatesOfMethodSignatureAnnotations() {
         Set<MethodSignature> methodSigs = new HashSet<>();
         sortedMethods.stream().map(NeoMethod::getMethodSignatureAnnotation)
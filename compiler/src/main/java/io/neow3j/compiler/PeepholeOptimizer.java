@@ -0,0 +1,628 @@
+package io.neow3j.compiler;
+
+import io.neow3j.constants.OpCode;
+import io.neow3j.model.types.StackItemType;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.BigIntegers;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Removes redundant instruction sequences from the instructions of a {@link NeoMethod} and folds
+ * operations on constants.
+ * <p>
+ * The converters translate the JVM instructions one at a time, which produces sequences like a
+ * push that is immediately dropped or a jump to the next instruction. The optimizer looks at a
+ * small window of consecutive instructions and rewrites such sequences. Instructions that are
+ * the target of a jump or try instruction are never removed.
+ * <p>
+ * Besides the rewrites of instruction sequences, the optimizer can remove methods that are
+ * never called (see {@link PeepholeOptimizer#optimize(CompilationUnit)}).
+ * <p>
+ * The optimizer must run before the method is finalized, i.e., before the jump offsets are set.
+ * Methods that contain jumps with fixed offsets, e.g., added with the {@code Instruction}
+ * annotation, are not optimized because removing instructions would break these offsets.
+ * <p>
+ * An optimizer only holds its rules. Thus, compilers running in parallel can share it.
+ */
+public class PeepholeOptimizer {
+
+    /**
+     * The rewrites that the optimizer can apply.
+     */
+    public enum Rule {
+
+        /**
+         * Removes a push that is immediately dropped again, e.g., {@code PUSH1 DROP} or {@code
+         * LDLOC0 DROP}.
+         */
+        PUSH_DROP,
+
+        /**
+         * Removes two consecutive {@code NOT}s if the negated value is a boolean or is used as
+         * the condition of a jump.
+         */
+        DOUBLE_NOT,
+
+        /**
+         * Replaces a {@code NOT} followed by a conditional jump with the inverted jump, e.g.,
+         * {@code NOT JMPIF} with {@code JMPIFNOT}.
+         */
+        NEGATED_JUMP,
+
+        /**
+         * Removes unconditional jumps to the instruction that follows the jump.
+         */
+        JUMP_TO_NEXT,
+
+        /**
+         * Replaces integer pushes with the shortest instruction that pushes the same integer,
+         * e.g., {@code PUSHINT8 05} with {@code PUSH5}.
+         */
+        SHORT_INTEGER_PUSH,
+
+        /**
+         * Removes a store to a local variable or parameter that is immediately loaded again if
+         * the method doesn't load that variable anywhere else, e.g., {@code STLOC0 LDLOC0}.
+         */
+        STORE_LOAD,
+
+        /**
+         * Replaces operations on constant integers with the push of their result, e.g., {@code
+         * PUSH2 PUSH3 ADD} with {@code PUSH5}, and concatenations of constant strings or byte
+         * arrays with the push of the concatenated data.
+         */
+        CONSTANT_FOLDING,
+
+        /**
+         * Removes instructions that follow an unconditional jump, a {@code RET}, a {@code THROW}
+         * or an {@code ABORT} and that are not the target of any jump.
+         */
+        UNREACHABLE_CODE,
+
+        /**
+         * Removes methods that are neither part of the contract's ABI nor called by any other
+         * remaining method.
+         */
+        UNUSED_METHODS
+
+    }
+
+    // NeoVM integers can take at most 32 bytes.
+    private static final int MAX_INTEGER_SIZE = 32;
+
+    private final Set<Rule> rules;
+
+    /**
+     * Constructs an optimizer that applies all rules.
+     */
+    public PeepholeOptimizer() {
+        this(EnumSet.allOf(Rule.class));
+    }
+
+    /**
+     * Constructs an optimizer that applies the given rules. Pass an empty set to disable the
+     * optimizer.
+     *
+     * @param rules The rules to apply.
+     */
+    public PeepholeOptimizer(Set<Rule> rules) {
+        this.rules = EnumSet.noneOf(Rule.class);
+        this.rules.addAll(rules);
+    }
+
+    /**
+     * Gets the rules that this optimizer applies.
+     *
+     * @return the rules.
+     */
+    public Set<Rule> getRules() {
+        return Collections.unmodifiableSet(rules);
+    }
+
+    /**
+     * Optimizes the methods of the given compilation unit and records the saved bytes on it.
+     * <p>
+     * The instructions of every method are optimized first because removing unreachable code
+     * might remove the last call to a method. Then, unused methods are removed from the module.
+     * <p>
+     * The methods are optimized in parallel because the rules only look at the instructions of
+     * one method.
+     *
+     * @param compUnit The compilation unit.
+     */
+    public void optimize(CompilationUnit compUnit) {
+        NeoModule module = compUnit.getNeoModule();
+        List<NeoMethod> methods = module.getSortedMethods();
+        List<Integer> savings = methods.parallelStream()
+                .map(this::optimize)
+                .collect(Collectors.toList());
+        for (int i = 0; i < methods.size(); i++) {
+            compUnit.addPeepholeSavings(methods.get(i).getId(), savings.get(i));
+        }
+        if (rules.contains(Rule.UNUSED_METHODS)) {
+            for (NeoMethod method : module.removeUnusedMethods()) {
+                compUnit.addPeepholeSavings(method.getId(), method.getLastAddress());
+            }
+        }
+    }
+
+    /**
+     * Optimizes the instructions of the given method.
+     *
+     * @param method The method to optimize.
+     * @return the number of bytes that the method's instructions shrunk by.
+     */
+    public int optimize(NeoMethod method) {
+        if (rules.isEmpty() || hasFixedOffsets(method)) {
+            return 0;
+        }
+        int sizeBefore = method.getLastAddress();
+        List<NeoInstruction> insns = new ArrayList<>(method.getInstructions());
+        Window window = new Window(method, insns);
+        int i = 0;
+        while (i < insns.size()) {
+            if (applyRules(window, i)) {
+                // The rewrite might have formed a new sequence with the preceding instruction.
+                i = Math.max(i - 1, 0);
+            } else {
+                i++;
+            }
+        }
+        method.setInstructions(insns);
+        return sizeBefore - method.getLastAddress();
+    }
+
+    // Applies the first rule that matches the instructions starting at the given index. Every
+    // rewrite removes instructions or shrinks an instruction. Thus, applying the rules
+    // repeatedly terminates.
+    private boolean applyRules(Window w, int i) {
+        return rules.contains(Rule.SHORT_INTEGER_PUSH) && shortenIntegerPush(w, i)
+                || rules.contains(Rule.PUSH_DROP) && removePushDrop(w, i)
+                || rules.contains(Rule.DOUBLE_NOT) && removeDoubleNot(w, i)
+                || rules.contains(Rule.NEGATED_JUMP) && invertNegatedJump(w, i)
+                || rules.contains(Rule.JUMP_TO_NEXT) && removeJumpToNext(w, i)
+                || rules.contains(Rule.STORE_LOAD) && removeStoreLoad(w, i)
+                || rules.contains(Rule.CONSTANT_FOLDING) && foldConstants(w, i)
+                || rules.contains(Rule.UNREACHABLE_CODE) && removeUnreachableCode(w, i);
+    }
+
+    // Checks if the given method contains an instruction that jumps to a fixed offset instead of
+    // a label or a method.
+    private static boolean hasFixedOffsets(NeoMethod method) {
+        for (NeoInstruction insn : method.getInstructions()) {
+            boolean labeledJump = insn instanceof NeoJumpInstruction
+                    && ((NeoJumpInstruction) insn).getLabel() != null;
+            if (labeledJump || insn instanceof NeoTryInstruction) {
+                continue;
+            }
+            OpCode opcode = insn.getOpcode();
+            if (opcode == OpCode.CALL || opcode == OpCode.CALL_L) {
+                if (!(insn.getExtra() instanceof NeoMethod)) {
+                    return true;
+                }
+            } else if (isInRange(opcode, OpCode.JMP, OpCode.JMPLE_L) || opcode == OpCode.PUSHA
+                    || isInRange(opcode, OpCode.TRY, OpCode.ENDTRY_L)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean shortenIntegerPush(Window w, int i) {
+        NeoInstruction insn = w.get(i);
+        if (!isInRange(insn.getOpcode(), OpCode.PUSHINT8, OpCode.PUSHINT256)) {
+            return false;
+        }
+        NeoInstruction shortest = Compiler.buildPushNumberInstruction(
+                BigIntegers.fromLittleEndianByteArray(insn.getOperand()));
+        if (shortest.byteSize() >= insn.byteSize()) {
+            return false;
+        }
+        // The instruction is changed in place because it might be a jump target.
+        insn.setOpcode(shortest.getOpcode());
+        insn.setOperand(shortest.getOperand());
+        return true;
+    }
+
+    private boolean removePushDrop(Window w, int i) {
+        if (!w.isRemovable(i, 2) || !isPush(w.get(i).getOpcode())
+                || w.get(i + 1).getOpcode() != OpCode.DROP) {
+            return false;
+        }
+        w.remove(i, 2);
+        return true;
+    }
+
+    private boolean removeDoubleNot(Window w, int i) {
+        if (!w.isRemovable(i, 2) || w.get(i).getOpcode() != OpCode.NOT
+                || w.get(i + 1).getOpcode() != OpCode.NOT) {
+            return false;
+        }
+        // NOT converts its operand to a boolean. Thus, the two NOTs are only redundant if the
+        // operand already is a boolean or if a jump converts it to a boolean anyway.
+        boolean booleanOperand = i > 0 && producesBoolean(w.get(i - 1).getOpcode());
+        boolean conditionalJump = i + 2 < w.size()
+                && isConditionalJump(w.get(i + 2).getOpcode());
+        if (!booleanOperand && !conditionalJump) {
+            return false;
+        }
+        w.remove(i, 2);
+        return true;
+    }
+
+    private boolean invertNegatedJump(Window w, int i) {
+        if (!w.isRemovable(i, 2) || w.get(i).getOpcode() != OpCode.NOT
+                || !isConditionalJump(w.get(i + 1).getOpcode())) {
+            return false;
+        }
+        NeoInstruction jump = w.get(i + 1);
+        jump.setOpcode(getInvertedJumpOpcode(jump.getOpcode()));
+        w.remove(i, 1);
+        return true;
+    }
+
+    private boolean removeJumpToNext(Window w, int i) {
+        if (!w.isRemovable(i, 1) || i + 1 >= w.size()
+                || !(w.get(i) instanceof NeoJumpInstruction)) {
+            return false;
+        }
+        NeoJumpInstruction jump = (NeoJumpInstruction) w.get(i);
+        if (jump.getOpcode() != OpCode.JMP_L && jump.getOpcode() != OpCode.JMP
+                || jump.getLabel() == null
+                || w.method.getJumpTarget(jump.getLabel()) != w.get(i + 1)) {
+            return false;
+        }
+        w.remove(i, 1);
+        return true;
+    }
+
+    private boolean removeStoreLoad(Window w, int i) {
+        if (!w.isRemovable(i, 2)) {
+            return false;
+        }
+        OpCode store = w.get(i).getOpcode();
+        OpCode load = w.get(i + 1).getOpcode();
+        boolean localVariable = isInRange(store, OpCode.STLOC0, OpCode.STLOC)
+                && isInRange(load, OpCode.LDLOC0, OpCode.LDLOC);
+        boolean parameter = isInRange(store, OpCode.STARG0, OpCode.STARG)
+                && isInRange(load, OpCode.LDARG0, OpCode.LDARG);
+        if (!localVariable && !parameter) {
+            return false;
+        }
+        int index = getSlotIndex(w.get(i + 1));
+        if (getSlotIndex(w.get(i)) != index
+                || (localVariable ? w.variableLoads[index] : w.parameterLoads[index]) != 1) {
+            return false;
+        }
+        // The variable is never read again. Remaining stores to it elsewhere are harmless.
+        w.remove(i, 2);
+        return true;
+    }
+
+    private boolean foldConstants(Window w, int i) {
+        NeoInstruction first = w.get(i);
+        NeoInstruction folded = null;
+        int removed = 0;
+        if (w.isRemovable(i + 1, 2)) {
+            folded = foldBinaryOperation(w, i);
+            removed = 2;
+        }
+        if (folded == null && w.isRemovable(i + 1, 1)) {
+            folded = foldUnaryOperation(first, w.get(i + 1));
+            removed = 1;
+        }
+        if (folded == null) {
+            return false;
+        }
+        // The first instruction is changed in place because it might be a jump target. Jumping
+        // to it still has the same effect.
+        first.setOpcode(folded.getOpcode());
+        first.setOperand(folded.getOperandPrefix(), folded.getOperand());
+        w.remove(i + 1, removed);
+        return true;
+    }
+
+    // Folds the binary operation at index i + 2 on the operands pushed at the indices i and i + 1.
+    private static NeoInstruction foldBinaryOperation(Window w, int i) {
+        NeoInstruction a = w.get(i);
+        NeoInstruction b = w.get(i + 1);
+        NeoInstruction operation = w.get(i + 2);
+        if (operation.getOpcode() == OpCode.CAT && isPushData(a.getOpcode())
+                && isPushData(b.getOpcode())) {
+            // CAT produces a buffer but PUSHDATA a byte string. Only fold if the result is
+            // concatenated further or converted to a byte string anyway.
+            int next = i + 3;
+            if (next < w.size() && (w.get(next).getOpcode() == OpCode.CAT
+                    || isConvertToByteString(w.get(next)))) {
+                return Compiler.buildPushDataInsn(
+                        ArrayUtils.concatenate(a.getOperand(), b.getOperand()));
+            }
+            return null;
+        }
+        BigInteger x = getPushedInteger(a);
+        BigInteger y = getPushedInteger(b);
+        if (x == null || y == null) {
+            return null;
+        }
+        BigInteger result;
+        switch (operation.getOpcode()) {
+            case ADD:
+                result = x.add(y);
+                break;
+            case SUB:
+                result = x.subtract(y);
+                break;
+            case MUL:
+                result = x.multiply(y);
+                break;
+            case DIV:
+                // Division by zero faults at runtime. Keep the instructions in that case.
+                result = y.signum() == 0 ? null : x.divide(y);
+                break;
+            case MOD:
+                result = y.signum() == 0 ? null : x.remainder(y);
+                break;
+            case AND:
+                result = x.and(y);
+                break;
+            case OR:
+                result = x.or(y);
+                break;
+            case XOR:
+                result = x.xor(y);
+                break;
+            case MIN:
+                result = x.min(y);
+                break;
+            case MAX:
+                result = x.max(y);
+                break;
+            default:
+                result = null;
+        }
+        return buildPushInteger(result);
+    }
+
+    private static NeoInstruction foldUnaryOperation(NeoInstruction a,
+            NeoInstruction operation) {
+
+        if (isPushData(a.getOpcode()) && isConvertToByteString(operation)) {
+            // PUSHDATA already pushes a byte string.
+            return a;
+        }
+        BigInteger x = getPushedInteger(a);
+        if (x == null) {
+            return null;
+        }
+        switch (operation.getOpcode()) {
+            case NEGATE:
+                return buildPushInteger(x.negate());
+            case INC:
+                return buildPushInteger(x.add(BigInteger.ONE));
+            case DEC:
+                return buildPushInteger(x.subtract(BigInteger.ONE));
+            case ABS:
+                return buildPushInteger(x.abs());
+            case SIGN:
+                return buildPushInteger(BigInteger.valueOf(x.signum()));
+            case INVERT:
+                return buildPushInteger(x.not());
+            default:
+                return null;
+        }
+    }
+
+    // Gets the integer pushed by the given instruction. Returns null if it doesn't push a
+    // constant integer.
+    private static BigInteger getPushedInteger(NeoInstruction insn) {
+        OpCode opcode = insn.getOpcode();
+        if (isInRange(opcode, OpCode.PUSHINT8, OpCode.PUSHINT256)) {
+            return BigIntegers.fromLittleEndianByteArray(insn.getOperand());
+        }
+        if (isInRange(opcode, OpCode.PUSHM1, OpCode.PUSH16)) {
+            return BigInteger.valueOf(opcode.getCode() - OpCode.PUSH0.getCode());
+        }
+        return null;
+    }
+
+    // Builds the push of the given integer. Returns null if no integer is given or if the
+    // integer exceeds the size of NeoVM integers, in which case the operation faults at runtime.
+    private static NeoInstruction buildPushInteger(BigInteger value) {
+        if (value == null
+                || BigIntegers.toLittleEndianByteArray(value).length > MAX_INTEGER_SIZE) {
+            return null;
+        }
+        return Compiler.buildPushNumberInstruction(value);
+    }
+
+    private static boolean isPushData(OpCode opcode) {
+        return isInRange(opcode, OpCode.PUSHDATA1, OpCode.PUSHDATA4);
+    }
+
+    private static boolean isConvertToByteString(NeoInstruction insn) {
+        return insn.getOpcode() == OpCode.CONVERT
+                && insn.getOperand()[0] == StackItemType.BYTE_STRING.byteValue();
+    }
+
+    private boolean removeUnreachableCode(Window w, int i) {
+        if (!endsControlFlow(w.get(i))) {
+            return false;
+        }
+        // Only a jump can reach the instructions after the given one.
+        int end = i + 1;
+        while (end < w.size() && w.isRemovable(end, 1)) {
+            end++;
+        }
+        if (end == i + 1) {
+            return false;
+        }
+        w.removeUnreachable(i + 1, end - i - 1);
+        return true;
+    }
+
+    private static boolean endsControlFlow(NeoInstruction insn) {
+        switch (insn.getOpcode()) {
+            case RET:
+            case THROW:
+            case ABORT:
+                return true;
+            case JMP:
+            case JMP_L:
+                return insn instanceof NeoJumpInstruction;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isPush(OpCode opcode) {
+        return isInRange(opcode, OpCode.PUSHINT8, OpCode.PUSHINT256)
+                || isInRange(opcode, OpCode.PUSHNULL, OpCode.PUSH16)
+                || opcode == OpCode.DUP
+                || isInRange(opcode, OpCode.LDSFLD0, OpCode.LDSFLD)
+                || isInRange(opcode, OpCode.LDLOC0, OpCode.LDLOC)
+                || isInRange(opcode, OpCode.LDARG0, OpCode.LDARG);
+    }
+
+    private static boolean producesBoolean(OpCode opcode) {
+        switch (opcode) {
+            case NOT:
+            case BOOLAND:
+            case BOOLOR:
+            case NZ:
+            case EQUAL:
+            case NOTEQUAL:
+            case NUMEQUAL:
+            case NUMNOTEQUAL:
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+            case WITHIN:
+            case ISNULL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isConditionalJump(OpCode opcode) {
+        return getInvertedJumpOpcode(opcode) != null;
+    }
+
+    private static OpCode getInvertedJumpOpcode(OpCode opcode) {
+        switch (opcode) {
+            case JMPIF:
+                return OpCode.JMPIFNOT;
+            case JMPIF_L:
+                return OpCode.JMPIFNOT_L;
+            case JMPIFNOT:
+                return OpCode.JMPIF;
+            case JMPIFNOT_L:
+                return OpCode.JMPIF_L;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isInRange(OpCode opcode, OpCode first, OpCode last) {
+        return opcode.getCode() >= first.getCode() && opcode.getCode() <= last.getCode();
+    }
+
+    // Gets the index of the slot that the given load or store instruction accesses. The
+    // instructions for the indices 0 to 6 directly precede the instruction taking the index as
+    // operand, e.g., LDLOC0 to LDLOC6 precede LDLOC.
+    private static int getSlotIndex(NeoInstruction insn) {
+        if (insn.getOperand().length == 1) {
+            return insn.getOperand()[0] & 0xff;
+        }
+        OpCode opcode = insn.getOpcode();
+        if (isInRange(opcode, OpCode.LDLOC0, OpCode.LDLOC)) {
+            return opcode.getCode() - OpCode.LDLOC0.getCode();
+        }
+        if (isInRange(opcode, OpCode.STLOC0, OpCode.STLOC)) {
+            return opcode.getCode() - OpCode.STLOC0.getCode();
+        }
+        if (isInRange(opcode, OpCode.LDARG0, OpCode.LDARG)) {
+            return opcode.getCode() - OpCode.LDARG0.getCode();
+        }
+        return opcode.getCode() - OpCode.STARG0.getCode();
+    }
+
+    // The instructions of the method that is optimized and the information about them that the
+    // rules need.
+    private static class Window {
+
+        private final NeoMethod method;
+        private final List<NeoInstruction> insns;
+        private final Set<NeoInstruction> jumpTargets;
+        // The number of instructions loading a local variable or parameter, by slot index.
+        // Removing loads only decreases the numbers. Thus, they are not updated.
+        private final int[] variableLoads = new int[256];
+        private final int[] parameterLoads = new int[256];
+
+        private Window(NeoMethod method, List<NeoInstruction> insns) {
+            this.method = method;
+            this.insns = insns;
+            this.jumpTargets = method.getReferencedJumpTargets();
+            for (NeoInstruction insn : insns) {
+                if (isInRange(insn.getOpcode(), OpCode.LDLOC0, OpCode.LDLOC)) {
+                    variableLoads[getSlotIndex(insn)]++;
+                } else if (isInRange(insn.getOpcode(), OpCode.LDARG0, OpCode.LDARG)) {
+                    parameterLoads[getSlotIndex(insn)]++;
+                }
+            }
+        }
+
+        private NeoInstruction get(int i) {
+            return insns.get(i);
+        }
+
+        private int size() {
+            return insns.size();
+        }
+
+        // Checks if the given number of instructions starting at the given index exist and none
+        // of them is the target of a jump. Jumping into the middle of a rewritten sequence would
+        // change the behavior.
+        private boolean isRemovable(int from, int count) {
+            if (from + count > insns.size()) {
+                return false;
+            }
+            for (int i = from; i < from + count; i++) {
+                if (jumpTargets.contains(insns.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Removes the given number of instructions starting at the given index. A source code
+        // line number set on a removed instruction is moved to the following instruction.
+        private void remove(int from, int count) {
+            Integer lineNr = null;
+            for (int i = 0; i < count; i++) {
+                NeoInstruction removed = insns.remove(from);
+                if (lineNr == null) {
+                    lineNr = removed.getLineNr();
+                }
+            }
+            if (lineNr != null && from < insns.size() && insns.get(from).getLineNr() == null) {
+                insns.get(from).setLineNr(lineNr);
+            }
+        }
+
+        // Removes the given number of unreachable instructions starting at the given index.
+        // Their line numbers are dropped because no code of those lines is executed.
+        private void removeUnreachable(int from, int count) {
+            insns.subList(from, from + count).clear();
+        }
+
+    }
+
+}
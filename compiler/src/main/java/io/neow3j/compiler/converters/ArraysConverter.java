@@ -1,6 +1,5 @@
 package io.neow3j.compiler.converters;
 
-import static io.neow3j.compiler.AsmHelper.getAsmClassForInternalName;
 import static io.neow3j.compiler.Compiler.addPushNumber;
 import static io.neow3j.compiler.Compiler.buildPushDataInsn;
 import static io.neow3j.compiler.AsmHelper.getFieldIndex;
@@ -194,8 +193,7 @@ public class ArraysConverter implements Converter {
         // an index on top that is used by PICKITEM. We get this index from the class to which the
         // field belongs to.
         FieldInsnNode fieldInsn = (FieldInsnNode) insn;
-        ClassNode classNode = getAsmClassForInternalName(fieldInsn.owner,
-                compUnit.getClassLoader());
+        ClassNode classNode = compUnit.getClassNodeCache().getClassNode(fieldInsn.owner);
         int idx = getFieldIndex(fieldInsn, classNode);
         addPushNumber(idx, neoMethod);
         neoMethod.addInstruction(new NeoInstruction(OpCode.PICKITEM));
@@ -1,6 +1,5 @@
 package io.neow3j.compiler.converters;
 
-import static io.neow3j.compiler.AsmHelper.getAsmClassForInternalName;
 import static io.neow3j.compiler.AsmHelper.getMethodNode;
 import static io.neow3j.compiler.AsmHelper.hasAnnotations;
 import static io.neow3j.compiler.Compiler.addInstructionsFromAnnotation;
@@ -113,8 +112,7 @@ public class MethodsConverter implements Converter {
             NeoMethod callingNeoMethod, CompilationUnit compUnit) throws IOException {
 
         MethodInsnNode methodInsn = (MethodInsnNode) insn;
-        ClassNode ownerClass = getAsmClassForInternalName(methodInsn.owner,
-                compUnit.getClassLoader());
+        ClassNode ownerClass = compUnit.getClassNodeCache().getClassNode(methodInsn.owner);
         Optional<MethodNode> calledAsmMethod = getMethodNode(methodInsn, ownerClass);
         // If the called method cannot be found on the owner type, we look through the super types
         // until we find the method.
@@ -125,8 +123,7 @@ public class MethodsConverter implements Converter {
                                 + "on its owner class %s and its super classes.", methodInsn.name,
                         getFullyQualifiedNameForInternalName(ownerClass.name)));
             }
-            ownerClass = getAsmClassForInternalName(ownerClass.superName,
-                    compUnit.getClassLoader());
+            ownerClass = compUnit.getClassNodeCache().getClassNode(ownerClass.superName);
             calledAsmMethod = getMethodNode(methodInsn, ownerClass);
         }
         if (hasSyscallAnnotation(calledAsmMethod.get())) {
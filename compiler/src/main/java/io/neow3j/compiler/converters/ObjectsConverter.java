@@ -1,6 +1,5 @@
 package io.neow3j.compiler.converters;
 
-import static io.neow3j.compiler.AsmHelper.getAsmClassForInternalName;
 import static io.neow3j.compiler.AsmHelper.getFieldIndex;
 import static io.neow3j.compiler.AsmHelper.getInternalNameForDescriptor;
 import static io.neow3j.compiler.AsmHelper.getMethodNode;
@@ -20,7 +19,6 @@ import static io.neow3j.utils.ClassUtils.getFullyQualifiedNameForInternalName;
 import static java.lang.String.format;
 import static org.objectweb.asm.Type.getInternalName;
 
-import io.neow3j.compiler.AsmHelper;
 import io.neow3j.compiler.CompilationUnit;
 import io.neow3j.compiler.CompilerException;
 import io.neow3j.compiler.JVMOpcode;
@@ -112,7 +110,7 @@ public class ObjectsConverter implements Converter {
             return handleNewThrowable(typeInsn, callingNeoMethod, compUnit);
         }
 
-        ClassNode owner = getAsmClassForInternalName(typeInsn.desc, compUnit.getClassLoader());
+        ClassNode owner = compUnit.getClassNodeCache().getClassNode(typeInsn.desc);
         MethodInsnNode ctorMethodInsn = skipToCtorMethodInstruction(typeInsn.getNext(), owner,
                 callingNeoMethod);
         MethodNode ctorMethod = getMethodNode(ctorMethodInsn, owner).orElseThrow(() ->
@@ -151,15 +149,14 @@ public class ObjectsConverter implements Converter {
     private static boolean isNewThrowable(TypeInsnNode typeInsn,
             CompilationUnit compUnit) throws IOException {
 
-        ClassNode type = AsmHelper.getAsmClassForInternalName(typeInsn.desc,
-                compUnit.getClassLoader());
+        ClassNode type = compUnit.getClassNodeCache().getClassNode(typeInsn.desc);
 
         if (getFullyQualifiedNameForInternalName(type.name).equals(
                 Throwable.class.getCanonicalName())) {
             return true;
         }
         while (type.superName != null) {
-            type = getAsmClassForInternalName(type.superName, compUnit.getClassLoader());
+            type = compUnit.getClassNodeCache().getClassNode(type.superName);
             if (getFullyQualifiedNameForInternalName(type.name).equals(
                     Throwable.class.getCanonicalName())) {
                 return true;
@@ -0,0 +1,131 @@
+package io.neow3j.compiler;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptReader;
+import io.neow3j.protocol.core.methods.response.ContractManifest.ContractABI.ContractMethod;
+import io.neow3j.protocol.core.methods.response.StackItem;
+import io.neow3j.vm.ExecutionEngine;
+import io.neow3j.vm.VMState;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BranchRelaxationTest {
+
+    private static CompilationUnit unit;
+    private static CompilationUnit distantUnit;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        unit = new Compiler().compileClass(BranchRelaxationContract.class.getName());
+        distantUnit = new Compiler().compileClass(DistantBranchContract.class.getName());
+    }
+
+    @Test
+    public void useShortFormsForCloseTargets() {
+        String opcodes = ScriptReader.convertToOpCodeString(unit.getNefFile().getScript());
+
+        assertThat(opcodes, not(containsString("CALL_L")));
+        assertThat(opcodes, not(containsString("TRY_L")));
+        assertThat(opcodes, not(containsString("JMPGT_L")));
+        assertThat(opcodes, containsString("CALL "));
+        assertThat(opcodes, containsString("TRY "));
+        assertThat(opcodes, containsString("JMPGT "));
+    }
+
+    @Test
+    public void keepWideFormForDistantTarget() {
+        String opcodes = ScriptReader.convertToOpCodeString(
+                distantUnit.getNefFile().getScript());
+
+        assertThat(opcodes, containsString("JMPNE_L"));
+    }
+
+    @Test
+    public void executeLoop() throws IOException {
+        assertThat(execute("sumUpToTen"), is(BigInteger.valueOf(55)));
+    }
+
+    @Test
+    public void executeMethodCalls() throws IOException {
+        assertThat(execute("callHelperTwice"), is(BigInteger.valueOf(14)));
+    }
+
+    @Test
+    public void executeTryCatch() throws IOException {
+        assertThat(execute("catchException"), is(BigInteger.valueOf(3)));
+    }
+
+    @Test
+    public void executeDistantBranch() throws IOException {
+        assertThat(execute(distantUnit, "skipLongBlock"), is(BigInteger.valueOf(4)));
+    }
+
+    private BigInteger execute(String method) throws IOException {
+        return execute(unit, method);
+    }
+
+    private BigInteger execute(CompilationUnit unit, String method) throws IOException {
+        List<ContractMethod> methods = unit.getManifest().getAbi().getMethods();
+        int offset = methods.stream().filter(m -> m.getName().equals(method)).findFirst().get()
+                .getOffset();
+        ExecutionEngine engine = new ExecutionEngine();
+        engine.loadScript(unit.getNefFile().getScript(), offset);
+        assertThat(engine.execute(), is(VMState.HALT));
+        StackItem result = engine.getResultStack().get(0);
+        return result.asInteger().getValue();
+    }
+
+    static class BranchRelaxationContract {
+
+        public static int sumUpToTen() {
+            int sum = 0;
+            for (int i = 1; i <= 10; i++) {
+                sum += i;
+            }
+            return sum;
+        }
+
+        public static int callHelperTwice() {
+            return helper() + helper();
+        }
+
+        public static int catchException() {
+            try {
+                throw new Exception("Not thrown far.");
+            } catch (Exception e) {
+                return 3;
+            }
+        }
+
+        private static int helper() {
+            return 7;
+        }
+
+    }
+
+    static class DistantBranchContract {
+
+        public static int skipLongBlock() {
+            int x = 1;
+            if (x == 2) {
+                // Together, the literals are longer than the maximum offset of a short jump.
+                String s1 = "The literals in this block are long enough to require a jump";
+                String s2 = "with a 4-byte offset for skipping them. The one before the jump";
+                String s3 = "cannot be replaced with its short form, which has a 1-byte offset.";
+                return 5;
+            }
+            return 4;
+        }
+
+    }
+
+}
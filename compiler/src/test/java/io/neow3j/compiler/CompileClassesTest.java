@@ -0,0 +1,142 @@
+package io.neow3j.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.devpack.Helper;
+import io.neow3j.devpack.Storage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.StringContains;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.objectweb.asm.Type;
+
+public class CompileClassesTest {
+
+    private static final List<String> CONTRACTS = asList(
+            SignedByteContract.class.getName(),
+            LoopContract.class.getName(),
+            StorageContract.class.getName());
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void compileClassesLikeSeparateCompilations() throws IOException {
+        Map<String, CompilationUnit> units = new Compiler().compileClasses(CONTRACTS);
+
+        assertThat(units.keySet(), contains(CONTRACTS.toArray()));
+        for (String className : CONTRACTS) {
+            CompilationUnit separateUnit = new Compiler().compileClass(className);
+            assertThat(units.get(className).getNefFile().getScript(),
+                    is(separateUnit.getNefFile().getScript()));
+            assertThat(units.get(className).getManifest(), is(separateUnit.getManifest()));
+        }
+    }
+
+    @Test
+    public void compileClassesWithDebugInfo() throws IOException {
+        String className = SignedByteContract.class.getName();
+        String sourceFile = "/path/to/src/" + className.replace(".", "/") + ".java";
+        Map<String, String> sourceFiles = new HashMap<>();
+        sourceFiles.put(className, sourceFile);
+
+        Map<String, CompilationUnit> units = new Compiler().compileClasses(sourceFiles);
+
+        assertThat(units.get(className).getDebugInfo().getDocuments(), contains(sourceFile));
+    }
+
+    @Test
+    public void readEveryClassOnlyOnce() throws IOException {
+        CountingClassLoader classLoader = new CountingClassLoader();
+        ClassNodeCache cache = new ClassNodeCache(classLoader);
+        String helper = Type.getInternalName(Helper.class);
+
+        new Compiler(cache, new PeepholeOptimizer()).compileClasses(CONTRACTS);
+
+        assertThat(classLoader.getReads(helper + ".class"), is(1));
+        assertThat(cache.getClassNode(helper), is(sameInstance(cache.getClassNode(helper))));
+        assertThat(classLoader.getReads(helper + ".class"), is(1));
+    }
+
+    @Test
+    public void rethrowCompilerExceptionOfOneClass() throws IOException {
+        exceptionRule.expect(CompilerException.class);
+        exceptionRule.expectMessage(new StringContains("non-static"));
+        new Compiler().compileClasses(asList(
+                SignedByteContract.class.getName(),
+                NonStaticMethodContract.class.getName()));
+    }
+
+    // Counts how often each class file is read.
+    static class CountingClassLoader extends ClassLoader {
+
+        private final Map<String, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+        CountingClassLoader() {
+            super(CompileClassesTest.class.getClassLoader());
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            reads.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet();
+            return super.getResourceAsStream(name);
+        }
+
+        int getReads(String name) {
+            return reads.getOrDefault(name, new AtomicInteger()).get();
+        }
+
+    }
+
+    static class SignedByteContract {
+
+        public static byte toSignedByte(int i) {
+            return Helper.asSignedByte(i);
+        }
+
+    }
+
+    static class LoopContract {
+
+        public static int sumWithSignedBytes(int n) {
+            int sum = 0;
+            for (int i = 0; i < n; i++) {
+                try {
+                    sum += Helper.asSignedByte(i);
+                } catch (Exception e) {
+                    sum = 0;
+                }
+            }
+            return sum;
+        }
+
+    }
+
+    static class StorageContract {
+
+        public static byte[] getValue(String key) {
+            return Storage.get(Storage.getStorageContext(), key);
+        }
+
+    }
+
+    static class NonStaticMethodContract {
+
+        public int getValue() {
+            return 1;
+        }
+
+    }
+
+}
@@ -124,8 +124,7 @@ public class CompilerTest {
         NeoMethod neoMethod = new NeoMethod(method, asmClass);
         Compiler.addInstructionsFromAnnotation(method, neoMethod);
 
-        NeoInstruction insn = neoMethod.getInstructions().values().toArray(
-                new NeoInstruction[]{})[0];
+        NeoInstruction insn = neoMethod.getInstructions().get(0);
         assertThat(insn.getOpcode(), is(opcode));
         assertThat(insn.getOperandPrefix(), is(operandPrefix));
         assertThat(insn.getOperand(), is(operand));
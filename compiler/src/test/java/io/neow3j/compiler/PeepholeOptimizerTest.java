@@ -0,0 +1,270 @@
+package io.neow3j.compiler;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.ScriptReader;
+import io.neow3j.devpack.Helper;
+import io.neow3j.devpack.annotations.Instruction;
+import io.neow3j.protocol.core.methods.response.ContractManifest.ContractABI.ContractMethod;
+import io.neow3j.vm.ExecutionEngine;
+import io.neow3j.vm.VMState;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.EnumSet;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+public class PeepholeOptimizerTest {
+
+    private static CompilationUnit optimized;
+    private static CompilationUnit unoptimized;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        optimized = new Compiler(new PeepholeOptimizer())
+                .compileClass(PeepholeOptimizerContract.class.getName());
+        unoptimized = new Compiler(PeepholeOptimizerTest.class.getClassLoader(),
+                new PeepholeOptimizer(EnumSet.noneOf(PeepholeOptimizer.Rule.class)))
+                .compileClass(PeepholeOptimizerContract.class.getName());
+    }
+
+    @Test
+    public void doNotOptimizeByDefault() throws IOException {
+        CompilationUnit unit = new Compiler()
+                .compileClass(PeepholeOptimizerContract.class.getName());
+
+        assertThat(unit.getTotalPeepholeSavings(), is(0));
+        assertThat(unit.getNefFile().getScript(), is(unoptimized.getNefFile().getScript()));
+    }
+
+    @Test
+    public void removeRedundantInstructions() {
+        String before = ScriptReader.convertToOpCodeString(unoptimized.getNefFile().getScript());
+        String after = ScriptReader.convertToOpCodeString(optimized.getNefFile().getScript());
+
+        assertThat(before, containsString("PUSHINT16"));
+        assertThat(before, containsString("DROP"));
+        assertThat(before, containsString("\nNOT\n"));
+        assertThat(before, containsString("STLOC0\nLDLOC0\nPUSH1\nADD"));
+        assertThat(after, not(containsString("PUSHINT16")));
+        assertThat(after, not(containsString("DROP")));
+        assertThat(after, not(containsString("\nNOT\n")));
+        assertThat(after, containsString("INITSLOT 0100\nPUSH6\nRET"));
+    }
+
+    @Test
+    public void reportSavedBytes() {
+        int saved = unoptimized.getNefFile().getScript().length
+                - optimized.getNefFile().getScript().length;
+
+        assertThat(optimized.getTotalPeepholeSavings(), is(saved));
+        assertThat(optimized.getPeepholeSavings().get(
+                NeoMethod.getMethodId(getMethod("pushDrop"), getContractClass())), is(2));
+        assertThat(unoptimized.getTotalPeepholeSavings(), is(0));
+    }
+
+    @Test
+    public void keepBehavior() throws IOException {
+        for (CompilationUnit unit : new CompilationUnit[]{optimized, unoptimized}) {
+            assertThat(execute(unit, "shortPush", null), is(BigInteger.valueOf(5)));
+            assertThat(execute(unit, "pushDrop", null), is(BigInteger.valueOf(3)));
+            assertThat(execute(unit, "storeLoad", null), is(BigInteger.valueOf(6)));
+            assertThat(execute(unit, "negatedJump", true), is(BigInteger.valueOf(2)));
+            assertThat(execute(unit, "negatedJump", false), is(BigInteger.valueOf(1)));
+            assertThat(execute(unit, "doubleNot", true), is(BigInteger.valueOf(1)));
+            assertThat(execute(unit, "doubleNot", false), is(BigInteger.valueOf(2)));
+        }
+    }
+
+    @Test
+    public void foldConstants() throws IOException {
+        String before = ScriptReader.convertToOpCodeString(unoptimized.getNefFile().getScript());
+        String after = ScriptReader.convertToOpCodeString(optimized.getNefFile().getScript());
+
+        assertThat(before, containsString("MUL\nPUSH1\nSUB"));
+        assertThat(after, not(containsString("MUL")));
+        assertThat(before, containsString("CAT"));
+        assertThat(after, not(containsString("CAT")));
+        assertThat(after, containsString("616263646566\nRET"));
+        for (CompilationUnit unit : new CompilationUnit[]{optimized, unoptimized}) {
+            assertThat(execute(unit, "foldIntegers", null), is(BigInteger.valueOf(24)));
+            assertThat(executeForString(unit, "foldStrings"), is("abcdef"));
+        }
+    }
+
+    @Test
+    public void removeUnreachableCode() throws IOException {
+        String before = ScriptReader.convertToOpCodeString(unoptimized.getNefFile().getScript());
+        String after = ScriptReader.convertToOpCodeString(optimized.getNefFile().getScript());
+
+        assertThat(before, containsString("ABORT\nPUSH1\nRET"));
+        assertThat(after, not(containsString("ABORT\nPUSH1\nRET")));
+        assertThat(after, containsString("ABORT\n"));
+    }
+
+    @Test
+    public void removeUnusedMethods() {
+        assertThat(hasMethod(unoptimized, "unused"), is(true));
+        assertThat(hasMethod(unoptimized, "used"), is(true));
+        assertThat(hasMethod(optimized, "unused"), is(false));
+        assertThat(hasMethod(optimized, "used"), is(true));
+        assertThat(optimized.getPeepholeSavings().get(
+                NeoMethod.getMethodId(getMethod("unused"), getContractClass())), is(2));
+    }
+
+    @Test
+    public void keepInstructionsThatAreJumpTargets() throws IOException {
+        String after = ScriptReader.convertToOpCodeString(optimized.getNefFile().getScript());
+
+        // The loop condition is a jump target. Its load of the counter must not be removed.
+        assertThat(after, containsString("LDLOC0\nPUSH3\nJMPGE"));
+        assertThat(execute(optimized, "loop", null), is(BigInteger.valueOf(3)));
+    }
+
+    @Test
+    public void skipMethodsWithFixedJumpOffsets() throws IOException {
+        String after = ScriptReader.convertToOpCodeString(optimized.getNefFile().getScript());
+
+        // Shortening the skipped push would move the target of the jump.
+        assertThat(after, containsString("JMP 07\nPUSHINT32 01000000\nPUSH5"));
+        assertThat(execute(optimized, "fixedJump", null), is(BigInteger.valueOf(5)));
+    }
+
+    private boolean hasMethod(CompilationUnit unit, String name) {
+        return unit.getNeoModule().getSortedMethods().stream()
+                .anyMatch(m -> m.getName().equals(name));
+    }
+
+    private String executeForString(CompilationUnit unit, String method) throws IOException {
+        ExecutionEngine engine = load(unit, method);
+        assertThat(engine.execute(), is(VMState.HALT));
+        return engine.getResultStack().get(0).asByteString().getAsString();
+    }
+
+    private BigInteger execute(CompilationUnit unit, String method, Boolean arg)
+            throws IOException {
+        ExecutionEngine engine = load(unit, method);
+        if (arg != null) {
+            engine.push(arg);
+        }
+        assertThat(engine.execute(), is(VMState.HALT));
+        return engine.getResultStack().get(0).asInteger().getValue();
+    }
+
+    private ExecutionEngine load(CompilationUnit unit, String method) {
+        int offset = unit.getManifest().getAbi().getMethods().stream()
+                .filter(m -> m.getName().equals(method))
+                .map(ContractMethod::getOffset)
+                .findFirst().get();
+        ExecutionEngine engine = new ExecutionEngine();
+        engine.loadScript(unit.getNefFile().getScript(), offset);
+        return engine;
+    }
+
+    private MethodNode getMethod(String name) {
+        return getContractClass().methods.stream().filter(m -> m.name.equals(name)).findFirst()
+                .get();
+    }
+
+    private ClassNode getContractClass() {
+        return optimized.getContractClass();
+    }
+
+    static class PeepholeOptimizerContract {
+
+        public static int shortPush() {
+            return Instructions.five();
+        }
+
+        public static int pushDrop() {
+            Instructions.pushAndDrop();
+            return 3;
+        }
+
+        public static int storeLoad() {
+            int x = Instructions.five();
+            return x + 1;
+        }
+
+        public static int negatedJump(boolean b) {
+            if (Instructions.negate(b)) {
+                return 1;
+            }
+            return 2;
+        }
+
+        public static int doubleNot(boolean b) {
+            if (Instructions.negate(Instructions.negate(b))) {
+                return 1;
+            }
+            return 2;
+        }
+
+        public static int loop() {
+            int i = 0;
+            while (i < 3) {
+                i++;
+            }
+            return i;
+        }
+
+        public static int foldIntegers() {
+            return Instructions.five() * Instructions.five() - 1;
+        }
+
+        public static String foldStrings() {
+            String s = "abc";
+            return s + "def";
+        }
+
+        public static int abortEarly() {
+            Helper.abort();
+            return 1;
+        }
+
+        public static int callUsed() {
+            return used();
+        }
+
+        private static int used() {
+            return 1;
+        }
+
+        private static int unused() {
+            return 2;
+        }
+
+        public static int fixedJump() {
+            return Instructions.jumpOverPush();
+        }
+
+    }
+
+    static class Instructions {
+
+        @Instruction(opcode = OpCode.PUSHINT16, operand = {0x05, 0x00})
+        static native int five();
+
+        @Instruction(opcode = OpCode.PUSH7)
+        @Instruction(opcode = OpCode.DROP)
+        static native void pushAndDrop();
+
+        @Instruction(opcode = OpCode.NOT)
+        static native boolean negate(boolean b);
+
+        @Instruction(opcode = OpCode.JMP, operand = 0x07)
+        @Instruction(opcode = OpCode.PUSHINT32, operand = {0x01, 0x00, 0x00, 0x00})
+        @Instruction(opcode = OpCode.PUSH5)
+        static native int jumpOverPush();
+
+    }
+
+}
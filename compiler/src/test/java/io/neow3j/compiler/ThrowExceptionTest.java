@@ -66,8 +66,8 @@ public class ThrowExceptionTest {
 
         ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
         DataOutputStream stream = new DataOutputStream(byteStream);
-        stream.write(OpCode.CALL_L.getCode());
-        stream.write(new byte[]{0x06, 0x00, 0x00, 0x00});
+        stream.write(OpCode.CALL.getCode());
+        stream.write(0x03);
         stream.write(OpCode.THROW.getCode());
         stream.write(OpCode.PUSHDATA1.getCode());
         stream.write(13);
@@ -0,0 +1,292 @@
+package io.neow3j.contract;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetContractState.ContractState;
+import io.neow3j.utils.LruMap;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the states of deployed contracts, i.e., their manifests and NEF files, and metadata
+ * derived from them, e.g., the symbol and decimals of a token. There is one cache per
+ * {@link Neow3j} instance, which is shared by all contract wrappers using that instance.
+ * <p>
+ * The cache holds a bounded number of contracts and evicts the least recently used one when it
+ * is full. Concurrent requests for a value that is not cached yet are combined into one request
+ * to the neo-node.
+ * <p>
+ * A contract's state and metadata only change if the contract is updated, which increments its
+ * update counter. After the configured refresh interval, the contract state is fetched again on
+ * the next access. If the update counter has changed, the cached metadata of the contract is
+ * dropped.
+ */
+public class ContractStateCache {
+
+    /**
+     * The default maximum number of contracts held in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * The default time in milliseconds after which the state of a contract is fetched again.
+     */
+    public static final long DEFAULT_REFRESH_INTERVAL = 60_000;
+
+    private static final Map<Neow3j, ContractStateCache> CACHES = new WeakHashMap<>();
+
+    private final StateLoader stateLoader;
+    private final LongSupplier clock;
+
+    // All fields below are guarded by this.
+    private final LruMap<ScriptHash, Entry> entries = new LruMap<>(DEFAULT_MAX_SIZE);
+    private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+    ContractStateCache(StateLoader stateLoader, LongSupplier clock) {
+        this.stateLoader = stateLoader;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the cache for the given {@link Neow3j} instance.
+     *
+     * @param neow the {@link Neow3j} instance.
+     * @return the cache.
+     */
+    public static ContractStateCache forNeow3j(Neow3j neow) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(neow, n -> {
+                // The cache is the value of the Neow3j instance in CACHES. A strong reference
+                // to the instance would keep both alive forever.
+                WeakReference<Neow3j> neowRef = new WeakReference<>(n);
+                return new ContractStateCache(contract -> {
+                    Neow3j neow3j = neowRef.get();
+                    if (neow3j == null) {
+                        throw new IllegalStateException("The Neow3j instance of this cache was "
+                                + "garbage collected.");
+                    }
+                    return neow3j.getContractState(contract.toString()).send()
+                            .getContractState();
+                }, System::currentTimeMillis);
+            });
+        }
+    }
+
+    /**
+     * Sets the maximum number of contracts held in the cache.
+     * <p>
+     * It is set to {@link ContractStateCache#DEFAULT_MAX_SIZE} by default.
+     *
+     * @param maxSize the maximum number of contracts.
+     * @return this cache.
+     */
+    public synchronized ContractStateCache maxSize(int maxSize) {
+        entries.setMaxSize(maxSize);
+        return this;
+    }
+
+    /**
+     * Sets the time after which the state of a contract is fetched again to check whether it
+     * was updated.
+     * <p>
+     * It is set to {@link ContractStateCache#DEFAULT_REFRESH_INTERVAL} by default.
+     *
+     * @param refreshInterval the refresh interval in milliseconds.
+     * @return this cache.
+     */
+    public synchronized ContractStateCache refreshInterval(long refreshInterval) {
+        if (refreshInterval < 0) {
+            throw new IllegalArgumentException("The refresh interval cannot be negative.");
+        }
+        this.refreshInterval = refreshInterval;
+        return this;
+    }
+
+    /**
+     * Gets the number of contracts held in the cache.
+     *
+     * @return the number of contracts.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops the cached state and metadata of the given contract.
+     *
+     * @param contract the script hash of the contract.
+     */
+    public synchronized void invalidate(ScriptHash contract) {
+        entries.remove(contract);
+    }
+
+    /**
+     * Drops the cached states and metadata of all contracts.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the state of the given contract. If it is not cached or the refresh interval has
+     * passed, it is fetched from the neo-node.
+     *
+     * @param contract the script hash of the contract.
+     * @return the contract state or null if the neo-node does not know the contract.
+     * @throws IOException if there was a problem fetching the contract state.
+     */
+    public ContractState getContractState(ScriptHash contract) throws IOException {
+        Entry entry = getEntry(contract);
+        CompletableFuture<ContractState> future;
+        boolean owner = false;
+        synchronized (entry) {
+            if (entry.state != null && !(entry.state.isDone() && isOutdated(entry))) {
+                future = entry.state;
+            } else {
+                future = new CompletableFuture<>();
+                entry.state = future;
+                owner = true;
+            }
+        }
+        if (!owner) {
+            return await(future);
+        }
+        try {
+            ContractState state = stateLoader.load(contract);
+            synchronized (entry) {
+                if (state == null) {
+                    // Don't cache unknown contracts, they might be deployed later.
+                    entry.state = null;
+                    entry.values.clear();
+                } else {
+                    updateCounter(entry, state.getUpdateCounter());
+                }
+            }
+            future.complete(state);
+            return state;
+        } catch (IOException | RuntimeException e) {
+            synchronized (entry) {
+                if (entry.state == future) {
+                    entry.state = null;
+                }
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the cached value of the given contract metadata. If it is not cached, it is fetched
+     * with the given loader.
+     * <p>
+     * If the refresh interval has passed, the contract state is fetched first to check whether
+     * the contract was updated in the meantime.
+     *
+     * @param contract the script hash of the contract the value belongs to.
+     * @param key      the key of the value, unique per contract.
+     * @param loader   the loader fetching the value from the neo-node.
+     * @param <T>      the type of the value.
+     * @return the value.
+     * @throws IOException if there was a problem fetching the value or the contract state.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ScriptHash contract, String key, Loader<T> loader) throws IOException {
+        Entry entry = getEntry(contract);
+        boolean outdated;
+        synchronized (entry) {
+            outdated = !entry.values.isEmpty() && isOutdated(entry);
+        }
+        if (outdated) {
+            getContractState(contract);
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entry.values.putIfAbsent(key, future);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        try {
+            T value = loader.load();
+            future.complete(value);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            entry.values.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private synchronized Entry getEntry(ScriptHash contract) {
+        Entry entry = entries.get(contract);
+        if (entry == null) {
+            entry = new Entry(clock.getAsLong());
+            entries.put(contract, entry);
+        }
+        return entry;
+    }
+
+    // Must be called while holding the lock on the entry.
+    private void updateCounter(Entry entry, int updateCounter) {
+        // Metadata fetched before the update counter was known is only kept if it is recent.
+        boolean changed = entry.updateCounter < 0
+                ? isOutdated(entry)
+                : entry.updateCounter != updateCounter;
+        if (changed) {
+            entry.values.clear();
+        }
+        entry.updateCounter = updateCounter;
+        entry.time = clock.getAsLong();
+    }
+
+    private boolean isOutdated(Entry entry) {
+        long interval;
+        synchronized (this) {
+            interval = refreshInterval;
+        }
+        return clock.getAsLong() - entry.time >= interval;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // Fetches the state of a contract from the neo-node.
+    @FunctionalInterface
+    interface StateLoader {
+
+        ContractState load(ScriptHash contract) throws IOException;
+
+    }
+
+    private static class Entry {
+
+        private final Map<String, CompletableFuture<Object>> values = new ConcurrentHashMap<>();
+        // The fields below are guarded by the entry.
+        private CompletableFuture<ContractState> state;
+        // -1 if the update counter is not known yet.
+        private int updateCounter = -1;
+        // The time the contract state was last fetched, or the entry was created.
+        private long time;
+
+        private Entry(long time) {
+            this.time = time;
+        }
+
+    }
+
+}
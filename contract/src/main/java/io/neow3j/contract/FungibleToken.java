@@ -19,7 +19,6 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -113,8 +112,9 @@ public class FungibleToken extends Token {
      * The token amount is returned in token fractions. E.g., an amount of 1 GAS is returned as
      * 1*10^8 GAS fractions.
      * <p>
-     * The balance is not cached locally. Every time this method is called requests are sent to the
-     * Neo node.
+     * The balances of all accounts are fetched with a single {@code invokescript} request (see
+     * {@link MultiCall}). The balance is not cached locally. Every time this method is called a
+     * request is sent to the Neo node.
      *
      * @param wallet the wallet to fetch the balance for.
      * @return the token balance.
@@ -126,13 +126,24 @@ public class FungibleToken extends Token {
     public BigInteger getBalanceOf(Wallet wallet) throws IOException,
             UnexpectedReturnTypeException {
 
+        MultiCall.Results balances = getBalancesOf(wallet.getAccounts());
         BigInteger sum = BigInteger.ZERO;
-        for (Account a : wallet.getAccounts()) {
-            sum = sum.add(getBalanceOf(a.getScriptHash()));
+        for (int i = 0; i < balances.size(); i++) {
+            sum = sum.add(balances.getInteger(i));
         }
         return sum;
     }
 
+    // Fetches the balances of all given accounts with one invocation. The results are in the
+    // order of the accounts.
+    private MultiCall.Results getBalancesOf(List<Account> accounts) throws IOException {
+        MultiCall multiCall = new MultiCall(neow);
+        for (Account a : accounts) {
+            multiCall.call(scriptHash, BALANCE_OF, hash160(a.getScriptHash()));
+        }
+        return multiCall.invoke();
+    }
+
     /**
      * Creates a transfer transaction that uses all accounts in the wallet to cover the amount.
      * <p>
@@ -361,17 +372,22 @@ public class FungibleToken extends Token {
     TransactionBuilder buildMultiTransferInvocation(Wallet wallet, ScriptHash to, BigDecimal amount,
             List<Account> accounts, ContractParameter data) throws IOException {
 
-        List<byte[]> scripts = new ArrayList<>(); // List of the individual invocation scripts.
-        List<Signer> signers = new ArrayList<>(); // Accounts taking part in the transfer.
-        Iterator<Account> it = accounts.iterator();
-        BigInteger remainingAmount = getAmountAsBigInteger(amount);
-        while (remainingAmount.signum() > 0 && it.hasNext()) {
-            Account a = it.next();
+        List<Account> usableAccounts = new ArrayList<>();
+        for (Account a : accounts) {
             if (a.isMultiSig() && a.getVerificationScript() != null &&
                 !wallet.privateKeysArePresentForMultiSig(a.getVerificationScript())) {
                 continue;
             }
-            BigInteger balance = getBalanceOf(a.getScriptHash());
+            usableAccounts.add(a);
+        }
+        MultiCall.Results balances = getBalancesOf(usableAccounts);
+
+        List<byte[]> scripts = new ArrayList<>(); // List of the individual invocation scripts.
+        List<Signer> signers = new ArrayList<>(); // Accounts taking part in the transfer.
+        BigInteger remainingAmount = getAmountAsBigInteger(amount);
+        for (int i = 0; remainingAmount.signum() > 0 && i < usableAccounts.size(); i++) {
+            Account a = usableAccounts.get(i);
+            BigInteger balance = balances.getInteger(i);
             if (balance.signum() <= 0) {
                 continue;
             }
@@ -0,0 +1,16 @@
+package io.neow3j.contract;
+
+import java.io.IOException;
+
+/**
+ * Fetches a value from the neo-node for a cache, e.g., the {@link ContractStateCache} or the
+ * {@link NativeContractParameterCache}.
+ *
+ * @param <T> the type of the value.
+ */
+@FunctionalInterface
+public interface Loader<T> {
+
+    T load() throws IOException;
+
+}
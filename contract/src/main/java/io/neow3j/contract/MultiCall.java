@@ -0,0 +1,215 @@
+package io.neow3j.contract;
+
+import static io.neow3j.model.types.StackItemType.BOOLEAN;
+import static io.neow3j.model.types.StackItemType.BYTE_STRING;
+import static io.neow3j.model.types.StackItemType.INTEGER;
+import static java.util.Arrays.asList;
+
+import io.neow3j.contract.exceptions.InvocationConfigurationException;
+import io.neow3j.contract.exceptions.UnexpectedReturnTypeException;
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.InvocationResult;
+import io.neow3j.protocol.core.methods.response.NeoInvokeScript;
+import io.neow3j.protocol.core.methods.response.StackItem;
+import io.neow3j.transaction.Signer;
+import io.neow3j.utils.Strings;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregates several read-only contract calls into one script that is evaluated with a single
+ * {@code invokescript} RPC call.
+ * <p>
+ * The calls are appended to the script in the order they are added and each call must leave
+ * exactly one value on the stack, e.g., {@code balanceOf}, {@code symbol} or {@code decimals}
+ * of a NEP-17 token. The resulting stack is mapped back to the calls by their index.
+ * <p>
+ * Nothing is persisted on the blockchain. Write operations are evaluated by the Neo node but
+ * their effects are discarded.
+ */
+public class MultiCall {
+
+    private final Neow3j neow;
+    private final ScriptBuilder scriptBuilder = new ScriptBuilder();
+    private int size = 0;
+    private Signer[] signers = new Signer[0];
+
+    /**
+     * Constructs a new {@code MultiCall} that uses the given {@link Neow3j} instance for the
+     * invocation.
+     *
+     * @param neow the {@link Neow3j} instance to use for the invocation.
+     */
+    public MultiCall(Neow3j neow) {
+        this.neow = neow;
+    }
+
+    /**
+     * Adds a call to the given contract function.
+     *
+     * @param contract the script hash of the contract to call.
+     * @param function the function to call.
+     * @param params   the contract parameters to include in the call.
+     * @return this multi-call.
+     */
+    public MultiCall call(ScriptHash contract, String function, ContractParameter... params) {
+        if (Strings.isEmpty(function)) {
+            throw new IllegalArgumentException(
+                    "The invocation function must not be null or empty.");
+        }
+        scriptBuilder.contractCall(contract, function, asList(params));
+        size++;
+        return this;
+    }
+
+    /**
+     * Sets the signers that are used for the invocation. They are required if one of the
+     * called functions hits a {@code CheckWitness} check.
+     *
+     * @param signers the signers.
+     * @return this multi-call.
+     */
+    public MultiCall signers(Signer... signers) {
+        this.signers = signers;
+        return this;
+    }
+
+    /**
+     * Gets the number of calls added to this multi-call.
+     *
+     * @return the number of calls.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the script containing all calls added so far.
+     *
+     * @return the script.
+     */
+    public byte[] getScript() {
+        return scriptBuilder.toArray();
+    }
+
+    /**
+     * Sends the script containing all calls in one {@code invokescript} RPC call.
+     * <p>
+     * If no call was added, no request is sent and an empty result is returned.
+     *
+     * @return the results of the calls.
+     * @throws IOException                      if there was a problem fetching information from
+     *                                          the Neo node.
+     * @throws InvocationConfigurationException if the Neo node returned an error, the VM faulted
+     *                                          or the number of returned values does not match
+     *                                          the number of calls.
+     */
+    public Results invoke() throws IOException {
+        if (size == 0) {
+            return new Results(Collections.emptyList());
+        }
+        NeoInvokeScript response =
+                neow.invokeScript(Base64.encode(getScript()), signers).send();
+        if (response.hasError()) {
+            throw new InvocationConfigurationException(
+                    "The script is invalid. The vm returned the error code " +
+                    response.getError().getCode() + " with the message: " +
+                    response.getError().getMessage());
+        }
+        InvocationResult result = response.getInvocationResult();
+        if (result.hasStateFault()) {
+            throw new InvocationConfigurationException(
+                    "The vm exited due to the following exception: " + result.getException());
+        }
+        List<StackItem> stack = result.getStack();
+        if (stack == null || stack.size() != size) {
+            throw new InvocationConfigurationException("Expected " + size + " return values " +
+                    "but the invocation returned " + (stack == null ? 0 : stack.size()) + ".");
+        }
+        return new Results(new ArrayList<>(stack));
+    }
+
+    /**
+     * The return values of the calls of a {@link MultiCall}, in the order in which the calls
+     * were added.
+     */
+    public static class Results {
+
+        private final List<StackItem> stack;
+
+        private Results(List<StackItem> stack) {
+            this.stack = stack;
+        }
+
+        /**
+         * Gets the number of return values.
+         *
+         * @return the number of return values.
+         */
+        public int size() {
+            return stack.size();
+        }
+
+        /**
+         * Gets the raw stack item returned by the call with the given index.
+         *
+         * @param index the index of the call.
+         * @return the returned stack item.
+         */
+        public StackItem getStackItem(int index) {
+            return stack.get(index);
+        }
+
+        /**
+         * Gets the integer returned by the call with the given index.
+         *
+         * @param index the index of the call.
+         * @return the returned integer.
+         * @throws UnexpectedReturnTypeException if the returned type is not an integer.
+         */
+        public BigInteger getInteger(int index) {
+            StackItem item = stack.get(index);
+            if (item.getType().equals(INTEGER)) {
+                return item.asInteger().getValue();
+            }
+            throw new UnexpectedReturnTypeException(item.getType(), INTEGER);
+        }
+
+        /**
+         * Gets the string returned by the call with the given index.
+         *
+         * @param index the index of the call.
+         * @return the returned string.
+         * @throws UnexpectedReturnTypeException if the returned type is not a byte string.
+         */
+        public String getString(int index) {
+            StackItem item = stack.get(index);
+            if (item.getType().equals(BYTE_STRING)) {
+                return item.asByteString().getAsString();
+            }
+            throw new UnexpectedReturnTypeException(item.getType(), BYTE_STRING);
+        }
+
+        /**
+         * Gets the boolean returned by the call with the given index.
+         *
+         * @param index the index of the call.
+         * @return the returned boolean.
+         * @throws UnexpectedReturnTypeException if the returned type is not a boolean.
+         */
+        public boolean getBoolean(int index) {
+            StackItem item = stack.get(index);
+            if (item.getType().equals(BOOLEAN)) {
+                return item.asBoolean().getValue();
+            }
+            throw new UnexpectedReturnTypeException(item.getType(), BOOLEAN);
+        }
+
+    }
+
+}
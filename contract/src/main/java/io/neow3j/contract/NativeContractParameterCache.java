@@ -0,0 +1,305 @@
+package io.neow3j.contract;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.utils.LruMap;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches parameters of native contracts, e.g., the fee per byte of the {@link PolicyContract} or
+ * the committee of the {@link NeoToken}. There is one cache per {@link Neow3j} instance, which is
+ * shared by all contracts and transaction builders using that instance.
+ * <p>
+ * The parameters of a native contract only change through transactions that invoke the
+ * contract. If the cache is fed with new blocks (see
+ * {@link NativeContractParameterCache#subscribeToNewBlocks()}), the cached parameters of a
+ * contract are dropped as soon as a block contains a transaction calling that contract. The
+ * committee is additionally dropped at the start of every committee period. Independent of
+ * that, a parameter is fetched again after the configured number of blocks. Without new blocks,
+ * that number of blocks is estimated from the elapsed time.
+ * <p>
+ * Fee parameters, i.e., the fee per byte, the execution fee factor and the storage price, are
+ * cached like the other parameters. Applications that cannot accept a fee parameter that is
+ * outdated until the next processed block or refresh can disable that with
+ * {@link NativeContractParameterCache#cacheFeeParameters(boolean)}.
+ * <p>
+ * A contract holds at most {@link NativeContractParameterCache#MAX_ENTRIES_PER_CONTRACT}
+ * parameters, e.g., per-account lookups like {@link PolicyContract#isBlocked(ScriptHash)}. The
+ * least recently used one is dropped when that number is exceeded.
+ */
+public class NativeContractParameterCache {
+
+    /**
+     * The default number of blocks after which a cached parameter is fetched again.
+     */
+    public static final long DEFAULT_REFRESH_INTERVAL = 100;
+
+    /**
+     * The maximum number of cached parameters per contract.
+     */
+    public static final int MAX_ENTRIES_PER_CONTRACT = 1000;
+
+    // The committee is recomputed every time the block index is a multiple of the number of
+    // committee members.
+    static final int COMMITTEE_REFRESH_INTERVAL = 21;
+
+    private static final Logger log = LoggerFactory.getLogger(NativeContractParameterCache.class);
+
+    private static final Map<Neow3j, NativeContractParameterCache> CACHES = new WeakHashMap<>();
+
+    // Weak, because the cache is the value of its Neow3j instance in CACHES.
+    private final WeakReference<Neow3j> neow;
+    private final LongSupplier clock;
+
+    // All fields below are guarded by this.
+    private final Map<ScriptHash, Map<String, Entry>> entries = new HashMap<>();
+    // Incremented whenever the parameters of a contract are dropped. Used to discard values that
+    // were fetched concurrently to their invalidation.
+    private final Map<ScriptHash, Long> generations = new HashMap<>();
+    private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    private long blockTime = JsonRpc2_0Neow3j.DEFAULT_BLOCK_TIME;
+    private long latestBlockIndex = -1;
+    private volatile boolean cacheFeeParameters = true;
+
+    NativeContractParameterCache(Neow3j neow, LongSupplier clock) {
+        this.neow = new WeakReference<>(neow);
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the cache for the given {@link Neow3j} instance.
+     *
+     * @param neow the {@link Neow3j} instance.
+     * @return the cache.
+     */
+    public static NativeContractParameterCache forNeow3j(Neow3j neow) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(neow,
+                    n -> new NativeContractParameterCache(n, System::currentTimeMillis));
+        }
+    }
+
+    /**
+     * Sets the number of blocks after which a cached parameter is fetched again.
+     * <p>
+     * It is set to {@link NativeContractParameterCache#DEFAULT_REFRESH_INTERVAL} by default.
+     *
+     * @param blocks the number of blocks.
+     * @return this cache.
+     */
+    public synchronized NativeContractParameterCache refreshInterval(long blocks) {
+        if (blocks < 0) {
+            throw new IllegalArgumentException("The refresh interval cannot be negative.");
+        }
+        this.refreshInterval = blocks;
+        return this;
+    }
+
+    /**
+     * Sets the expected time between two blocks. It is used to estimate the number of blocks
+     * produced since a parameter was fetched, if the cache is not fed with new blocks.
+     * <p>
+     * It is set to {@link JsonRpc2_0Neow3j#DEFAULT_BLOCK_TIME} by default.
+     *
+     * @param blockTime the block time in milliseconds.
+     * @return this cache.
+     */
+    public synchronized NativeContractParameterCache blockTime(long blockTime) {
+        this.blockTime = blockTime;
+        return this;
+    }
+
+    /**
+     * Sets whether the fee parameters are cached like the other parameters.
+     * <p>
+     * They are cached by default.
+     *
+     * @param cacheFeeParameters true if the fee parameters should be cached.
+     * @return this cache.
+     */
+    public NativeContractParameterCache cacheFeeParameters(boolean cacheFeeParameters) {
+        this.cacheFeeParameters = cacheFeeParameters;
+        return this;
+    }
+
+    /**
+     * Subscribes to new blocks of the {@link Neow3j} instance of this cache and drops cached
+     * parameters as described in {@link NativeContractParameterCache}.
+     * <p>
+     * If the block stream fails, the error is logged and the cache subscribes again after one
+     * block time. In the meantime, the cached parameters are still fetched again after the
+     * configured number of blocks.
+     *
+     * @return the subscription. Dispose it to stop processing new blocks.
+     */
+    public Disposable subscribeToNewBlocks() {
+        Neow3j neow3j = neow.get();
+        if (neow3j == null) {
+            throw new IllegalStateException("The Neow3j instance of this cache was garbage "
+                    + "collected.");
+        }
+        return neow3j.blockObservable(true)
+                .retryWhen(errors -> errors.flatMap(throwable -> {
+                    long delay;
+                    synchronized (this) {
+                        delay = blockTime;
+                    }
+                    log.warn("The block stream failed. Subscribing again in {} ms.", delay,
+                            throwable);
+                    return Observable.timer(delay, TimeUnit.MILLISECONDS);
+                }))
+                .subscribe(neoGetBlock -> processBlock(neoGetBlock.getBlock()));
+    }
+
+    /**
+     * Drops the cached parameters of the native contracts that are called in the given block.
+     * <p>
+     * Use this method if the blocks are already retrieved elsewhere. Otherwise, use
+     * {@link NativeContractParameterCache#subscribeToNewBlocks()}.
+     *
+     * @param block the block with its transactions.
+     */
+    public synchronized void processBlock(NeoBlock block) {
+        latestBlockIndex = Math.max(latestBlockIndex, block.getIndex());
+        if (block.getIndex() % COMMITTEE_REFRESH_INTERVAL == 0) {
+            invalidate(NeoToken.SCRIPT_HASH);
+        }
+        if (block.getTransactions() == null || entries.isEmpty()) {
+            return;
+        }
+        for (Transaction tx : block.getTransactions()) {
+            byte[] script = Base64.decode(tx.getScript());
+            // Native contracts are called with their script hash pushed onto the stack.
+            entries.keySet().removeIf(contract -> {
+                if (contains(script, contract.toArray())) {
+                    generations.merge(contract, 1L, Long::sum);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Drops all cached parameters of the given contract.
+     *
+     * @param contract the script hash of the contract.
+     */
+    public synchronized void invalidate(ScriptHash contract) {
+        entries.remove(contract);
+        generations.merge(contract, 1L, Long::sum);
+    }
+
+    /**
+     * Drops all cached parameters.
+     */
+    public synchronized void invalidateAll() {
+        entries.keySet().forEach(contract -> generations.merge(contract, 1L, Long::sum));
+        entries.clear();
+    }
+
+    /**
+     * Gets the value of the given fee parameter like
+     * {@link NativeContractParameterCache#get(ScriptHash, String, Loader)}. If caching fee
+     * parameters is disabled (see
+     * {@link NativeContractParameterCache#cacheFeeParameters(boolean)}), it is always fetched
+     * with the given loader.
+     *
+     * @param contract the script hash of the contract the parameter belongs to.
+     * @param key      the key of the parameter, unique per contract.
+     * @param loader   the loader fetching the parameter from the neo-node.
+     * @param <T>      the type of the parameter.
+     * @return the value of the parameter.
+     * @throws IOException if there was a problem fetching the parameter from the neo-node.
+     */
+    public <T> T getFeeParameter(ScriptHash contract, String key, Loader<T> loader)
+            throws IOException {
+        if (!cacheFeeParameters) {
+            return loader.load();
+        }
+        return get(contract, key, loader);
+    }
+
+    /**
+     * Gets the cached value of the given parameter. If it is not cached or outdated, it is
+     * fetched with the given loader.
+     *
+     * @param contract the script hash of the contract the parameter belongs to.
+     * @param key      the key of the parameter, unique per contract.
+     * @param loader   the loader fetching the parameter from the neo-node.
+     * @param <T>      the type of the parameter.
+     * @return the value of the parameter.
+     * @throws IOException if there was a problem fetching the parameter from the neo-node.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ScriptHash contract, String key, Loader<T> loader) throws IOException {
+        long generation;
+        synchronized (this) {
+            Map<String, Entry> contractEntries = entries.get(contract);
+            Entry entry = contractEntries == null ? null : contractEntries.get(key);
+            if (entry != null && !isOutdated(entry)) {
+                return (T) entry.value;
+            }
+            generation = generations.getOrDefault(contract, 0L);
+        }
+        // Fetch without holding the lock, so that the cache is not blocked by slow requests.
+        T value = loader.load();
+        synchronized (this) {
+            if (generations.getOrDefault(contract, 0L) == generation) {
+                entries.computeIfAbsent(contract, c -> new LruMap<>(MAX_ENTRIES_PER_CONTRACT))
+                        .put(key, new Entry(value, latestBlockIndex, clock.getAsLong()));
+            }
+        }
+        return value;
+    }
+
+    private boolean isOutdated(Entry entry) {
+        if (entry.blockIndex >= 0 && latestBlockIndex - entry.blockIndex >= refreshInterval) {
+            return true;
+        }
+        return clock.getAsLong() - entry.time >= refreshInterval * blockTime;
+    }
+
+    private static boolean contains(byte[] array, byte[] part) {
+        for (int i = 0; i <= array.length - part.length; i++) {
+            int j = 0;
+            while (j < part.length && array[i + j] == part[j]) {
+                j++;
+            }
+            if (j == part.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Entry {
+
+        private final Object value;
+        // The latest known block index at the time the value was fetched. -1 if unknown.
+        private final long blockIndex;
+        private final long time;
+
+        private Entry(Object value, long blockIndex, long time) {
+            this.value = value;
+            this.blockIndex = blockIndex;
+            this.time = time;
+        }
+
+    }
+
+}
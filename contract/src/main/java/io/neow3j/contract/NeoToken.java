@@ -17,6 +17,7 @@ import io.neow3j.wallet.Account;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -154,6 +155,9 @@ public class NeoToken extends FungibleToken {
 
     /**
      * Gets the public keys of the current committee members.
+     * <p>
+     * The committee is cached in the {@link NativeContractParameterCache} of the {@link Neow3j}
+     * instance.
      *
      * @return the committee members' public keys.
      * @throws IOException                   if there was a problem fetching information from the
@@ -162,7 +166,9 @@ public class NeoToken extends FungibleToken {
      *                                       array's elements are not public keys.
      */
     public List<ECPublicKey> getCommittee() throws IOException {
-        return callFunctionReturningListOfPublicKeys(GET_COMMITTEE);
+        return NativeContractParameterCache.forNeow3j(neow).get(scriptHash, GET_COMMITTEE,
+                () -> Collections.unmodifiableList(
+                        callFunctionReturningListOfPublicKeys(GET_COMMITTEE)));
     }
 
     /**
@@ -274,12 +280,16 @@ public class NeoToken extends FungibleToken {
     /**
      * Gets the max GAS amount per block. This sets a cap on the accumulated GAS cost of all
      * transactions in a block.
+     * <p>
+     * The value is cached in the {@link NativeContractParameterCache} of the {@link Neow3j}
+     * instance.
      *
      * @return the max GAS amount per block.
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public BigInteger getGasPerBlock() throws IOException {
-        return callFuncReturningInt(GET_GAS_PER_BLOCK);
+        return NativeContractParameterCache.forNeow3j(neow).get(scriptHash, GET_GAS_PER_BLOCK,
+                () -> callFuncReturningInt(GET_GAS_PER_BLOCK));
     }
 
     /**
@@ -0,0 +1,129 @@
+package io.neow3j.contract;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
+import io.neow3j.io.IOUtils;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.VerificationScript;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Calculates the network fee of a transaction locally, i.e., without making a
+ * {@code calculatenetworkfee} call to a neo-node.
+ * <p>
+ * The network fee consists of the fee for the size of the signed transaction and the fee for
+ * executing the witnesses of its signers. Both are fully determined by the verification scripts
+ * of the signers, the fee per byte and the execution fee factor set in the
+ * {@link PolicyContract}. Only standard single-sig and multi-sig verification scripts are
+ * supported, because the cost of other scripts depends on their execution.
+ */
+public class NetworkFeeCalculator {
+
+    // Size of the invocation script part that pushes one signature, i.e., PUSHDATA1, the data
+    // length and the signature.
+    private static final int SIGNATURE_PUSH_SIZE = 2 + NeoConstants.SIGNATURE_SIZE;
+
+    private final long feePerByte;
+    private final long execFeeFactor;
+
+    /**
+     * Constructs a calculator for the given policy parameters.
+     *
+     * @param feePerByte    the network fee per transaction byte in fractions of GAS.
+     * @param execFeeFactor the factor by which the execution prices of opcodes and interop
+     *                      services are multiplied.
+     */
+    public NetworkFeeCalculator(long feePerByte, long execFeeFactor) {
+        this.feePerByte = feePerByte;
+        this.execFeeFactor = execFeeFactor;
+    }
+
+    /**
+     * Constructs a calculator with the current policy parameters of the network that the given
+     * {@link Neow3j} instance is connected to.
+     * <p>
+     * The parameters are taken from the {@link NativeContractParameterCache} if possible.
+     *
+     * @param neow the {@link Neow3j} instance.
+     * @return the calculator.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public static NetworkFeeCalculator fromPolicy(Neow3j neow) throws IOException {
+        PolicyContract policy = new PolicyContract(neow);
+        return new NetworkFeeCalculator(policy.getFeePerByte().longValue(),
+                policy.getExecFeeFactor().longValue());
+    }
+
+    public long getFeePerByte() {
+        return feePerByte;
+    }
+
+    public long getExecFeeFactor() {
+        return execFeeFactor;
+    }
+
+    /**
+     * Checks if the network fee for a witness with the given verification script can be
+     * calculated locally.
+     *
+     * @param verificationScript the verification script.
+     * @return true if the script is a single-sig or multi-sig verification script. False,
+     * otherwise.
+     */
+    public static boolean isSupported(VerificationScript verificationScript) {
+        return verificationScript.isSingleSigScript() || verificationScript.isMultiSigScript();
+    }
+
+    /**
+     * Calculates the network fee for the given transaction.
+     *
+     * @param tx                  the transaction. Its witnesses are not taken into account.
+     * @param verificationScripts the verification scripts of the transaction's signers.
+     * @return the network fee in fractions of GAS.
+     * @throws IllegalArgumentException if one of the verification scripts is not supported.
+     */
+    public long calculateNetworkFee(Transaction tx, List<VerificationScript> verificationScripts) {
+        long size = tx.toArrayWithoutWitnesses().length
+                + IOUtils.getVarSize(verificationScripts.size());
+        long executionPrice = 0;
+        for (VerificationScript verificationScript : verificationScripts) {
+            if (!isSupported(verificationScript)) {
+                throw new IllegalArgumentException("The network fee can only be calculated for "
+                        + "single-sig and multi-sig verification scripts.");
+            }
+            int nrOfSignatures = verificationScript.getSigningThreshold();
+            int invocationScriptSize = SIGNATURE_PUSH_SIZE * nrOfSignatures;
+            size += IOUtils.getVarSize(invocationScriptSize) + invocationScriptSize
+                    + verificationScript.getSize();
+            executionPrice += OpCode.PUSHDATA1.getPrice() * nrOfSignatures
+                    + getVerificationPrice(verificationScript);
+        }
+        return size * feePerByte + executionPrice * execFeeFactor;
+    }
+
+    // The execution price of the given single-sig or multi-sig verification script without the
+    // execution fee factor.
+    static long getVerificationPrice(VerificationScript verificationScript) {
+        long price = OpCode.PUSHNULL.getPrice() + OpCode.SYSCALL.getPrice();
+        if (verificationScript.isSingleSigScript()) {
+            return price + OpCode.PUSHDATA1.getPrice()
+                    + InteropServiceCode.NEO_CRYPTO_VERIFYWITHECDSASECP256R1.getPrice();
+        }
+        int nrOfAccounts = verificationScript.getNrOfAccounts();
+        return price + OpCode.PUSHDATA1.getPrice() * nrOfAccounts
+                + getPushIntegerPrice(verificationScript.getSigningThreshold())
+                + getPushIntegerPrice(nrOfAccounts)
+                + InteropServiceCode.NEO_CRYPTO_CHECKMULTISIGWITHECDSASECP256R1
+                .getPrice(nrOfAccounts);
+    }
+
+    private static long getPushIntegerPrice(int value) {
+        byte[] push = new ScriptBuilder().pushInteger(value).toArray();
+        return OpCode.get(push[0]).getPrice();
+    }
+
+}
@@ -10,6 +10,9 @@ import java.math.BigInteger;
 
 /**
  * Represents a Policy contract and provides methods to invoke it.
+ * <p>
+ * The policy parameters are cached in the {@link NativeContractParameterCache} of the
+ * {@link Neow3j} instance, including whether an account is blocked.
  */
 public class PolicyContract extends SmartContract {
 
@@ -51,7 +54,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public Integer getMaxTransactionsPerBlock() throws IOException {
-        return callFuncReturningInt(GET_MAX_TRANSACTIONS_PER_BLOCK).intValue();
+        return getCachedInt(GET_MAX_TRANSACTIONS_PER_BLOCK).intValue();
     }
 
     /**
@@ -61,7 +64,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public Integer getMaxBlockSize() throws IOException {
-        return callFuncReturningInt(GET_MAX_BLOCK_SIZE).intValue();
+        return getCachedInt(GET_MAX_BLOCK_SIZE).intValue();
     }
 
     /**
@@ -71,7 +74,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public BigInteger getMaxBlockSystemFee() throws IOException {
-        return callFuncReturningInt(GET_MAX_BLOCK_SYSTEM_FEE);
+        return getCachedInt(GET_MAX_BLOCK_SYSTEM_FEE);
     }
 
     /**
@@ -81,7 +84,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public BigInteger getFeePerByte() throws IOException {
-        return callFuncReturningInt(GET_FEE_PER_BYTE);
+        return getCachedFeeParameter(GET_FEE_PER_BYTE);
     }
 
     /**
@@ -91,7 +94,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public BigInteger getExecFeeFactor() throws IOException {
-        return callFuncReturningInt(GET_EXEC_FEE_FACTOR);
+        return getCachedFeeParameter(GET_EXEC_FEE_FACTOR);
     }
 
     /**
@@ -101,7 +104,7 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public BigInteger getStoragePrice() throws IOException {
-        return callFuncReturningInt(GET_STORAGE_PRICE);
+        return getCachedFeeParameter(GET_STORAGE_PRICE);
     }
 
     /**
@@ -112,7 +115,9 @@ public class PolicyContract extends SmartContract {
      * @throws IOException if there was a problem fetching information from the Neo node.
      */
     public boolean isBlocked(ScriptHash scriptHash) throws IOException {
-        return callFuncReturningBool(IS_BLOCKED, hash160(scriptHash));
+        return NativeContractParameterCache.forNeow3j(neow).get(this.scriptHash,
+                IS_BLOCKED + ":" + scriptHash,
+                () -> callFuncReturningBool(IS_BLOCKED, hash160(scriptHash)));
     }
 
     /**
@@ -227,4 +232,14 @@ public class PolicyContract extends SmartContract {
         return invokeFunction(UNBLOCK_ACCOUNT, hash160(accountToUnblock));
     }
 
+    private BigInteger getCachedInt(String function) throws IOException {
+        return NativeContractParameterCache.forNeow3j(neow)
+                .get(scriptHash, function, () -> callFuncReturningInt(function));
+    }
+
+    private BigInteger getCachedFeeParameter(String function) throws IOException {
+        return NativeContractParameterCache.forNeow3j(neow)
+                .getFeeParameter(scriptHash, function, () -> callFuncReturningInt(function));
+    }
+
 }
@@ -189,13 +189,16 @@ public class SmartContract {
 
     /**
      * Gets the manifest of this smart contract.
+     * <p>
+     * The contract state is cached in the {@link ContractStateCache} of the {@link Neow3j}
+     * instance used by this contract.
      *
      * @return the manifest of this smart contract.
      * @throws IOException if something goes wrong when communicating with the Neo node.
      */
     public ContractManifest getManifest() throws IOException {
-        ContractState contractState = neow.getContractState(scriptHash.toString()).send()
-                .getContractState();
+        ContractState contractState =
+                ContractStateCache.forNeow3j(neow).getContractState(scriptHash);
         return contractState.getManifest();
     }
 
@@ -19,10 +19,9 @@ public class Token extends SmartContract {
 
     // It is expected that token contracts return the total supply in fractions
     // of their token. Therefore, an integer is used here instead of a decimal
-    // number.
-    private BigInteger totalSupply;
-    private Integer decimals;
-    private String symbol;
+    // number. Unlike the symbol and decimals, it changes with every mint or burn and is
+    // therefore only cached per instance.
+    private volatile BigInteger totalSupply;
 
     public Token(ScriptHash scriptHash, Neow3j neow) {
         super(scriptHash, neow);
@@ -31,7 +30,8 @@ public class Token extends SmartContract {
     /**
      * Gets the symbol of this token.
      * <p>
-     * The return value is retrieved form the neo-node only once and then cached.
+     * The return value is retrieved form the neo-node only once and then cached in the
+     * {@link ContractStateCache} of the {@link Neow3j} instance used by this token.
      *
      * @return the symbol.
      * @throws IOException                   if there was a problem fetching information from the
@@ -41,10 +41,8 @@ public class Token extends SmartContract {
      */
     public String getSymbol() throws IOException,
             UnexpectedReturnTypeException {
-        if (symbol == null) {
-            symbol = callFuncReturningString(SYMBOL);
-        }
-        return symbol;
+        return ContractStateCache.forNeow3j(neow)
+                .get(scriptHash, SYMBOL, () -> callFuncReturningString(SYMBOL));
     }
 
     /**
@@ -68,7 +66,8 @@ public class Token extends SmartContract {
     /**
      * Gets the number of fractions that one unit of this token can be divided into.
      * <p>
-     * The return value is retrieved form the neo-node only once and then cached.
+     * The return value is retrieved form the neo-node only once and then cached in the
+     * {@link ContractStateCache} of the {@link Neow3j} instance used by this token.
      *
      * @return the the number of fractions.
      * @throws IOException                   if there was a problem fetching information from the
@@ -77,10 +76,8 @@ public class Token extends SmartContract {
      *                                       interpretable as a number.
      */
     public int getDecimals() throws IOException, UnexpectedReturnTypeException {
-        if (decimals == null) {
-            decimals = callFuncReturningInt(DECIMALS).intValue();
-        }
-        return decimals;
+        return ContractStateCache.forNeow3j(neow)
+                .get(scriptHash, DECIMALS, () -> callFuncReturningInt(DECIMALS).intValue());
     }
 
     /**
@@ -14,6 +14,7 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.methods.response.NeoCalculateNetworkFee;
 import io.neow3j.protocol.core.methods.response.NeoInvokeScript;
 import io.neow3j.transaction.HighPriorityAttribute;
+import io.neow3j.transaction.InvocationScript;
 import io.neow3j.transaction.Signer;
 import io.neow3j.transaction.Transaction;
 import io.neow3j.transaction.TransactionAttribute;
@@ -21,6 +22,8 @@ import io.neow3j.transaction.VerificationScript;
 import io.neow3j.transaction.Witness;
 import io.neow3j.transaction.WitnessScope;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Async;
 import io.neow3j.utils.Numeric;
 import io.neow3j.wallet.Account;
 import io.neow3j.wallet.Wallet;
@@ -29,10 +32,13 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -45,6 +51,9 @@ import java.util.stream.Stream;
  */
 public class TransactionBuilder {
 
+    // The key of the committee members' script hashes in the NativeContractParameterCache.
+    private static final String COMMITTEE_SCRIPT_HASHES = "committeeScriptHashes";
+
     protected Neow3j neow;
     protected Wallet wallet;
     protected Transaction transaction;
@@ -279,34 +288,16 @@ public class TransactionBuilder {
 
     // package-private visible for testability purpose.
     Transaction buildTransaction() throws Throwable {
-        if (wallet == null) {
-            throw new TransactionConfigurationException(
-                    "Cannot build a transaction without a wallet.");
-        }
-
-        if (script == null || script.length == 0) {
-            throw new TransactionConfigurationException(
-                    "Cannot build a transaction without a script.");
-        }
+        checkWalletAndScript();
 
         if (validUntilBlock == null) {
-            // If validUntilBlock is not set explicitly, then set it to the current max. It can
-            // happen that the neo-node rejects the transaction when we set the validUntilBlock
-            // to the max. To be sure that this does not happen, we decrement the max by 1.
-            this.validUntilBlock(
-                    fetchCurrentBlockNr() + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1);
+            this.validUntilBlock(validUntilBlockFromBlockCount(fetchCurrentBlockNr()));
         }
 
-        if (signers.isEmpty()) {
-            throw new IllegalStateException(
-                    "Can't create a transaction without any signer. A transaction requires at " +
-                    "least one signer with witness scope fee-only or higher.");
-        }
+        checkSigners();
 
         if (isHighPriority() && !isAllowedForHighPriority()) {
-            throw new IllegalStateException(
-                    "This transaction does not have a committee member as signer. Only committee " +
-                    "members can send transactions with high priority.");
+            throw highPriorityNotAllowed();
         }
 
         long systemFee = getSystemFeeForScript();
@@ -325,6 +316,120 @@ public class TransactionBuilder {
                 networkFee, attributes, script, new ArrayList<>());
     }
 
+    /*
+     * Builds the transaction like buildTransaction() but without blocking. The RPC calls that do
+     * not depend on each other, i.e., fetching the block count, the system fee, the committee and
+     * the sender's GAS balance, are made concurrently. Only the network fee calculation waits for
+     * the block count, because it requires the final transaction.
+     */
+    // package-private visible for testability purpose.
+    CompletableFuture<Transaction> buildTransactionAsync() {
+        List<VerificationScript> verificationScripts;
+        try {
+            checkWalletAndScript();
+            checkSigners();
+            verificationScripts = getSignerVerificationScripts();
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+
+        CompletableFuture<Void> highPriorityCheck = isHighPriority()
+                ? Async.run(this::getCommitteeScriptHashes).thenAccept(committee -> {
+                    if (!isAllowedForHighPriority(committee)) {
+                        throw highPriorityNotAllowed();
+                    }
+                })
+                : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Long> validUntilBlockFuture = validUntilBlock != null
+                ? CompletableFuture.completedFuture(validUntilBlock)
+                : neow.getBlockCount().sendAsync().thenApply(response ->
+                        validUntilBlockFromBlockCount(response.getBlockIndex().longValue()));
+
+        CompletableFuture<Long> systemFeeFuture = neow
+                .invokeScript(Base64.encode(script), signers.toArray(new Signer[0]))
+                .sendAsync()
+                .thenApply(TransactionBuilder::getSystemFeeFromResponse);
+
+        CompletableFuture<Long> networkFeeFuture;
+        if (canCalculateNetworkFeeLocally(verificationScripts)) {
+            networkFeeFuture = validUntilBlockFuture.thenCombine(
+                    Async.run(() -> NetworkFeeCalculator.fromPolicy(neow)),
+                    (vub, calculator) -> calculator.calculateNetworkFee(
+                            createTransactionForNetworkFeeCalculation(vub, verificationScripts),
+                            verificationScripts));
+        } else {
+            networkFeeFuture = validUntilBlockFuture
+                    .thenCompose(vub -> neow.calculateNetworkFee(Numeric.toHexStringNoPrefix(
+                            createTransactionForNetworkFeeCalculation(vub, verificationScripts)
+                                    .toArray())).sendAsync())
+                    .thenApply(response -> response.getNetworkFee().getNetworkFee().longValue());
+        }
+
+        CompletableFuture<BigInteger> senderGasBalanceFuture = supplier != null || consumer != null
+                ? Async.run(this::getSenderGasBalance)
+                : CompletableFuture.completedFuture(null);
+
+        // The futures are listed in the order in which the synchronous build would fail. If
+        // several of them fail, allOf() completes with the exception of the first one.
+        return CompletableFuture.allOf(highPriorityCheck, validUntilBlockFuture,
+                systemFeeFuture, networkFeeFuture, senderGasBalanceFuture)
+                .thenApply(ignored -> {
+                    long vub = validUntilBlockFuture.join();
+                    validUntilBlock(vub);
+                    long systemFee = systemFeeFuture.join();
+                    long networkFee = networkFeeFuture.join() + additionalNetworkFee;
+                    BigInteger fees = BigInteger.valueOf(systemFee + networkFee);
+                    BigInteger senderGasBalance = senderGasBalanceFuture.join();
+                    if (supplier != null && fees.compareTo(senderGasBalance) >= 0) {
+                        throw new CompletionException(supplier.get());
+                    } else if (consumer != null && fees.compareTo(senderGasBalance) > 0) {
+                        consumer.accept(fees, senderGasBalance);
+                    }
+                    return new Transaction(neow, version, nonce, vub, signers, systemFee,
+                            networkFee, attributes, script, new ArrayList<>());
+                });
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private void checkWalletAndScript() {
+        if (wallet == null) {
+            throw new TransactionConfigurationException(
+                    "Cannot build a transaction without a wallet.");
+        }
+
+        if (script == null || script.length == 0) {
+            throw new TransactionConfigurationException(
+                    "Cannot build a transaction without a script.");
+        }
+    }
+
+    private void checkSigners() {
+        if (signers.isEmpty()) {
+            throw new IllegalStateException(
+                    "Can't create a transaction without any signer. A transaction requires at " +
+                    "least one signer with witness scope fee-only or higher.");
+        }
+    }
+
+    private static long validUntilBlockFromBlockCount(long blockCount) {
+        // If validUntilBlock is not set explicitly, then set it to the current max. It can
+        // happen that the neo-node rejects the transaction when we set the validUntilBlock
+        // to the max. To be sure that this does not happen, we decrement the max by 1.
+        return blockCount + NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT - 1;
+    }
+
+    private static IllegalStateException highPriorityNotAllowed() {
+        return new IllegalStateException(
+                "This transaction does not have a committee member as signer. Only committee " +
+                "members can send transactions with high priority.");
+    }
+
     // Checks if this transaction builder contains a high priority attribute.
     private boolean isHighPriority() {
         return attributes.stream().anyMatch(t -> t.getType() == HIGH_PRIORITY);
@@ -332,13 +437,23 @@ public class TransactionBuilder {
 
     // Checks if this transaction contains a signer that is a committee member.
     private boolean isAllowedForHighPriority() throws IOException {
-        List<ScriptHash> committee = neow.getCommittee().send()
-                .getCommittee()
-                .stream().map(ECPublicKey::new)
+        return isAllowedForHighPriority(getCommitteeScriptHashes());
+    }
+
+    private List<ScriptHash> getCommitteeScriptHashes() throws IOException {
+        return NativeContractParameterCache.forNeow3j(neow).get(NeoToken.SCRIPT_HASH,
+                COMMITTEE_SCRIPT_HASHES,
+                () -> toScriptHashes(neow.getCommittee().send().getCommittee()));
+    }
+
+    private static List<ScriptHash> toScriptHashes(List<String> publicKeys) {
+        return publicKeys.stream().map(ECPublicKey::new)
                 .map(key -> key.getEncoded(true))
                 .map(ScriptHash::fromPublicKey)
                 .collect(Collectors.toList());
+    }
 
+    private boolean isAllowedForHighPriority(List<ScriptHash> committee) {
         boolean signersContainSingleSigCommitteeMember = signers.stream()
                 .map(Signer::getScriptHash).anyMatch(committee::contains);
         if (signersContainSingleSigCommitteeMember) {
@@ -386,10 +501,10 @@ public class TransactionBuilder {
         // The signers are required for `invokescript` calls that will hit a
         // CheckWitness check in the smart contract.
         Signer[] signers = this.signers.toArray(new Signer[0]);
-        String script = Numeric.toHexStringNoPrefix(this.script);
-        NeoInvokeScript response = neow.invokeScript(
-                Base64.encode(Numeric.hexStringToByteArray(script)), signers)
-                .send();
+        return getSystemFeeFromResponse(neow.invokeScript(Base64.encode(script), signers).send());
+    }
+
+    private static long getSystemFeeFromResponse(NeoInvokeScript response) {
         if (response.hasError()) {
             throw new TransactionConfigurationException(
                     "The script is invalid. The vm returned the error code " +
@@ -410,19 +525,49 @@ public class TransactionBuilder {
      * verification. Since the transaction is not signed yet, the calculation works with
      * expected signatures. This information is derived from the verification scripts of all
      * signers added to the transaction.
+     * <p>
+     * If all signers have a single-sig or multi-sig verification script, the fee is calculated
+     * locally with the {@link NetworkFeeCalculator}. It takes the policy parameters from the
+     * {@link NativeContractParameterCache}, so that only the first build fetches them.
+     * Otherwise, the neo-node calculates the fee.
      */
     private long calcNetworkFee() throws IOException {
-        Transaction tx = new Transaction(neow, version, nonce, validUntilBlock, signers, 0,
-                0, attributes, script, new ArrayList<>());
-        getSignerAccounts().forEach(s -> {
-            tx.addWitness(new Witness(new byte[]{}, s.getVerificationScript().getScript()));
-        });
+        List<VerificationScript> verificationScripts = getSignerVerificationScripts();
+        Transaction tx = createTransactionForNetworkFeeCalculation(validUntilBlock,
+                verificationScripts);
+        if (canCalculateNetworkFeeLocally(verificationScripts)) {
+            return NetworkFeeCalculator.fromPolicy(neow)
+                    .calculateNetworkFee(tx, verificationScripts);
+        }
         NeoCalculateNetworkFee networkFeeResult = neow
                 .calculateNetworkFee(Numeric.toHexStringNoPrefix(tx.toArray())).send();
         BigInteger networkFee = networkFeeResult.getNetworkFee().getNetworkFee();
         return networkFee.longValue();
     }
 
+    // The network fee is calculated locally unless one of the signers has a verification script
+    // whose execution cost is only known to the neo-node.
+    private static boolean canCalculateNetworkFeeLocally(
+            List<VerificationScript> verificationScripts) {
+        return verificationScripts.stream().allMatch(NetworkFeeCalculator::isSupported);
+    }
+
+    private Transaction createTransactionForNetworkFeeCalculation(long validUntilBlock,
+            List<VerificationScript> verificationScripts) {
+        Transaction tx = new Transaction(neow, version, nonce, validUntilBlock, signers, 0,
+                0, attributes, script, new ArrayList<>());
+        verificationScripts.forEach(s -> {
+            tx.addWitness(new Witness(new byte[]{}, s.getScript()));
+        });
+        return tx;
+    }
+
+    private List<VerificationScript> getSignerVerificationScripts() {
+        return getSignerAccounts().stream()
+                .map(Account::getVerificationScript)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets the signer accounts held in the wallet.
      *
@@ -484,19 +629,65 @@ public class TransactionBuilder {
      */
     public Transaction sign() throws Throwable {
         transaction = buildTransaction();
-        byte[] txBytes = transaction.getHashData();
-        transaction.getSigners().forEach(signer -> {
+        signTransaction(transaction, transaction.getHashData());
+        return transaction;
+    }
+
+    /**
+     * Builds the transaction like {@link TransactionBuilder#sign()}, but without blocking.
+     * <p>
+     * The RPC calls required for building the transaction are made concurrently wherever they do
+     * not depend on each other.
+     *
+     * @return a future that completes with the signed transaction, or exceptionally with the
+     * exception that {@link TransactionBuilder#sign()} would throw.
+     */
+    public CompletableFuture<Transaction> signAsync() {
+        // The network magic number is usually cached already. If not, fetch it while building.
+        return buildTransactionAsync().thenCombine(Async.run(neow::getNetworkMagicNumber),
+                (tx, magic) -> {
+                    signTransaction(tx,
+                            ArrayUtils.concatenate(magic, tx.toArrayWithoutWitnesses()));
+                    transaction = tx;
+                    return tx;
+                });
+    }
+
+    private void signTransaction(Transaction tx, byte[] txBytes) {
+        // Collect the key pairs of all signers first, so that the transaction is hashed only once
+        // and all signatures can be created in parallel.
+        List<Account> signerAccs = new ArrayList<>();
+        List<List<ECKeyPair>> keyPairs = new ArrayList<>();
+        tx.getSigners().forEach(signer -> {
             // There's no need to check if every signer has its account in the wallet here.
             // This check has already been executed within building the transaction above
             // when calculating the network fees.
             Account signerAcc = wallet.getAccount(signer.getScriptHash());
+            signerAccs.add(signerAcc);
             if (signerAcc.isMultiSig()) {
-                signWithMultiSigAccount(txBytes, signerAcc);
+                keyPairs.add(getMultiSigKeyPairs(signerAcc));
             } else {
-                signWithNormalAccount(txBytes, signerAcc);
+                keyPairs.add(Collections.singletonList(getKeyPair(signerAcc)));
             }
         });
-        return transaction;
+        List<SignatureData> sigs = Sign.signWithAll(txBytes, keyPairs.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+
+        int from = 0;
+        for (int i = 0; i < signerAccs.size(); i++) {
+            int to = from + keyPairs.get(i).size();
+            List<SignatureData> accSigs = sigs.subList(from, to);
+            Account signerAcc = signerAccs.get(i);
+            if (signerAcc.isMultiSig()) {
+                tx.addWitness(Witness.createMultiSigWitness(accSigs,
+                        signerAcc.getVerificationScript()));
+            } else {
+                tx.addWitness(new Witness(InvocationScript.fromSignature(accSigs.get(0)),
+                        new VerificationScript(keyPairs.get(i).get(0).getPublicKey())));
+            }
+            from = to;
+        }
     }
 
     /**
@@ -514,22 +705,40 @@ public class TransactionBuilder {
         return buildTransaction();
     }
 
-    private void signWithNormalAccount(byte[] txBytes, Account acc) {
-        ECKeyPair keyPair;
+    /**
+     * Builds the transaction like {@link TransactionBuilder#getUnsignedTransaction()}, but without
+     * blocking.
+     * <p>
+     * The RPC calls required for building the transaction are made concurrently wherever they do
+     * not depend on each other.
+     *
+     * @return a future that completes with the unsigned transaction, or exceptionally with the
+     * exception that {@link TransactionBuilder#getUnsignedTransaction()} would throw.
+     */
+    public CompletableFuture<Transaction> getUnsignedTransactionAsync() {
+        return buildTransactionAsync();
+    }
+
+    private ECKeyPair getKeyPair(Account acc) {
         try {
-            keyPair = acc.getECKeyPair();
+            return acc.getECKeyPair();
         } catch (IllegalStateException e) {
             throw new TransactionConfigurationException(
                     "Can't create transaction signature because account with script " +
                     acc.getScriptHash() + " doesn't hold a private key.", e);
         }
-        transaction.addWitness(Witness.create(txBytes, keyPair));
     }
 
-    private void signWithMultiSigAccount(byte[] txBytes, Account signerAcc) {
-        List<SignatureData> sigs = new ArrayList<>();
+    // Gets the key pairs of the multi-sig account's participants that are in the wallet. Only as
+    // many key pairs as required by the signing threshold are returned.
+    private List<ECKeyPair> getMultiSigKeyPairs(Account signerAcc) {
+        List<ECKeyPair> keyPairs = new ArrayList<>();
         VerificationScript multiSigVerifScript = signerAcc.getVerificationScript();
+        int m = multiSigVerifScript.getSigningThreshold();
         for (ECPublicKey pubKey : multiSigVerifScript.getPublicKeys()) {
+            if (keyPairs.size() == m) {
+                break;
+            }
             ScriptHash accScriptHash = ScriptHash.fromPublicKey(pubKey.getEncoded(true));
             Account a;
             try {
@@ -537,22 +746,19 @@ public class TransactionBuilder {
             } catch (IllegalArgumentException e) {
                 continue;
             }
-            ECKeyPair ecKeyPair;
             try {
-                ecKeyPair = a.getECKeyPair();
+                keyPairs.add(a.getECKeyPair());
             } catch (IllegalStateException e) {
                 continue;
             }
-            sigs.add(Sign.signMessage(txBytes, ecKeyPair));
         }
-        int m = multiSigVerifScript.getSigningThreshold();
-        if (sigs.size() < m) {
+        if (keyPairs.size() < m) {
             throw new TransactionConfigurationException(
                     "Can't create transaction signature. Wallet does not contain enough accounts " +
                     "(with decrypted private keys) that are part of the multi-sig account with " +
                     "script hash " + signerAcc.getScriptHash() + ".");
         }
-        transaction.addWitness(Witness.createMultiSigWitness(sigs, multiSigVerifScript));
+        return keyPairs;
     }
 
     /**
@@ -59,12 +59,13 @@ public class ContractManagementTest {
     public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort());
 
     @Before
-    public void setUp() {
+    public void setUp() throws IOException {
         // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
         int port = wireMockRule.port();
         WireMock.configureFor(port);
         neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
         neow3j.setNetworkMagicNumber(769);
+        ContractTestHelper.setUpWireMockForPolicyFees();
         account1 = Account.fromWIF("L1WMhxazScMhUrdv34JqQb1HFSQmWeN2Kpc1R9JGKwL7CDNP21uR");
     }
 
@@ -0,0 +1,209 @@
+package io.neow3j.contract;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetContractState.ContractState;
+import io.neow3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ContractStateCacheTest {
+
+    private static final ScriptHash CONTRACT = NeoToken.SCRIPT_HASH;
+    private static final String KEY = "symbol";
+
+    private AtomicLong time;
+    private AtomicInteger updateCounter;
+    private AtomicInteger stateLoads;
+    private AtomicInteger loads;
+    private ContractStateCache cache;
+
+    @Before
+    public void setUp() {
+        time = new AtomicLong(0);
+        updateCounter = new AtomicInteger(0);
+        stateLoads = new AtomicInteger(0);
+        loads = new AtomicInteger(0);
+        cache = new ContractStateCache(contract -> {
+            stateLoads.incrementAndGet();
+            return new ContractState(1, updateCounter.get(), "0x" + contract, null, null);
+        }, time::get).refreshInterval(10);
+    }
+
+    @Test
+    public void cachedStateIsReused() throws IOException {
+        ContractState state = cache.getContractState(CONTRACT);
+
+        assertThat(cache.getContractState(CONTRACT), is(state));
+        assertThat(stateLoads.get(), is(1));
+        cache.getContractState(GasToken.SCRIPT_HASH);
+        assertThat(stateLoads.get(), is(2));
+    }
+
+    @Test
+    public void cachedValueIsReused() throws IOException {
+        assertThat(get(CONTRACT, KEY), is(1));
+        assertThat(get(CONTRACT, KEY), is(1));
+        assertThat(get(CONTRACT, "decimals"), is(2));
+        assertThat(get(GasToken.SCRIPT_HASH, KEY), is(3));
+        assertThat(stateLoads.get(), is(0));
+    }
+
+    @Test
+    public void keepValueIfUpdateCounterIsUnchanged() throws IOException {
+        cache.getContractState(CONTRACT);
+        get(CONTRACT, KEY);
+
+        time.set(10);
+
+        assertThat(get(CONTRACT, KEY), is(1));
+        assertThat(stateLoads.get(), is(2));
+    }
+
+    @Test
+    public void dropValueIfUpdateCounterChanged() throws IOException {
+        cache.getContractState(CONTRACT);
+        get(CONTRACT, KEY);
+
+        updateCounter.incrementAndGet();
+        time.set(9);
+        assertThat(get(CONTRACT, KEY), is(1));
+        time.set(10);
+
+        assertThat(get(CONTRACT, KEY), is(2));
+        assertThat(cache.getContractState(CONTRACT).getUpdateCounter(), is(1));
+    }
+
+    @Test
+    public void dropOutdatedValueIfUpdateCounterWasUnknown() throws IOException {
+        get(CONTRACT, KEY);
+
+        time.set(10);
+
+        assertThat(get(CONTRACT, KEY), is(2));
+        assertThat(stateLoads.get(), is(1));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedContract() throws IOException {
+        cache.maxSize(2);
+        get(CONTRACT, KEY);
+        get(GasToken.SCRIPT_HASH, KEY);
+        get(CONTRACT, KEY);
+
+        get(PolicyContract.SCRIPT_HASH, KEY);
+
+        assertThat(cache.size(), is(2));
+        assertThat(get(CONTRACT, KEY), is(1));
+        assertThat(get(GasToken.SCRIPT_HASH, KEY), is(4));
+    }
+
+    @Test
+    public void invalidate() throws IOException {
+        get(CONTRACT, KEY);
+        get(GasToken.SCRIPT_HASH, KEY);
+
+        cache.invalidate(CONTRACT);
+
+        assertThat(get(CONTRACT, KEY), is(3));
+        assertThat(get(GasToken.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void doNotCacheUnknownContract() throws IOException {
+        cache = new ContractStateCache(contract -> {
+            stateLoads.incrementAndGet();
+            return null;
+        }, time::get);
+
+        assertThat(cache.getContractState(CONTRACT), is(nullValue()));
+        assertThat(cache.getContractState(CONTRACT), is(nullValue()));
+        assertThat(stateLoads.get(), is(2));
+    }
+
+    @Test
+    public void doNotCacheFailedLoad() throws IOException {
+        try {
+            cache.get(CONTRACT, KEY, () -> {
+                throw new IOException("Connection refused.");
+            });
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Connection refused."));
+        }
+
+        assertThat(get(CONTRACT, KEY), is(1));
+    }
+
+    @Test
+    public void loadConcurrentRequestsOnlyOnce() throws Exception {
+        int threads = 8;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(CONTRACT, KEY, () -> {
+                    loading.countDown();
+                    await(release);
+                    return loads.incrementAndGet();
+                })));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS), is(true));
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), is(1));
+            }
+            assertThat(loads.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cacheDoesNotKeepNeow3jReachable() throws InterruptedException {
+        Neow3j neow3j = Neow3j.build(new HttpService());
+        ContractStateCache.forNeow3j(neow3j);
+        WeakReference<Neow3j> neow3jRef = new WeakReference<>(neow3j);
+        neow3j = null;
+
+        for (int i = 0; i < 50 && neow3jRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(neow3jRef.get(), is(nullValue()));
+    }
+
+    private int get(ScriptHash contract, String key) throws IOException {
+        return cache.get(contract, key, loads::incrementAndGet);
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
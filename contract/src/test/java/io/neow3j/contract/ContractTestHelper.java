@@ -3,16 +3,20 @@ package io.neow3j.contract;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static io.neow3j.contract.ContractParameter.hash160;
+import static java.util.Collections.singletonList;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.matching.ContainsPattern;
 import com.github.tomakehurst.wiremock.matching.RegexPattern;
+import io.neow3j.crypto.Base64;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.regex.Pattern;
 
 public class ContractTestHelper {
 
@@ -44,6 +48,12 @@ public class ContractTestHelper {
                         .withBody(responseBody)));
     }
 
+    // Stubs the PolicyContract calls required for calculating network fees locally.
+    public static void setUpWireMockForPolicyFees() throws IOException {
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+    }
+
     public static void setUpWireMockForInvokeFunction(String contractFunction, String responseFile)
             throws IOException {
 
@@ -74,6 +84,29 @@ public class ContractTestHelper {
                         .withBody(responseBody)));
     }
 
+    // Stubs the single invokescript call that fetches the token balances of all given accounts.
+    public static void setUpWireMockForBalancesOf(ScriptHash token, String responseFile,
+            ScriptHash... accounts) throws IOException {
+
+        String responseBody = loadFile("/responses/" + responseFile);
+        ScriptBuilder b = new ScriptBuilder();
+        for (ScriptHash account : accounts) {
+            b.contractCall(token, "balanceOf", singletonList(hash160(account)));
+        }
+
+        WireMock.stubFor(post(urlEqualTo("/"))
+                .withRequestBody(new RegexPattern(""
+                                                  + ".*\"method\":\"invokescript\""
+                                                  + ".*\"params\":.*\""
+                                                  + Pattern.quote(Base64.encode(b.toArray()))
+                                                  + "\".*"))
+                // Takes precedence over stubs for arbitrary invokescript calls.
+                .atPriority(1)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(responseBody)));
+    }
+
     public static String loadFile(String fileName) throws IOException {
         String absFileName = ContractTestHelper.class.getResource(fileName).getFile();
         FileInputStream inStream = new FileInputStream(new File(absFileName));
@@ -6,6 +6,7 @@ import static io.neow3j.contract.ContractParameter.byteArray;
 import static io.neow3j.contract.ContractParameter.hash160;
 import static io.neow3j.contract.ContractParameter.integer;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForBalanceOf;
+import static io.neow3j.contract.ContractTestHelper.setUpWireMockForBalancesOf;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForCall;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForGetBlockCount;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForInvokeFunction;
@@ -58,11 +59,12 @@ public class FungibleTokenTest {
     private static final String NEP17_TRANSFER = "transfer";
 
     @Before
-    public void setUp() {
+    public void setUp() throws IOException {
         // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
         int port = this.wireMockRule.port();
         WireMock.configureFor(port);
         Neow3j neow = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+        ContractTestHelper.setUpWireMockForPolicyFees();
 
         neoToken = new FungibleToken(NEO_TOKEN_SCRIPT_HASH, neow);
         gasToken = new FungibleToken(GAS_TOKEN_SCRIPT_HASH, neow);
@@ -178,8 +180,8 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals_gas.json");
-        setUpWireMockForInvokeFunction("balanceOf",
-                "invokefunction_balanceOf_300000000.json");
+        setUpWireMockForBalancesOf(GAS_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_300000000.json", account1.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(GAS_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -203,8 +205,8 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals_gas.json");
-        setUpWireMockForInvokeFunction("balanceOf",
-                "invokefunction_balanceOf_300000000.json");
+        setUpWireMockForBalancesOf(GAS_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_300000000.json", account1.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(GAS_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -248,10 +250,9 @@ public class FungibleTokenTest {
 
     @Test
     public void testGetBalanceOfWallet() throws Exception {
-        setUpWireMockForCall("invokefunction", "invokefunction_balanceOf_300000000.json",
-                "balanceOf", account1.getScriptHash().toString());
-        setUpWireMockForCall("invokefunction", "invokefunction_balanceOf_300000000.json",
-                "balanceOf", account2.getScriptHash().toString());
+        setUpWireMockForBalancesOf(GAS_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_300000000_300000000.json", account2.getScriptHash(),
+                account1.getScriptHash());
         assertThat(gasToken.getBalanceOf(Wallet.withAccounts(account1, account2)),
                 is(new BigInteger("600000000")));
     }
@@ -357,8 +358,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4_3.json",
+                account1.getScriptHash(), account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH,
@@ -386,8 +388,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4_3.json",
+                account1.getScriptHash(), account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH,
@@ -419,9 +422,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4_3.json",
+                account1.getScriptHash(), account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH, NEP17_TRANSFER, asList(
@@ -457,7 +460,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4.json",
+                account1.getScriptHash(), account2.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -478,7 +483,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4.json",
+                account1.getScriptHash(), account2.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -505,9 +512,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_0.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_0.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_0_0_3.json",
+                account1.getScriptHash(), account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -536,9 +543,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(multiSigAccount.getScriptHash(),
-                "invokefunction_balanceOf_3.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_4.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_3_4.json",
+                multiSigAccount.getScriptHash(), account1.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH,
@@ -574,9 +581,8 @@ public class FungibleTokenTest {
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
         setUpWireMockForGetBlockCount(1000);
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_4.json");
-        setUpWireMockForBalanceOf(multiSigAccount.getScriptHash(),
-                "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_4.json", account1.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -597,8 +603,6 @@ public class FungibleTokenTest {
     @Test
     public void testTransfer_MultiSigNotEnoughSignersPresent_NoOtherAccountPresent()
             throws IOException {
-        setUpWireMockForBalanceOf(multiSigAccount.getScriptHash(),
-                "invokefunction_balanceOf_3.json");
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
         setUpWireMockForInvokeFunction("symbol",
@@ -619,9 +623,9 @@ public class FungibleTokenTest {
 
     @Test
     public void testTransfer_insufficientBalance() throws IOException {
-        setUpWireMockForBalanceOf(account1.getScriptHash(), "invokefunction_balanceOf_5.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_4_3.json",
+                account1.getScriptHash(), account2.getScriptHash(), account3.getScriptHash());
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
         setUpWireMockForInvokeFunction("symbol",
@@ -643,8 +647,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_3_4.json",
+                account3.getScriptHash(), account2.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH,
@@ -677,7 +682,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_4.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_4_3.json",
+                account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -705,8 +712,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_0.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_0_3.json",
+                account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder()
                 .contractCall(NEO_TOKEN_SCRIPT_HASH, NEP17_TRANSFER, asList(
@@ -728,8 +736,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account2.getScriptHash(), "invokefunction_balanceOf_0.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(), "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_0_3.json",
+                account2.getScriptHash(), account3.getScriptHash());
 
         byte[] expectedScript = new ScriptBuilder().contractCall(NEO_TOKEN_SCRIPT_HASH,
                 NEP17_TRANSFER, asList(
@@ -753,8 +762,6 @@ public class FungibleTokenTest {
     testTransferFromSpecificAccounts_MultiSigNotEnoughSignersPresent_NoOtherAccountPresent
     ()
             throws IOException {
-        setUpWireMockForBalanceOf(multiSigAccount.getScriptHash(),
-                "invokefunction_balanceOf_3.json");
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
         Wallet wallet = Wallet.withAccounts(multiSigAccount);
@@ -777,10 +784,9 @@ public class FungibleTokenTest {
         setUpWireMockForGetBlockCount(1000);
         setUpWireMockForInvokeFunction("decimals",
                 "invokefunction_decimals.json");
-        setUpWireMockForBalanceOf(account1.getScriptHash(),
-                "invokefunction_balanceOf_5.json");
-        setUpWireMockForBalanceOf(account3.getScriptHash(),
-                "invokefunction_balanceOf_3.json");
+        setUpWireMockForBalancesOf(NEO_TOKEN_SCRIPT_HASH,
+                "invokescript_balanceOf_5_3.json",
+                account1.getScriptHash(), account3.getScriptHash());
         setUpWireMockForInvokeFunction("symbol",
                 "invokefunction_symbol_neo.json");
 
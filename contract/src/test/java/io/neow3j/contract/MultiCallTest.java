@@ -0,0 +1,129 @@
+package io.neow3j.contract;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.neow3j.contract.ContractParameter.hash160;
+import static io.neow3j.contract.ContractTestHelper.setUpWireMockForCall;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.neow3j.contract.exceptions.InvocationConfigurationException;
+import io.neow3j.contract.exceptions.UnexpectedReturnTypeException;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MultiCallTest {
+
+    private static final ScriptHash ACCOUNT =
+            new ScriptHash("969a77db482f74ce27105f760efa139223431394");
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort());
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private Neow3j neow;
+
+    @Before
+    public void setUp() {
+        // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
+        int port = this.wireMockRule.port();
+        WireMock.configureFor(port);
+        neow = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+    }
+
+    @Test
+    public void testScriptContainsAllCallsInOrder() {
+        MultiCall multiCall = new MultiCall(neow)
+                .call(NeoToken.SCRIPT_HASH, "symbol")
+                .call(GasToken.SCRIPT_HASH, "balanceOf", hash160(ACCOUNT));
+
+        byte[] expectedScript = new ScriptBuilder()
+                .contractCall(NeoToken.SCRIPT_HASH, "symbol", asList())
+                .contractCall(GasToken.SCRIPT_HASH, "balanceOf", singletonList(hash160(ACCOUNT)))
+                .toArray();
+
+        assertThat(multiCall.size(), is(2));
+        assertThat(multiCall.getScript(), is(expectedScript));
+    }
+
+    @Test
+    public void testInvokeWithOneRequest() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_multicall.json");
+
+        MultiCall.Results results = new MultiCall(neow)
+                .call(NeoToken.SCRIPT_HASH, "symbol")
+                .call(GasToken.SCRIPT_HASH, "balanceOf", hash160(ACCOUNT))
+                .call(NeoToken.SCRIPT_HASH, "unregisterCandidate", hash160(ACCOUNT))
+                .invoke();
+
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")));
+        assertThat(results.size(), is(3));
+        assertThat(results.getString(0), is("NEO"));
+        assertThat(results.getInteger(1), is(new BigInteger("300000000")));
+        assertThat(results.getBoolean(2), is(true));
+    }
+
+    @Test
+    public void testInvokeWithoutCalls() throws IOException {
+        MultiCall.Results results = new MultiCall(neow).invoke();
+
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")));
+        assertThat(results.size(), is(0));
+    }
+
+    @Test
+    public void testUnexpectedReturnType() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_multicall.json");
+        MultiCall.Results results = new MultiCall(neow)
+                .call(NeoToken.SCRIPT_HASH, "symbol")
+                .call(GasToken.SCRIPT_HASH, "balanceOf", hash160(ACCOUNT))
+                .call(NeoToken.SCRIPT_HASH, "unregisterCandidate", hash160(ACCOUNT))
+                .invoke();
+
+        exceptionRule.expect(UnexpectedReturnTypeException.class);
+        results.getInteger(0);
+    }
+
+    @Test
+    public void testFault() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_exception.json");
+
+        exceptionRule.expect(InvocationConfigurationException.class);
+        exceptionRule.expectMessage("Value was either too large or too small for an Int32.");
+        new MultiCall(neow).call(NeoToken.SCRIPT_HASH, "symbol").invoke();
+    }
+
+    @Test
+    public void testReturnValueCountDoesNotMatchCalls() throws IOException {
+        setUpWireMockForCall("invokescript", "invokefunction_balanceOf_5.json");
+
+        exceptionRule.expect(InvocationConfigurationException.class);
+        exceptionRule.expectMessage("Expected 2 return values but the invocation returned 1.");
+        new MultiCall(neow)
+                .call(NeoToken.SCRIPT_HASH, "balanceOf", hash160(ACCOUNT))
+                .call(GasToken.SCRIPT_HASH, "balanceOf", hash160(ACCOUNT))
+                .invoke();
+    }
+
+    @Test
+    public void testEmptyFunction() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        new MultiCall(neow).call(NeoToken.SCRIPT_HASH, "");
+    }
+
+}
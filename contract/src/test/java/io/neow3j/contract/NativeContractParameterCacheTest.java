@@ -0,0 +1,205 @@
+package io.neow3j.contract;
+
+import static io.neow3j.contract.ContractParameter.integer;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class NativeContractParameterCacheTest {
+
+    private static final String KEY = "getFeePerByte";
+
+    private AtomicLong time;
+    private AtomicInteger loads;
+    private NativeContractParameterCache cache;
+
+    @Before
+    public void setUp() {
+        time = new AtomicLong(0);
+        loads = new AtomicInteger(0);
+        cache = new NativeContractParameterCache(null, time::get).refreshInterval(10);
+    }
+
+    @Test
+    public void cachedValueIsReused() throws IOException {
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(1));
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(1));
+        assertThat(get(PolicyContract.SCRIPT_HASH, "getExecFeeFactor"), is(2));
+        assertThat(get(NeoToken.SCRIPT_HASH, KEY), is(3));
+    }
+
+    @Test
+    public void invalidateWhenBlockCallsContract() throws IOException {
+        get(PolicyContract.SCRIPT_HASH, KEY);
+        get(NeoToken.SCRIPT_HASH, KEY);
+
+        cache.processBlock(createBlock(1, new ScriptBuilder().contractCall(
+                PolicyContract.SCRIPT_HASH, "setFeePerByte", singletonList(integer(2000)))
+                .toArray()));
+
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(3));
+        assertThat(get(NeoToken.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void keepValueWhenBlockDoesNotCallContract() throws IOException {
+        get(PolicyContract.SCRIPT_HASH, KEY);
+
+        cache.processBlock(createBlock(1, new ScriptBuilder().contractCall(
+                GasToken.SCRIPT_HASH, "symbol", new ArrayList<>()).toArray()));
+
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(1));
+    }
+
+    @Test
+    public void invalidateCommitteeAtStartOfCommitteePeriod() throws IOException {
+        cache.refreshInterval(100);
+        get(NeoToken.SCRIPT_HASH, KEY);
+        get(PolicyContract.SCRIPT_HASH, KEY);
+
+        cache.processBlock(createBlock(
+                NativeContractParameterCache.COMMITTEE_REFRESH_INTERVAL * 2));
+
+        assertThat(get(NeoToken.SCRIPT_HASH, KEY), is(3));
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void refreshAfterIntervalOfBlocks() throws IOException {
+        cache.processBlock(createBlock(1));
+        get(PolicyContract.SCRIPT_HASH, KEY);
+
+        cache.processBlock(createBlock(10));
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(1));
+
+        cache.processBlock(createBlock(11));
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void refreshAfterEstimatedIntervalOfBlocksWithoutBlockStream() throws IOException {
+        cache.blockTime(1000);
+        get(PolicyContract.SCRIPT_HASH, KEY);
+
+        time.set(9999);
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(1));
+
+        time.set(10000);
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void discardValueFetchedConcurrentlyToInvalidation() throws IOException {
+        int value = cache.get(PolicyContract.SCRIPT_HASH, KEY, () -> {
+            cache.invalidate(PolicyContract.SCRIPT_HASH);
+            return loads.incrementAndGet();
+        });
+        assertThat(value, is(1));
+
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(2));
+    }
+
+    @Test
+    public void invalidateAll() throws IOException {
+        get(PolicyContract.SCRIPT_HASH, KEY);
+        get(NeoToken.SCRIPT_HASH, KEY);
+
+        cache.invalidateAll();
+
+        assertThat(get(PolicyContract.SCRIPT_HASH, KEY), is(3));
+        assertThat(get(NeoToken.SCRIPT_HASH, KEY), is(4));
+    }
+
+    @Test
+    public void feeParametersAreCachedByDefault() throws IOException {
+        assertThat(getFeeParameter(), is(1));
+        assertThat(getFeeParameter(), is(1));
+
+        cache.cacheFeeParameters(false);
+        assertThat(getFeeParameter(), is(2));
+        assertThat(getFeeParameter(), is(3));
+    }
+
+    @Test
+    public void boundNumberOfParametersPerContract() throws IOException {
+        for (int i = 0; i <= NativeContractParameterCache.MAX_ENTRIES_PER_CONTRACT; i++) {
+            get(PolicyContract.SCRIPT_HASH, "isBlocked:" + i);
+        }
+        int loadsBefore = loads.get();
+
+        // The least recently used parameter was dropped, the most recent one is still cached.
+        get(PolicyContract.SCRIPT_HASH, "isBlocked:"
+                + NativeContractParameterCache.MAX_ENTRIES_PER_CONTRACT);
+        assertThat(loads.get(), is(loadsBefore));
+        get(PolicyContract.SCRIPT_HASH, "isBlocked:0");
+        assertThat(loads.get(), is(loadsBefore + 1));
+    }
+
+    @Test
+    public void subscribeAgainAfterBlockStreamFailed() throws Exception {
+        Neow3j neow3j = mock(Neow3j.class);
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setResult(createBlock(5));
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        CountDownLatch blockProcessed = new CountDownLatch(1);
+        when(neow3j.blockObservable(true)).thenReturn(Observable.defer(() ->
+                subscriptions.incrementAndGet() == 1
+                        ? Observable.error(new IOException("Connection lost"))
+                        : Observable.just(neoGetBlock).doOnComplete(blockProcessed::countDown)));
+        NativeContractParameterCache cache =
+                new NativeContractParameterCache(neow3j, time::get).blockTime(1);
+        AtomicInteger loads = new AtomicInteger(0);
+        cache.refreshInterval(1).processBlock(createBlock(1));
+        cache.get(PolicyContract.SCRIPT_HASH, KEY, loads::incrementAndGet);
+
+        Disposable disposable = cache.subscribeToNewBlocks();
+        assertThat(blockProcessed.await(1, TimeUnit.SECONDS), is(true));
+        disposable.dispose();
+
+        assertThat(subscriptions.get(), is(2));
+        // The value was fetched before block 5 was processed and is outdated now.
+        assertThat(cache.get(PolicyContract.SCRIPT_HASH, KEY, loads::incrementAndGet), is(2));
+    }
+
+    private int getFeeParameter() throws IOException {
+        return cache.getFeeParameter(PolicyContract.SCRIPT_HASH, KEY, loads::incrementAndGet);
+    }
+
+    private int get(ScriptHash contract, String key) throws IOException {
+        return cache.get(contract, key, loads::incrementAndGet);
+    }
+
+    private NeoBlock createBlock(long index, byte[]... scripts) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (byte[] script : scripts) {
+            transactions.add(new Transaction("0x01", 0, 0, 0L, "", "", "", 0L,
+                    Collections.emptyList(), Collections.emptyList(), Base64.encode(script),
+                    Collections.emptyList()));
+        }
+        return new NeoBlock("", 0L, 0, "", "", 123456789, index, "", null, null, transactions,
+                1, "");
+    }
+
+}
@@ -0,0 +1,119 @@
+package io.neow3j.contract;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.neow3j.contract.ContractTestHelper.setUpWireMockForPolicyFees;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.neow3j.constants.OpCode;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.transaction.Signer;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.VerificationScript;
+import io.neow3j.transaction.Witness;
+import io.neow3j.wallet.Account;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class NetworkFeeCalculatorTest {
+
+    private static final long FEE_PER_BYTE = 1000;
+    private static final long EXEC_FEE_FACTOR = 30;
+
+    private static final byte[] SCRIPT = new ScriptBuilder()
+            .contractCall(NeoToken.SCRIPT_HASH, "symbol", new ArrayList<>()).toArray();
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort());
+
+    private final NetworkFeeCalculator calculator =
+            new NetworkFeeCalculator(FEE_PER_BYTE, EXEC_FEE_FACTOR);
+
+    @Test
+    public void singleSig() throws Exception {
+        ECKeyPair keyPair = ECKeyPair.createEcKeyPair();
+        Account account = new Account(keyPair);
+        Transaction tx = createTransaction(account);
+
+        long fee = calculator.calculateNetworkFee(tx,
+                singletonList(account.getVerificationScript()));
+
+        tx.addWitness(Witness.create(tx.toArrayWithoutWitnesses(), keyPair));
+        // PUSHDATA1 (signature), PUSHDATA1 (public key), PUSHNULL, SYSCALL and signature check.
+        long executionPrice = 8 + 8 + 1 + 0 + 32768;
+        assertThat(fee, is(tx.getSize() * FEE_PER_BYTE + executionPrice * EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void multiSig() throws Exception {
+        List<ECKeyPair> keyPairs = asList(ECKeyPair.createEcKeyPair(),
+                ECKeyPair.createEcKeyPair(), ECKeyPair.createEcKeyPair());
+        Account account = Account.createMultiSigAccount(asList(keyPairs.get(0).getPublicKey(),
+                keyPairs.get(1).getPublicKey(), keyPairs.get(2).getPublicKey()), 2);
+        Transaction tx = createTransaction(account);
+
+        long fee = calculator.calculateNetworkFee(tx,
+                singletonList(account.getVerificationScript()));
+
+        byte[] message = tx.toArrayWithoutWitnesses();
+        List<SignatureData> signatures = asList(Sign.signMessage(message, keyPairs.get(0)),
+                Sign.signMessage(message, keyPairs.get(1)));
+        tx.addWitness(Witness.createMultiSigWitness(signatures, account.getVerificationScript()));
+        // 2 x PUSHDATA1 (signatures), 3 x PUSHDATA1 (public keys), PUSH2, PUSH3, PUSHNULL,
+        // SYSCALL and 3 signature checks.
+        long executionPrice = 2 * 8 + 3 * 8 + 1 + 1 + 1 + 0 + 3 * 32768;
+        assertThat(fee, is(tx.getSize() * FEE_PER_BYTE + executionPrice * EXEC_FEE_FACTOR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failForUnsupportedVerificationScript() {
+        VerificationScript verificationScript =
+                new VerificationScript(new byte[]{(byte) OpCode.PUSH1.getCode()});
+        assertFalse(NetworkFeeCalculator.isSupported(verificationScript));
+        calculator.calculateNetworkFee(createTransaction(Account.create()),
+                singletonList(verificationScript));
+    }
+
+    @Test
+    public void isSupported() throws Exception {
+        assertTrue(NetworkFeeCalculator.isSupported(Account.create().getVerificationScript()));
+        assertTrue(NetworkFeeCalculator.isSupported(Account.createMultiSigAccount(
+                asList(ECKeyPair.createEcKeyPair().getPublicKey(),
+                        ECKeyPair.createEcKeyPair().getPublicKey()), 1)
+                .getVerificationScript()));
+    }
+
+    @Test
+    public void fromPolicy() throws IOException {
+        WireMock.configureFor(wireMockRule.port());
+        setUpWireMockForPolicyFees();
+        Neow3j neow = Neow3j.build(new HttpService("http://127.0.0.1:" + wireMockRule.port()));
+
+        NetworkFeeCalculator calculator = NetworkFeeCalculator.fromPolicy(neow);
+
+        assertThat(calculator.getFeePerByte(), is(1000L));
+        assertThat(calculator.getExecFeeFactor(), is(30L));
+    }
+
+    private Transaction createTransaction(Account signer) {
+        return new Transaction(null, (byte) 0, 1L, 1000L,
+                singletonList(Signer.calledByEntry(signer.getScriptHash())), 0, 0,
+                new ArrayList<>(), SCRIPT, new ArrayList<>());
+    }
+
+}
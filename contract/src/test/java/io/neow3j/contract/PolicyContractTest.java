@@ -43,12 +43,13 @@ public class PolicyContractTest {
     public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort());
 
     @Before
-    public void setUp() {
+    public void setUp() throws IOException {
         // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
         int port = wireMockRule.port();
         WireMock.configureFor(port);
         neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
         neow3j.setNetworkMagicNumber(769);
+        ContractTestHelper.setUpWireMockForPolicyFees();
         account1 = Account.fromWIF("L1WMhxazScMhUrdv34JqQb1HFSQmWeN2Kpc1R9JGKwL7CDNP21uR");
         recipient = new ScriptHash("969a77db482f74ce27105f760efa139223431394");
     }
@@ -1,10 +1,14 @@
 package io.neow3j.contract;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static io.neow3j.contract.ContractParameter.any;
 import static io.neow3j.contract.ContractParameter.hash160;
 import static io.neow3j.contract.ContractParameter.integer;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForBalanceOf;
+import static io.neow3j.contract.ContractTestHelper.setUpWireMockForBalancesOf;
 import static io.neow3j.contract.ContractTestHelper.setUpWireMockForCall;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -13,6 +17,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertNull;
@@ -23,6 +28,7 @@ import static org.junit.Assert.fail;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.neow3j.constants.NeoConstants;
+import io.neow3j.constants.OpCode;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
 import io.neow3j.crypto.WIF;
@@ -40,6 +46,7 @@ import io.neow3j.transaction.Signer;
 import io.neow3j.transaction.Transaction;
 import io.neow3j.transaction.TransactionAttribute;
 import io.neow3j.transaction.TransactionAttributeType;
+import io.neow3j.transaction.VerificationScript;
 import io.neow3j.transaction.Witness;
 import io.neow3j.transaction.WitnessScope;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
@@ -54,7 +61,9 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -92,12 +101,13 @@ public class TransactionBuilderTest {
     private Neow3j neow;
 
     @Before
-    public void setUp() {
+    public void setUp() throws IOException {
         // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
         int port = this.wireMockRule.port();
         WireMock.configureFor(port);
         neow = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
         neow.setNetworkMagicNumber(769);
+        ContractTestHelper.setUpWireMockForPolicyFees();
         account1 = new Account(ECKeyPair.create(Numeric.hexStringToByteArray(
                 "e6e919577dd7b8e97805151c05ae07ff4f752654d6d8797597aca989c02c4cb3")));
         account2 = new Account(ECKeyPair.create(Numeric.hexStringToByteArray(
@@ -391,6 +401,52 @@ public class TransactionBuilderTest {
                 .buildTransaction();
 
         assertThat(tx.getSystemFee(), is(984060L));
+        assertThat(tx.getNetworkFee(), is(1179550L));
+    }
+
+    @Test
+    public void policyParametersAreOnlyFetchedByFirstBuild() throws Throwable {
+        Wallet wallet = Wallet.create();
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        TransactionBuilder builder = new TransactionBuilder(neow)
+                .script(Numeric.hexStringToByteArray(SCRIPT_NEO_INVOKEFUNCTION_SYMBOL))
+                .wallet(wallet)
+                .signers(Signer.feeOnly(wallet.getDefaultAccount().getScriptHash()))
+                .validUntilBlock(1000);
+
+        builder.buildTransaction();
+        // The system fee and the two policy parameters.
+        WireMock.verify(3, postRequestedFor(urlEqualTo("/")));
+
+        Transaction tx = builder.buildTransaction();
+        Transaction asyncTx = builder.buildTransactionAsync().get();
+
+        // Later builds only fetch the system fee.
+        WireMock.verify(5, postRequestedFor(urlEqualTo("/")));
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(containing("\"method\":\"invokefunction\"")));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(containing("\"method\":\"calculatenetworkfee\"")));
+        assertThat(tx.getNetworkFee(), is(1179550L));
+        assertThat(asyncTx.getNetworkFee(), is(1179550L));
+    }
+
+    @Test
+    public void calculateNetworkFeeOnNodeForNonStandardVerificationScript() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        // A verification script that is neither a single-sig nor a multi-sig script.
+        Account account = Account.fromVerificationScript(
+                new VerificationScript(new byte[]{(byte) OpCode.PUSH1.getCode()}));
+        Wallet wallet = Wallet.withAccounts(account);
+
+        Transaction tx = new TransactionBuilder(neow)
+                .script(Numeric.hexStringToByteArray(SCRIPT_NEO_INVOKEFUNCTION_SYMBOL))
+                .wallet(wallet)
+                .signers(Signer.feeOnly(account.getScriptHash()))
+                .validUntilBlock(1000)
+                .buildTransaction();
+
         assertThat(tx.getNetworkFee(), is(1230610L));
     }
 
@@ -746,7 +802,7 @@ public class TransactionBuilderTest {
                 "invokefunction_balanceOf_1000000.json");
 
         Wallet w = Wallet.withAccounts(account1);
-        long netFee = 1230610;
+        long netFee = 1232550;
         // The system fee found in the `invokescript_transfer_with_fixed_sysfee.json` file.
         long sysFee = 9999510;
         BigInteger expectedFees = BigInteger.valueOf(netFee + sysFee);
@@ -818,6 +874,83 @@ public class TransactionBuilderTest {
         b.throwIfSenderCannotCoverFees(IllegalStateException::new);
     }
 
+    @Test
+    public void signAsync() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        ContractTestHelper.setUpWireMockForGetBlockCount(1000);
+
+        Wallet w = Wallet.withAccounts(account1);
+        TransactionBuilder b = new TransactionBuilder(neow)
+                .script(Numeric.hexStringToByteArray(SCRIPT_NEO_INVOKEFUNCTION_SYMBOL))
+                .wallet(w)
+                .nonce(42L)
+                .signers(Signer.calledByEntry(account1.getScriptHash()));
+
+        Transaction asyncTx = b.signAsync().get();
+        Transaction syncTx = b.sign();
+
+        assertThat(asyncTx.getValidUntilBlock(),
+                is((long) NeoConstants.MAX_VALID_UNTIL_BLOCK_INCREMENT + 1000 - 1));
+        assertThat(asyncTx.getSystemFee(), is(984060L));
+        assertThat(asyncTx.getNetworkFee(), is(1179550L));
+        assertThat(asyncTx.toArray(), is(syncTx.toArray()));
+    }
+
+    @Test
+    public void getUnsignedTransactionAsync_highPriority_noCommitteeMember() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json");
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        setUpWireMockForCall("getcommittee", "getcommittee.json");
+        ContractTestHelper.setUpWireMockForGetBlockCount(1000);
+
+        Wallet wallet = Wallet.withAccounts(account2);
+        CompletableFuture<Transaction> future = new TransactionBuilder(neow)
+                .script(Numeric.hexStringToByteArray(SCRIPT_NEO_INVOKEFUNCTION_SYMBOL))
+                .wallet(wallet)
+                .attributes(new HighPriorityAttribute())
+                .signers(Signer.feeOnly(wallet.getDefaultAccount().getScriptHash()))
+                .getUnsignedTransactionAsync();
+
+        exceptionRule.expect(ExecutionException.class);
+        exceptionRule.expectCause(isA(IllegalStateException.class));
+        future.get();
+    }
+
+    @Test
+    public void getUnsignedTransactionAsync_throwIfSenderCannotCoverFees() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_transfer_with_fixed_sysfee.json");
+        setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
+        setUpWireMockForBalanceOf(account1.getScriptHash(),
+                "invokefunction_balanceOf_1000000.json");
+
+        CompletableFuture<Transaction> future = new NeoToken(neow)
+                .invokeFunction(NEP17_TRANSFER,
+                        hash160(account1.getScriptHash()),
+                        hash160(recipient),
+                        integer(5),
+                        any(null))
+                .wallet(Wallet.withAccounts(account1))
+                .validUntilBlock(2000000)
+                .signers(Signer.calledByEntry(account1.getScriptHash()))
+                .throwIfSenderCannotCoverFees(
+                        () -> new IllegalStateException("test throwIfSenderCannotCoverFees"))
+                .getUnsignedTransactionAsync();
+
+        exceptionRule.expect(ExecutionException.class);
+        exceptionRule.expectCause(isA(IllegalStateException.class));
+        future.get();
+    }
+
+    @Test
+    public void getUnsignedTransactionAsync_failWithoutSettingWallet() throws Throwable {
+        CompletableFuture<Transaction> future =
+                new TransactionBuilder(neow).getUnsignedTransactionAsync();
+        exceptionRule.expect(ExecutionException.class);
+        exceptionRule.expectCause(isA(TransactionConfigurationException.class));
+        future.get();
+    }
+
     @Test
     public void invokeScript() throws IOException {
         setUpWireMockForCall("invokescript", "invokescript_symbol_neo.json",
@@ -990,7 +1123,7 @@ public class TransactionBuilderTest {
 
         Wallet w = Wallet.withAccounts(account1);
         Neow3j neowSpy = Mockito.spy(neow);
-        String txHash = "efd2ef6d0a68e01c2170110aab9d621df3e129dccae14e7ffc2b7b5822563885";
+        String txHash = "98f7817c35c58ef6083eda97374292d7494d7b63255507b7f7a34142a46fb24f";
         neowSpy = Mockito.when(neowSpy.catchUpToLatestAndSubscribeToNewBlocksObservable(
                 Mockito.any(BlockParameterIndex.class), Mockito.any(boolean.class)))
                 .thenReturn(Observable.fromArray(createBlock(1000), createBlock(1001),
@@ -1066,8 +1199,8 @@ public class TransactionBuilderTest {
 
     @Test
     public void getApplicationLog() throws Throwable {
-        setUpWireMockForBalanceOf(account1.getScriptHash(),
-                "invokefunction_balanceOf_1000000.json");
+        setUpWireMockForBalancesOf(NeoToken.SCRIPT_HASH,
+                "invokescript_balanceOf_1000000.json", account1.getScriptHash());
         setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
         setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
         setUpWireMockForCall("invokescript", "invokescript_transfer.json");
@@ -1087,8 +1220,8 @@ public class TransactionBuilderTest {
 
     @Test
     public void getApplicationLog_txNotSent() throws Throwable {
-        setUpWireMockForBalanceOf(account1.getScriptHash(),
-                "invokefunction_balanceOf_1000000.json");
+        setUpWireMockForBalancesOf(NeoToken.SCRIPT_HASH,
+                "invokescript_balanceOf_1000000.json", account1.getScriptHash());
         setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
         setUpWireMockForCall("invokescript", "invokescript_transfer.json");
         setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
@@ -1106,8 +1239,8 @@ public class TransactionBuilderTest {
 
     @Test
     public void getApplicationLog_notExisting() throws Throwable {
-        setUpWireMockForBalanceOf(account1.getScriptHash(),
-                "invokefunction_balanceOf_1000000.json");
+        setUpWireMockForBalancesOf(NeoToken.SCRIPT_HASH,
+                "invokescript_balanceOf_1000000.json", account1.getScriptHash());
         setUpWireMockForCall("getblockcount", "getblockcount_1000.json");
         setUpWireMockForCall("invokescript", "invokescript_transfer.json");
         setUpWireMockForCall("calculatenetworkfee", "calculatenetworkfee.json");
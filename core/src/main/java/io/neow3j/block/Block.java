@@ -0,0 +1,77 @@
+package io.neow3j.block;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.IOUtils;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A block as returned in binary form by the {@code getblock} RPC.
+ * <p>
+ * The binary form is considerably smaller than the verbose JSON form and is deserialized without
+ * reflection. The contained transactions are deserialized into {@link Transaction}s, which are
+ * not bound to a {@link io.neow3j.protocol.Neow3j} instance.
+ */
+public class Block extends BlockBase {
+
+    private ConsensusData consensusData;
+    private List<Transaction> transactions;
+
+    public Block() {
+        transactions = new ArrayList<>();
+    }
+
+    public ConsensusData getConsensusData() {
+        return consensusData;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    @Override
+    public int getSize() {
+        int size = super.getSize() +
+                IOUtils.getVarSize(transactions.size() + 1) +
+                consensusData.getSize();
+        for (Transaction tx : transactions) {
+            size += tx.getSize();
+        }
+        return size;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        super.deserialize(reader);
+        try {
+            // The consensus data is counted as one of the block's contents.
+            int nrOfContents = (int) reader.readVarInt(NeoConstants.MAX_BLOCK_CONTENTS);
+            if (nrOfContents == 0) {
+                throw new DeserializationException("A block must contain consensus data.");
+            }
+            this.consensusData = reader.readSerializable(ConsensusData.class);
+            this.transactions = new ArrayList<>(nrOfContents - 1);
+            for (int i = 1; i < nrOfContents; i++) {
+                this.transactions.add(reader.readSerializable(Transaction.class));
+            }
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        super.serialize(writer);
+        writer.writeVarInt(transactions.size() + 1);
+        consensusData.serialize(writer);
+        for (Transaction tx : transactions) {
+            tx.serialize(writer);
+        }
+    }
+
+}
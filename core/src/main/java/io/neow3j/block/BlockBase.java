@@ -0,0 +1,156 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * The fields that a block and a block header have in common, i.e., the unsigned header data and
+ * the witness of the consensus nodes.
+ */
+public abstract class BlockBase extends NeoSerializable {
+
+    public static final int UNSIGNED_SIZE = 4 +  // Version uint32
+            NeoConstants.HASH256_SIZE +  // Previous block hash
+            NeoConstants.HASH256_SIZE +  // Merkle root
+            8 +  // Timestamp uint64
+            4 +  // Index uint32
+            NeoConstants.SCRIPTHASH_SIZE;  // Next consensus
+
+    private long version;
+    // Hashes are stored in little-endian order as they are serialized.
+    private byte[] prevHash;
+    private byte[] merkleRoot;
+    private long timestamp;
+    private long index;
+    private ScriptHash nextConsensus;
+    private Witness witness;
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the hash of the previous block as a hexadecimal string in big-endian order.
+     */
+    public String getPrevHash() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(prevHash));
+    }
+
+    /**
+     * @return the merkle root of the block's transactions as a hexadecimal string in big-endian
+     * order.
+     */
+    public String getMerkleRoot() {
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(merkleRoot));
+    }
+
+    /**
+     * @return the time at which the block was created in milliseconds since the Unix epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the script hash of the consensus nodes that are allowed to sign the next block.
+     */
+    public ScriptHash getNextConsensus() {
+        return nextConsensus;
+    }
+
+    public Witness getWitness() {
+        return witness;
+    }
+
+    /**
+     * Calculates the hash of this block.
+     * <p>
+     * The hash does not depend on the block's contents other than the header, i.e., the hash of
+     * a block is equal to the hash of its header.
+     *
+     * @param networkMagic the magic number of the Neo network in little-endian order. E.g.,
+     *                     retrieved via {@link io.neow3j.protocol.Neow3j#getNetworkMagicNumber()}.
+     * @return the block hash as a hexadecimal string in big-endian order.
+     */
+    public String getHash(byte[] networkMagic) {
+        byte[] hash = hash256(ArrayUtils.concatenate(networkMagic, toArrayUnsigned()));
+        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+    }
+
+    /**
+     * Serializes the header data of this block without the witness. This is the data that is
+     * signed by the consensus nodes.
+     *
+     * @return the serialized unsigned header.
+     */
+    public byte[] toArrayUnsigned() {
+        try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
+            try (BinaryWriter writer = new BinaryWriter(ms)) {
+                serializeUnsigned(writer);
+                writer.flush();
+                return ms.toByteArray();
+            }
+        } catch (IOException ex) {
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return UNSIGNED_SIZE +
+                1 +  // Number of witnesses
+                witness.getSize();
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            this.version = reader.readUInt32();
+            this.prevHash = reader.readBytes(NeoConstants.HASH256_SIZE);
+            this.merkleRoot = reader.readBytes(NeoConstants.HASH256_SIZE);
+            this.timestamp = reader.readInt64();
+            this.index = reader.readUInt32();
+            this.nextConsensus = reader.readSerializable(ScriptHash.class);
+            int nrOfWitnesses = reader.readUnsignedByte();
+            if (nrOfWitnesses != 1) {
+                throw new DeserializationException("A block must have exactly one witness. Input "
+                        + "data had " + nrOfWitnesses + " witnesses.");
+            }
+            this.witness = reader.readSerializable(Witness.class);
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    private void serializeUnsigned(BinaryWriter writer) throws IOException {
+        writer.writeUInt32(this.version);
+        writer.write(this.prevHash);
+        writer.write(this.merkleRoot);
+        writer.writeInt64(this.timestamp);
+        writer.writeUInt32(this.index);
+        this.nextConsensus.serialize(writer);
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeUnsigned(writer);
+        writer.writeByte((byte) 1);
+        this.witness.serialize(writer);
+    }
+
+}
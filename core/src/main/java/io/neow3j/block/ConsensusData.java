@@ -0,0 +1,55 @@
+package io.neow3j.block;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.NeoSerializable;
+import io.neow3j.io.exceptions.DeserializationException;
+import java.io.IOException;
+
+/**
+ * The data agreed on by the consensus nodes when creating a block.
+ */
+public class ConsensusData extends NeoSerializable {
+
+    public static final int SIZE = 1 +  // Primary index byte
+            8;  // Nonce uint64
+
+    private int primaryIndex;
+    private long nonce;
+
+    public ConsensusData() {
+    }
+
+    /**
+     * @return the index of the consensus node that proposed the block.
+     */
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            this.primaryIndex = reader.readUnsignedByte();
+            this.nonce = reader.readInt64();
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeByte((byte) this.primaryIndex);
+        writer.writeInt64(this.nonce);
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.neow3j.block;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.io.exceptions.DeserializationException;
+import java.io.IOException;
+
+/**
+ * A block header as returned in binary form by the {@code getblockheader} RPC.
+ */
+public class Header extends BlockBase {
+
+    public Header() {
+    }
+
+    @Override
+    public int getSize() {
+        return super.getSize() + 1; // Number of block contents, which is always zero.
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        super.deserialize(reader);
+        try {
+            if (reader.readByte() != 0) {
+                throw new DeserializationException("The header data is followed by block "
+                        + "contents.");
+            }
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        super.serialize(writer);
+        writer.writeByte((byte) 0);
+    }
+
+}
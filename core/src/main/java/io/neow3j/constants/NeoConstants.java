@@ -142,4 +142,18 @@ public class NeoConstants {
 
     //endregion
 
+    //region Blocks
+
+    /**
+     * The size of a block or transaction hash in bytes.
+     */
+    public static final int HASH256_SIZE = 32;
+
+    /**
+     * The maximum number of contents, i.e., the consensus data and the transactions, of a block.
+     */
+    public static final int MAX_BLOCK_CONTENTS = 65535;
+
+    //endregion
+
 }
@@ -2,6 +2,7 @@ package io.neow3j.contract;
 
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.PublicKeyCache;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
@@ -135,7 +136,7 @@ public class ScriptHash extends NeoSerializable implements Comparable<ScriptHash
     }
 
     public static ScriptHash fromPublicKey(byte[] encodedPublicKey) {
-        return fromScript(ScriptBuilder.buildVerificationScript(encodedPublicKey));
+        return PublicKeyCache.getShared().getScriptHash(encodedPublicKey);
     }
 
     public static ScriptHash fromPublicKeys(List<byte[]> encodedPublicKeys, int signingThreshold) {
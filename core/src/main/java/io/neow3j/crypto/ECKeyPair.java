@@ -4,8 +4,6 @@ import static io.neow3j.crypto.Hash.hash256;
 import static io.neow3j.crypto.SecurityProviderChecker.addBouncyCastle;
 
 import io.neow3j.constants.NeoConstants;
-import io.neow3j.contract.ScriptBuilder;
-import io.neow3j.contract.ScriptHash;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
@@ -74,13 +72,12 @@ public class ECKeyPair {
     /**
      * Constructs the NEO address from this key pairs public key.
      * <p>
-     * The address is constructed ad hoc each time this method is called.
+     * The address is memoized in the {@link PublicKeyCache}.
      *
      * @return the NEO address of the public key.
      */
     public String getAddress() {
-        byte[] script = ScriptBuilder.buildVerificationScript(this.publicKey.getEncoded(true));
-        return ScriptHash.fromScript(script).toAddress();
+        return PublicKeyCache.getShared().getAddress(this.publicKey.getEncoded(true));
     }
 
     /**
@@ -415,7 +412,7 @@ public class ECKeyPair {
         }
 
         private ECPoint decodePoint(byte[] encodedPoint) {
-            return NeoConstants.curve().getCurve().decodePoint(encodedPoint);
+            return PublicKeyCache.getShared().decode(encodedPoint);
         }
 
         @Override
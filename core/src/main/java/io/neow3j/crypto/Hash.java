@@ -2,6 +2,7 @@ package io.neow3j.crypto;
 
 import io.neow3j.utils.Numeric;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.bouncycastle.crypto.digests.SHA512Digest;
@@ -18,6 +19,19 @@ public class Hash {
         SecurityProviderChecker.addBouncyCastle();
     }
 
+    private static final int SHA256_LENGTH = 32;
+
+    // Looking up a MessageDigest from the security providers is expensive compared to hashing the
+    // short inputs that are common in Neo. Therefore, each thread reuses its own instances. A
+    // digest resets itself after producing a hash, so the instances can be reused right away.
+    private static final ThreadLocal<MessageDigest> SHA256_DIGEST =
+            ThreadLocal.withInitial(() -> getDigest("SHA-256"));
+    private static final ThreadLocal<MessageDigest> RIPEMD160_DIGEST =
+            ThreadLocal.withInitial(() -> getDigest("RipeMD160"));
+    // Holds the intermediate hash of hash256 and sha256AndThenRipemd160.
+    private static final ThreadLocal<byte[]> INTERMEDIATE_HASH =
+            ThreadLocal.withInitial(() -> new byte[SHA256_LENGTH]);
+
     private Hash() {
     }
 
@@ -28,8 +42,10 @@ public class Hash {
      * @return hash value as byte array
      */
     public static byte[] sha256AndThenRipemd160(byte[] input) {
-        byte[] sha256 = sha256(input);
-        return ripemd160(sha256);
+        byte[] sha256 = intermediateSha256(input, 0, input.length);
+        MessageDigest ripemd160 = RIPEMD160_DIGEST.get();
+        ripemd160.update(sha256);
+        return ripemd160.digest();
     }
 
     /**
@@ -52,12 +68,7 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any RipeMD160 provider
      */
     public static byte[] ripemd160(byte[] input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("RipeMD160");
-            return md.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a RipeMD160 provider", e);
-        }
+        return RIPEMD160_DIGEST.get().digest(input);
     }
 
     /**
@@ -130,12 +141,7 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any SHA-256 provider
      */
     public static byte[] sha256(byte[] input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
-        }
+        return SHA256_DIGEST.get().digest(input);
     }
 
     /**
@@ -148,12 +154,9 @@ public class Hash {
      * @throws RuntimeException If we couldn't find any SHA-256 provider
      */
     public static byte[] sha256(byte[] input, int offset, int length) {
-        if (offset != 0 || length != input.length) {
-            byte[] array = new byte[length];
-            System.arraycopy(input, offset, array, 0, length);
-            input = array;
-        }
-        return sha256(input);
+        MessageDigest digest = SHA256_DIGEST.get();
+        digest.update(input, offset, length);
+        return digest.digest();
     }
 
     /**
@@ -165,7 +168,7 @@ public class Hash {
      * @return the hash value for the given input.
      */
     public static byte[] hash256(byte[] input) {
-        return sha256(sha256(input));
+        return hash256(input, 0, input.length);
     }
 
     /**
@@ -180,6 +183,31 @@ public class Hash {
      * @return the hash value.
      */
     public static byte[] hash256(byte[] input, int offset, int length) {
-        return sha256(sha256(input, offset, length));
+        byte[] sha256 = intermediateSha256(input, offset, length);
+        MessageDigest digest = SHA256_DIGEST.get();
+        digest.update(sha256);
+        return digest.digest();
+    }
+
+    // Hashes the input with SHA-256 into the thread's intermediate hash buffer. The returned
+    // buffer is overwritten by the next call on the same thread.
+    private static byte[] intermediateSha256(byte[] input, int offset, int length) {
+        MessageDigest digest = SHA256_DIGEST.get();
+        byte[] buffer = INTERMEDIATE_HASH.get();
+        digest.update(input, offset, length);
+        try {
+            digest.digest(buffer, 0, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new RuntimeException("Couldn't produce a SHA-256 hash", e);
+        }
+        return buffer;
+    }
+
+    private static MessageDigest getDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't find a " + algorithm + " provider", e);
+        }
     }
 }
@@ -0,0 +1,158 @@
+package io.neow3j.crypto;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.utils.LruMap;
+
+import java.nio.ByteBuffer;
+
+import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.math.ec.ECPoint;
+
+/**
+ * Caches decoded public keys and the script hashes and addresses derived from them.
+ * <p>
+ * Decoding a compressed public key requires computing a square root on the curve, and deriving
+ * its script hash requires building and hashing its verification script. Public keys such as
+ * the ones of the committee or of multi-sig participants are decoded and converted over and over
+ * again. The cache returns the same point instance for the same encoded key and memoizes the
+ * derived values.
+ * <p>
+ * The cache holds a bounded number of public keys and evicts the least recently used one when it
+ * is full. It is thread-safe.
+ */
+public class PublicKeyCache {
+
+    /**
+     * The default maximum number of public keys held in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final ECCurve CURVE = NeoConstants.curveParams().getCurve();
+
+    private static final PublicKeyCache SHARED = new PublicKeyCache();
+
+    // Guarded by itself. Keyed by the encoded public key.
+    private final LruMap<ByteBuffer, Entry> entries;
+
+    /**
+     * Constructs a cache that holds at most {@link PublicKeyCache#DEFAULT_MAX_SIZE} public keys.
+     */
+    public PublicKeyCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a cache that holds at most the given number of public keys.
+     *
+     * @param maxSize the maximum number of public keys.
+     */
+    public PublicKeyCache(int maxSize) {
+        this.entries = new LruMap<>(maxSize);
+    }
+
+    /**
+     * Gets the cache that is used when decoding public keys and deriving their script hashes,
+     * e.g., in {@link ECKeyPair.ECPublicKey} and {@link ScriptHash#fromPublicKey(byte[])}.
+     *
+     * @return the shared cache.
+     */
+    public static PublicKeyCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Decodes the given public key, encoded as defined in section 2.3.3 of
+     * <a href="http://www.secg.org/sec1-v2.pdf">SEC1</a>.
+     *
+     * @param encodedPublicKey the encoded public key.
+     * @return the point on the secp256r1 curve.
+     */
+    public ECPoint decode(byte[] encodedPublicKey) {
+        return getEntry(encodedPublicKey).point;
+    }
+
+    /**
+     * Gets the script hash of the single-sig account of the given public key.
+     *
+     * @param encodedPublicKey the encoded public key.
+     * @return the script hash.
+     */
+    public ScriptHash getScriptHash(byte[] encodedPublicKey) {
+        Entry entry = getEntry(encodedPublicKey);
+        ScriptHash scriptHash = entry.scriptHash;
+        if (scriptHash == null) {
+            scriptHash = ScriptHash.fromScript(
+                    ScriptBuilder.buildVerificationScript(encodedPublicKey));
+            entry.scriptHash = scriptHash;
+        }
+        return scriptHash;
+    }
+
+    /**
+     * Gets the address of the single-sig account of the given public key.
+     *
+     * @param encodedPublicKey the encoded public key.
+     * @return the address.
+     */
+    public String getAddress(byte[] encodedPublicKey) {
+        Entry entry = getEntry(encodedPublicKey);
+        String address = entry.address;
+        if (address == null) {
+            address = getScriptHash(encodedPublicKey).toAddress();
+            entry.address = address;
+        }
+        return address;
+    }
+
+    /**
+     * Gets the number of public keys held in the cache.
+     *
+     * @return the number of public keys.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all public keys from the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Entry getEntry(byte[] encodedPublicKey) {
+        synchronized (entries) {
+            Entry entry = entries.get(ByteBuffer.wrap(encodedPublicKey));
+            if (entry != null) {
+                return entry;
+            }
+        }
+        // Decode outside of the lock. Concurrent decodings of the same key yield equal points.
+        Entry entry = new Entry(CURVE.decodePoint(encodedPublicKey));
+        synchronized (entries) {
+            Entry existing = entries.putIfAbsent(
+                    ByteBuffer.wrap(encodedPublicKey.clone()), entry);
+            return existing == null ? entry : existing;
+        }
+    }
+
+    private static class Entry {
+
+        private final ECPoint point;
+        // The derived values are computed on first use. Computing them twice is harmless.
+        private volatile ScriptHash scriptHash;
+        private volatile String address;
+
+        private Entry(ECPoint point) {
+            this.point = point;
+        }
+
+    }
+
+}
@@ -3,7 +3,6 @@ package io.neow3j.crypto;
 import static io.neow3j.utils.Assertions.verifyPrecondition;
 
 import io.neow3j.constants.NeoConstants;
-import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
 import io.neow3j.utils.ArrayUtils;
@@ -11,6 +10,9 @@ import io.neow3j.utils.Numeric;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
 import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
@@ -67,6 +69,61 @@ public class Sign {
         return new SignatureData(v, r, s);
     }
 
+    /**
+     * Signs all given messages with the given key pair. The messages are hashed and signed in
+     * parallel, reusing the private key parameters of the key pair (see
+     * {@link SigningContext}).
+     * <p>
+     * Unlike {@link Sign#signMessage(byte[], ECKeyPair)}, the signatures don't contain a recovery
+     * id, i.e., {@code v} is 0.
+     *
+     * @param messages the messages to sign.
+     * @param keyPair  the key pair.
+     * @return the signatures in the order of the messages.
+     */
+    public static List<SignatureData> signAll(List<byte[]> messages, ECKeyPair keyPair) {
+        try (SigningContext context = new SigningContext(keyPair)) {
+            return context.signAll(messages);
+        }
+    }
+
+    /**
+     * Signs the given message with each of the given key pairs, e.g., the keys of a multi-sig
+     * account. The message is only hashed once and the signatures are created in parallel.
+     * <p>
+     * Unlike {@link Sign#signMessage(byte[], ECKeyPair)}, the signatures don't contain a recovery
+     * id, i.e., {@code v} is 0.
+     *
+     * @param message  the message to sign.
+     * @param keyPairs the key pairs.
+     * @return the signatures in the order of the key pairs.
+     */
+    public static List<SignatureData> signWithAll(byte[] message, List<ECKeyPair> keyPairs) {
+        byte[] messageHash = Hash.sha256(message);
+        Stream<ECKeyPair> stream = keyPairs.size() > 1
+                ? keyPairs.parallelStream()
+                : keyPairs.stream();
+        return stream.map(k -> {
+            try (SigningContext context = new SigningContext(k)) {
+                return SigningContext.toSignatureData(context.signHash(messageHash));
+            }
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Verifies that the given signature of the message was created with the private key of the
+     * given public key. The message is hashed with SHA-256 before verifying.
+     *
+     * @param message   the signed message.
+     * @param signature the signature.
+     * @param publicKey the public key of the signer.
+     * @return true if the signature is valid. False, otherwise.
+     */
+    public static boolean verifySignature(byte[] message, SignatureData signature,
+            ECPublicKey publicKey) {
+        return SignatureVerifier.getShared().verify(message, signature, publicKey);
+    }
+
     /**
      * <p>Given the components of a signature and a selector value, recover and return the public
      * key that generated the signature according to the algorithm in SEC1v2 section 4.1.6.</p>
@@ -245,7 +302,7 @@ public class Sign {
         byte[] s = signatureData.getS();
         SignatureData signatureDataV = new Sign.SignatureData(getRealV(v), r, s);
         ECPublicKey key = Sign.signedMessageToKey(message, signatureDataV);
-        return ScriptHash.fromPublicKey(key.getEncoded(true)).toAddress();
+        return PublicKeyCache.getShared().getAddress(key.getEncoded(true));
     }
 
 
@@ -0,0 +1,101 @@
+package io.neow3j.crypto;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign.SignatureData;
+
+import java.math.BigInteger;
+
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+
+/**
+ * Verifies secp256r1 signatures as created by Neo.
+ * <p>
+ * The verifier decodes public keys with a {@link PublicKeyCache}, which returns the same point
+ * instance for the same key. Bouncy Castle stores the precomputed multiplication table of a
+ * point on the point itself. Thus, repeated verifications with the same public key, e.g., of a
+ * frequently seen signer or committee member, reuse that table instead of recomputing it, as
+ * long as the key stays in the cache.
+ * <p>
+ * A verifier is thread-safe.
+ */
+public class SignatureVerifier {
+
+    private static final ECDomainParameters CURVE = NeoConstants.curve();
+
+    private static final SignatureVerifier SHARED = new SignatureVerifier();
+
+    private final PublicKeyCache publicKeyCache;
+
+    /**
+     * Constructs a verifier that decodes public keys with the shared {@link PublicKeyCache}.
+     */
+    public SignatureVerifier() {
+        this(PublicKeyCache.getShared());
+    }
+
+    /**
+     * Constructs a verifier that decodes public keys with the given {@link PublicKeyCache}.
+     *
+     * @param publicKeyCache the public key cache.
+     */
+    public SignatureVerifier(PublicKeyCache publicKeyCache) {
+        this.publicKeyCache = publicKeyCache;
+    }
+
+    /**
+     * Gets the verifier that is shared by all verifications that don't use a specific verifier,
+     * e.g., {@link Sign#verifySignature(byte[], SignatureData, ECPublicKey)}.
+     *
+     * @return the shared verifier.
+     */
+    public static SignatureVerifier getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Hashes the given message with SHA-256 and verifies the signature of the hash.
+     *
+     * @param message   the signed message.
+     * @param signature the signature.
+     * @param publicKey the public key of the signer.
+     * @return true if the signature is valid. False, otherwise.
+     */
+    public boolean verify(byte[] message, SignatureData signature, ECPublicKey publicKey) {
+        return verifyHash(Hash.sha256(message), signature, publicKey);
+    }
+
+    /**
+     * Verifies the signature of the given hash.
+     *
+     * @param hash      the signed hash.
+     * @param signature the signature.
+     * @param publicKey the public key of the signer.
+     * @return true if the signature is valid. False, otherwise.
+     */
+    public boolean verifyHash(byte[] hash, SignatureData signature, ECPublicKey publicKey) {
+        BigInteger r = new BigInteger(1, signature.getR());
+        BigInteger s = new BigInteger(1, signature.getS());
+        ECDSASigner signer = new ECDSASigner();
+        signer.init(false, getParameters(publicKey));
+        return signer.verifySignature(hash, r, s);
+    }
+
+    /**
+     * Gets the cache this verifier decodes public keys with.
+     *
+     * @return the public key cache.
+     */
+    public PublicKeyCache getPublicKeyCache() {
+        return publicKeyCache;
+    }
+
+    private ECPublicKeyParameters getParameters(ECPublicKey publicKey) {
+        // The public key doesn't expose its point. Get the interned point of its encoding.
+        return new ECPublicKeyParameters(publicKeyCache.decode(publicKey.getEncoded(true)),
+                CURVE);
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.neow3j.crypto;
+
+import static java.util.stream.Collectors.toList;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.Sign.SignatureData;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.util.BigIntegers;
+
+/**
+ * Signs messages with the private key of an {@link ECKeyPair} and reuses the private key
+ * parameters between signatures. Use it for signing many messages with the same key.
+ * <p>
+ * The signatures are deterministic (RFC 6979) and equal to the ones created with
+ * {@link ECKeyPair#sign(byte[])}. Unlike {@link Sign#signMessage(byte[], ECKeyPair)}, the
+ * returned {@link SignatureData} does not contain a recovery id ({@code v} is 0), which saves
+ * the costly public key recovery. Neo only uses the {@code r} and {@code s} components.
+ * <p>
+ * A context is thread-safe. It holds its own copy of the private key, which is not affected by
+ * erasing the key pair's private key. Close the context when it is no longer needed, so that it
+ * drops its copy. Every signature is created with its own signer, i.e., no signer state is left
+ * behind on the threads that signed.
+ */
+public class SigningContext implements AutoCloseable {
+
+    private final ECKeyPair keyPair;
+    // Null once the context is closed.
+    private volatile ECPrivateKeyParameters privateKey;
+
+    /**
+     * Creates a signing context for the given key pair.
+     *
+     * @param keyPair the key pair.
+     */
+    public SigningContext(ECKeyPair keyPair) {
+        this.keyPair = keyPair;
+        this.privateKey = new ECPrivateKeyParameters(keyPair.getPrivateKey().getInt(),
+                NeoConstants.curve());
+    }
+
+    /**
+     * Gets the key pair of this context.
+     *
+     * @return the key pair.
+     */
+    public ECKeyPair getKeyPair() {
+        return keyPair;
+    }
+
+    /**
+     * Signs the given hash.
+     *
+     * @param hash the hash to sign.
+     * @return the raw signature components r and s.
+     * @throws IllegalStateException if the context is closed.
+     */
+    public BigInteger[] signHash(byte[] hash) {
+        ECPrivateKeyParameters key = privateKey;
+        if (key == null) {
+            throw new IllegalStateException("The signing context is closed.");
+        }
+        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, key);
+        return signer.generateSignature(hash);
+    }
+
+    /**
+     * Hashes the given message with SHA-256 and signs the hash.
+     *
+     * @param message the message to sign.
+     * @return the signature without recovery id.
+     */
+    public SignatureData signMessage(byte[] message) {
+        return toSignatureData(signHash(Hash.sha256(message)));
+    }
+
+    /**
+     * Signs all given messages like {@link SigningContext#signMessage(byte[])}. The messages
+     * are signed in parallel on the common fork-join pool.
+     *
+     * @param messages the messages to sign.
+     * @return the signatures in the order of the messages.
+     */
+    public List<SignatureData> signAll(List<byte[]> messages) {
+        Stream<byte[]> stream = messages.size() > 1 ? messages.parallelStream() : messages.stream();
+        return stream.map(this::signMessage).collect(toList());
+    }
+
+    /**
+     * Drops this context's copy of the private key. The context cannot sign anymore afterwards.
+     */
+    @Override
+    public void close() {
+        privateKey = null;
+    }
+
+    static SignatureData toSignatureData(BigInteger[] components) {
+        return new SignatureData((byte) 0x00,
+                BigIntegers.asUnsignedByteArray(32, components[0]),
+                BigIntegers.asUnsignedByteArray(32, components[1]));
+    }
+
+}
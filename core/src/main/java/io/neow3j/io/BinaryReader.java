@@ -24,8 +24,8 @@
  */
 package io.neow3j.io;
 
-import io.neow3j.constants.NeoConstants;
 import io.neow3j.constants.OpCode;
+import io.neow3j.crypto.PublicKeyCache;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.utils.BigIntegers;
 import java.io.ByteArrayInputStream;
@@ -235,7 +235,7 @@ public class BinaryReader implements AutoCloseable {
             default:
                 throw new IOException();
         }
-        return NeoConstants.curve().getCurve().decodePoint(encoded);
+        return PublicKeyCache.getShared().decode(encoded);
     }
 
     public <T extends NeoSerializable> T readSerializable(Class<T> t)
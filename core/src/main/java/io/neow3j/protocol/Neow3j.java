@@ -1,5 +1,6 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
 import io.neow3j.protocol.rx.Neow3jRx;
@@ -48,6 +49,14 @@ public abstract class Neow3j implements Neo, Neow3jRx {
      */
     public abstract void shutdown();
 
+    /**
+     * Creates a new batch to which requests can be added and that is then sent to the
+     * neo-node in one call.
+     *
+     * @return the new batch request.
+     */
+    public abstract BatchRequest newBatch();
+
     /**
      * Gets the magic number of the connect Neo network.
      * <p>
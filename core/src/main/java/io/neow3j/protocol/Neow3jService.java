@@ -1,5 +1,7 @@
 package io.neow3j.protocol;
 
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.notifications.Notification;
@@ -37,6 +39,26 @@ public interface Neow3jService {
     <T extends Response> CompletableFuture<T> sendAsync(
             Request request, Class<T> responseType);
 
+    /**
+     * Performs a synchronous JSON-RPC batch request, i.e., sends all requests of the batch in
+     * one call.
+     *
+     * @param batchRequest the batch of requests to perform
+     * @return the deserialized JSON-RPC responses in the order of the batched requests
+     * @throws IOException thrown if failed to perform the batch request
+     */
+    BatchResponse sendBatch(BatchRequest batchRequest) throws IOException;
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request, i.e., sends all requests of the batch in
+     * one call.
+     *
+     * @param batchRequest the batch of requests to perform
+     * @return CompletableFuture that will be completed when the responses are returned or if
+     * the batch request has failed
+     */
+    CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest);
+
     /**
      * <p>Subscribe to a stream of notifications. A stream of notifications is opened by
      * by performing a specified JSON-RPC request and is closed by calling
@@ -1,14 +1,23 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import io.reactivex.Observable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
@@ -21,6 +30,8 @@ public abstract class Service implements Neow3jService {
 
     protected ExecutorService asyncExecutorService;
 
+    private final boolean includeRawResponses;
+
     /**
      * Create a Service.
      *
@@ -30,6 +41,7 @@ public abstract class Service implements Neow3jService {
     public Service(ExecutorService executorService, boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
         asyncExecutorService = executorService;
+        this.includeRawResponses = includeRawResponses;
     }
 
     /**
@@ -39,6 +51,7 @@ public abstract class Service implements Neow3jService {
      */
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
@@ -64,6 +77,66 @@ public abstract class Service implements Neow3jService {
                 send(jsonRpc20Request, responseType), asyncExecutorService);
     }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(Collections.emptyList(), Collections.emptyList());
+        }
+        String payload = objectMapper.writeValueAsString(requests);
+
+        try (InputStream result = performIO(payload)) {
+            if (result == null) {
+                return null;
+            }
+            JsonNode nodes = objectMapper.readTree(result);
+            if (!nodes.isArray()) {
+                // The node answers with a single response object if it could not process the
+                // batch at all, e.g., because the batch was invalid JSON.
+                throw new ClientConnectionException(
+                        "Invalid batch response received: " + nodes.toString());
+            }
+            Map<Long, Integer> indicesById = new HashMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                if (indicesById.put(requests.get(i).getId(), i) != null) {
+                    // The id was changed after the request was added to the batch.
+                    throw new IllegalArgumentException("The batch contains more than one request "
+                            + "with id " + requests.get(i).getId() + ".");
+                }
+            }
+            Response<?>[] responses = new Response<?>[requests.size()];
+            for (JsonNode node : nodes) {
+                Integer index = indicesById.get(node.path("id").asLong());
+                if (index == null) {
+                    throw new ClientConnectionException(
+                            "Batch response with unknown id received: " + node.toString());
+                }
+                if (responses[index] != null) {
+                    throw new ClientConnectionException(
+                            "Batch response with duplicate id received: " + node.toString());
+                }
+                Response<?> response = objectMapper.treeToValue(node,
+                        requests.get(index).getResponseType());
+                if (includeRawResponses) {
+                    response.setRawResponse(node.toString());
+                }
+                responses[index] = response;
+            }
+            for (int i = 0; i < responses.length; i++) {
+                if (responses[i] == null) {
+                    throw new ClientConnectionException("Batch response is missing the response "
+                            + "to the request with id " + requests.get(i).getId() + ".");
+                }
+            }
+            return new BatchResponse(requests, Arrays.asList(responses));
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest), asyncExecutorService);
+    }
+
     @Override
     public <T extends Notification<?>> Observable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
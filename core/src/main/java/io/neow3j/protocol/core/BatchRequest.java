@@ -0,0 +1,75 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3jService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A JSON-RPC 2.0 batch of requests that is sent to the node in a single call.
+ * <p>
+ * The node processes all requests of the batch and returns their responses in one JSON array.
+ * The responses are matched to the requests via their id, i.e., the order in which the node
+ * returns them is irrelevant.
+ */
+public class BatchRequest {
+
+    private final Neow3jService neow3jService;
+    private final List<Request<?, ?>> requests = new ArrayList<>();
+    private final Set<Long> ids = new HashSet<>();
+
+    public BatchRequest(Neow3jService neow3jService) {
+        this.neow3jService = neow3jService;
+    }
+
+    /**
+     * Adds the given request to this batch.
+     * <p>
+     * The responses are matched to the requests via their id. Thus, every request in the batch
+     * must have a different id.
+     *
+     * @param request The request.
+     * @return this.
+     * @throws IllegalArgumentException if the batch already contains a request with the same id.
+     */
+    public BatchRequest add(Request<?, ?> request) {
+        if (!ids.add(request.getId())) {
+            throw new IllegalArgumentException("The batch already contains a request with id "
+                    + request.getId() + ".");
+        }
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * Gets the requests contained in this batch in the order they were added.
+     *
+     * @return the requests.
+     */
+    public List<Request<?, ?>> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Sends all requests of this batch synchronously in one call.
+     *
+     * @return the batch response.
+     * @throws IOException if the call to the node failed.
+     */
+    public BatchResponse send() throws IOException {
+        return neow3jService.sendBatch(this);
+    }
+
+    /**
+     * Sends all requests of this batch asynchronously in one call.
+     *
+     * @return a future that is completed with the batch response.
+     */
+    public CompletableFuture<BatchResponse> sendAsync() {
+        return neow3jService.sendBatchAsync(this);
+    }
+}
@@ -0,0 +1,40 @@
+package io.neow3j.protocol.core;
+
+import java.util.List;
+
+/**
+ * The responses to a {@link BatchRequest}.
+ * <p>
+ * The responses are in the same order as the requests in the batch, i.e., the response at index
+ * {@code i} belongs to the request at index {@code i}.
+ */
+public class BatchResponse {
+
+    private final List<Request<?, ?>> requests;
+    private final List<Response<?>> responses;
+
+    public BatchResponse(List<Request<?, ?>> requests, List<Response<?>> responses) {
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    public List<Request<?, ?>> getRequests() {
+        return requests;
+    }
+
+    public List<Response<?>> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Gets the response belonging to the request at the given index of the batch.
+     *
+     * @param index        the index of the request in the batch.
+     * @param responseType the expected response type.
+     * @param <T>          the response type.
+     * @return the response.
+     */
+    public <T extends Response<?>> T getResponse(int index, Class<T> responseType) {
+        return responseType.cast(responses.get(index));
+    }
+}
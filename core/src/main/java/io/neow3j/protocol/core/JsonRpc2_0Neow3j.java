@@ -6,6 +6,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import io.neow3j.block.Block;
 import io.neow3j.contract.ContractParameter;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.Base64;
@@ -53,11 +54,14 @@ import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
 import io.neow3j.protocol.core.methods.response.TransactionSendAsset;
 import io.neow3j.protocol.core.methods.response.TransactionSigner;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
+import io.neow3j.protocol.rx.TransactionTracker;
 import io.neow3j.transaction.Signer;
 import io.neow3j.utils.Async;
 import io.neow3j.utils.Numeric;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -78,6 +82,7 @@ public class JsonRpc2_0Neow3j extends Neow3j {
     private final JsonRpc2_0Rx neow3jRx;
     private final long blockTime;
     private final ScheduledExecutorService scheduledExecutorService;
+    private TransactionTracker transactionTracker;
 
     public JsonRpc2_0Neow3j(Neow3jService neow3jService) {
         this(neow3jService, DEFAULT_BLOCK_TIME, Async.defaultExecutorService());
@@ -1006,6 +1011,37 @@ public class JsonRpc2_0Neow3j extends Neow3j {
                 fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, int maxConcurrentRequests) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects,
+                true, maxConcurrentRequests);
+    }
+
+    @Override
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrentRequests) {
+        return neow3jRx.replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects,
+                ascending, maxConcurrentRequests);
+    }
+
+    @Override
+    public Flowable<Block> replayRawBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, int maxConcurrentRequests) {
+        return neow3jRx.replayRawBlocksFlowable(startBlock, endBlock, true,
+                maxConcurrentRequests);
+    }
+
+    @Override
+    public Flowable<Block> replayRawBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending,
+            int maxConcurrentRequests) {
+        return neow3jRx.replayRawBlocksFlowable(startBlock, endBlock, ascending,
+                maxConcurrentRequests);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
@@ -1027,6 +1063,24 @@ public class JsonRpc2_0Neow3j extends Neow3j {
                 startBlock, fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Observable<Long> transactionTrackingObservable(String txId,
+            BigInteger startBlockIndex) {
+        return getTransactionTracker().track(txId, startBlockIndex);
+    }
+
+    private synchronized TransactionTracker getTransactionTracker() {
+        if (transactionTracker == null) {
+            transactionTracker = new TransactionTracker(this);
+        }
+        return transactionTracker;
+    }
+
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(neow3jService);
+    }
+
     @Override
     public void shutdown() {
         scheduledExecutorService.shutdown();
@@ -1,5 +1,10 @@
 package io.neow3j.protocol.core.methods.response;
 
+import io.neow3j.block.Block;
+import io.neow3j.block.Header;
+import io.neow3j.crypto.Base64;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.protocol.core.Response;
 
 public class NeoGetRawBlock extends Response<String> {
@@ -8,4 +13,24 @@ public class NeoGetRawBlock extends Response<String> {
         return getResult();
     }
 
+    /**
+     * Deserializes the raw block returned by the {@code getblock} RPC.
+     *
+     * @return the block.
+     * @throws DeserializationException if the raw data is not a valid block.
+     */
+    public Block getBlock() throws DeserializationException {
+        return NeoSerializableInterface.from(Base64.decode(getResult()), Block.class);
+    }
+
+    /**
+     * Deserializes the raw block header returned by the {@code getblockheader} RPC.
+     *
+     * @return the block header.
+     * @throws DeserializationException if the raw data is not a valid block header.
+     */
+    public Header getHeader() throws DeserializationException {
+        return NeoSerializableInterface.from(Base64.decode(getResult()), Header.class);
+    }
+
 }
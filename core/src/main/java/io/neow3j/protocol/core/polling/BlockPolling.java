@@ -1,7 +1,6 @@
 package io.neow3j.protocol.core.polling;
 
 import io.neow3j.protocol.Neow3j;
-import io.reactivex.Observable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,17 +9,38 @@ import java.math.BigInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
+/**
+ * Polls the neo-node for new blocks.
+ * <p>
+ * Neo produces blocks at a predictable rate. Instead of polling at a fixed rate, the next poll is
+ * scheduled for the time at which the next block is expected, i.e., one block time after the
+ * last new block was detected. Only if a block is late, the node is polled aggressively at a
+ * fraction of the block time. Failed polls are retried with an exponential backoff.
+ */
 public class BlockPolling {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockPolling.class);
 
+    // The interval used while waiting for an overdue block is the block time divided by this.
+    static final long FAST_POLLING_DIVISOR = 10;
+    static final long MIN_POLLING_INTERVAL = 100;
+    // The backoff on errors is capped at the block time multiplied by this.
+    static final long MAX_BACKOFF_FACTOR = 4;
+
     private BigInteger currentBlock;
 
     private final Neow3j neow3j;
     private final Callback<BigInteger> callback;
 
+    private ScheduledExecutorService scheduledExecutorService;
+    private long blockTime;
+    private long fastPollingInterval;
+    // Local time in milliseconds at which the next block is expected. Zero if unknown.
+    private long nextBlockExpectedAt;
+    private long errorBackoff;
+
+    private volatile boolean cancelled;
     private ScheduledFuture<?> schedule;
 
     public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback) {
@@ -40,31 +60,72 @@ public class BlockPolling {
         return neow3j.getBlockCount().send().getBlockIndex();
     }
 
+    /**
+     * Starts polling.
+     *
+     * @param scheduledExecutorService the executor on which the polls are run.
+     * @param pollingInterval          the expected time between two blocks in milliseconds.
+     */
     public void run(ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
-        this.schedule = scheduledExecutorService.scheduleAtFixedRate(
-                () -> {
-                    try {
-                        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
-                        if (this.currentBlock == null) {
-                            this.currentBlock = latestBlockNumber;
-                        }
-                        if (latestBlockNumber.compareTo(getCurrentBlock()) == 1) {
-                            IntStream.rangeClosed(getCurrentBlock().add(BigInteger.ONE).intValue(), latestBlockNumber.intValue())
-                                    .forEachOrdered((blockIndex) -> {
-                                        callback.onEvent(BigInteger.valueOf(blockIndex));
-                                        nextBlock();
-                                    });
-                        }
-                    } catch (Throwable e) {
-                        LOG.error("Error on polling: {}", e);
-                        Observable.error(e);
-                    }
-                },
-                0, pollingInterval, TimeUnit.MILLISECONDS);
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.blockTime = pollingInterval;
+        this.fastPollingInterval = Math.max(
+                pollingInterval / FAST_POLLING_DIVISOR, MIN_POLLING_INTERVAL);
+        scheduleNextPoll(0);
+    }
+
+    private synchronized void scheduleNextPoll(long delay) {
+        if (!cancelled) {
+            this.schedule = scheduledExecutorService.schedule(
+                    this::poll, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll() {
+        long delay;
+        try {
+            delay = pollLatestBlock();
+            errorBackoff = 0;
+        } catch (Throwable e) {
+            if (errorBackoff == 0) {
+                LOG.warn("Error on polling. Retrying with exponential backoff.", e);
+                errorBackoff = fastPollingInterval;
+            } else {
+                LOG.debug("Error on polling.", e);
+                errorBackoff = Math.min(errorBackoff * 2, blockTime * MAX_BACKOFF_FACTOR);
+            }
+            delay = errorBackoff;
+        }
+        scheduleNextPoll(delay);
+    }
+
+    // Returns the delay in milliseconds until the next poll.
+    private long pollLatestBlock() throws IOException {
+        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
+        long now = System.currentTimeMillis();
+        if (this.currentBlock == null) {
+            this.currentBlock = latestBlockNumber;
+            // It is unknown when the latest block was produced. Poll fast until the next one.
+            return fastPollingInterval;
+        }
+        if (latestBlockNumber.compareTo(getCurrentBlock()) > 0) {
+            while (latestBlockNumber.compareTo(getCurrentBlock()) > 0 && !cancelled) {
+                callback.onEvent(getCurrentBlock().add(BigInteger.ONE));
+                nextBlock();
+            }
+            nextBlockExpectedAt = now + blockTime;
+        }
+        if (nextBlockExpectedAt == 0 || now >= nextBlockExpectedAt) {
+            return fastPollingInterval;
+        }
+        return Math.max(nextBlockExpectedAt - now, fastPollingInterval);
     }
 
-    public void cancel() {
-        schedule.cancel(false);
+    public synchronized void cancel() {
+        cancelled = true;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
     }
 
 }
@@ -1,5 +1,7 @@
 package io.neow3j.protocol.rx;
 
+import io.neow3j.block.Block;
+import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.BlockParameterIndex;
@@ -9,14 +11,19 @@ import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
 import io.neow3j.protocol.core.polling.BlockPolling;
 import io.neow3j.utils.Observables;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Function;
 import io.reactivex.schedulers.Schedulers;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -28,6 +35,8 @@ public class JsonRpc2_0Rx {
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final Map<Long, Observable<BigInteger>> blockIndexObservables =
+            new ConcurrentHashMap<>();
 
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
         this.neow3j = neow3j;
@@ -35,12 +44,22 @@ public class JsonRpc2_0Rx {
         this.scheduler = Schedulers.from(scheduledExecutorService);
     }
 
+    /**
+     * Creates an Observable that emits the indices of new blocks.
+     * <p>
+     * All subscribers with the same polling interval share one {@link BlockPolling}. It is
+     * started with the first subscriber and cancelled when the last subscriber disposes.
+     *
+     * @param pollingInterval the expected time between two blocks in milliseconds.
+     * @return the Observable.
+     */
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
-        return Observable.create(subscriber -> {
-            BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
-            blockPolling.run(scheduledExecutorService, pollingInterval);
-            subscriber.setDisposable(Disposables.fromAction(blockPolling::cancel));
-        });
+        return blockIndexObservables.computeIfAbsent(pollingInterval,
+                interval -> Observable.<BigInteger>create(subscriber -> {
+                    BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
+                    blockPolling.run(scheduledExecutorService, interval);
+                    subscriber.setDisposable(Disposables.fromAction(blockPolling::cancel));
+                }).share());
     }
 
     public Observable<NeoGetBlock> replayBlocksObservable(
@@ -74,7 +93,7 @@ public class JsonRpc2_0Rx {
             startBlockNumber = getBlockNumber(startBlock);
             endBlockNumber = getBlockNumber(endBlock);
         } catch (IOException e) {
-            Observable.error(e);
+            return Observable.error(e);
         }
 
         if (ascending) {
@@ -86,6 +105,84 @@ public class JsonRpc2_0Rx {
         }
     }
 
+    public Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrentRequests) {
+        return replayFlowable(startBlock, endBlock, ascending, maxConcurrentRequests,
+                i -> getBlockAsync(i, fullTransactionObjects));
+    }
+
+    public Flowable<Block> replayRawBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending,
+            int maxConcurrentRequests) {
+        return replayFlowable(startBlock, endBlock, ascending, maxConcurrentRequests,
+                this::getRawBlockAsync);
+    }
+
+    private <T> Flowable<T> replayFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending,
+            int maxConcurrentRequests, Function<BigInteger, Single<T>> blockFetcher) {
+
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of concurrent requests must be at least 1.");
+        }
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+        if (startBlockNumber.compareTo(endBlockNumber) > 0) {
+            return Flowable.error(new IllegalArgumentException(
+                    "The start block cannot be greater than the end block."));
+        }
+
+        long count = endBlockNumber.subtract(startBlockNumber).longValueExact() + 1;
+        // concatMapEager keeps up to maxConcurrentRequests requests in flight and buffers their
+        // results until all preceding blocks have been emitted.
+        return Flowable.rangeLong(0, count)
+                .map(i -> ascending
+                        ? startBlockNumber.add(BigInteger.valueOf(i))
+                        : endBlockNumber.subtract(BigInteger.valueOf(i)))
+                .concatMapEager(i -> blockFetcher.apply(i).toFlowable(),
+                        maxConcurrentRequests, 1)
+                .subscribeOn(scheduler);
+    }
+
+    private Single<NeoGetBlock> getBlockAsync(BigInteger blockIndex,
+            boolean fullTransactionObjects) {
+        return Single.create(emitter -> neow3j
+                .getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects)
+                .sendAsync()
+                .whenComplete((block, throwable) -> {
+                    if (throwable != null) {
+                        emitter.onError(throwable);
+                    } else {
+                        emitter.onSuccess(block);
+                    }
+                }));
+    }
+
+    private Single<Block> getRawBlockAsync(BigInteger blockIndex) {
+        return Single.create(emitter -> neow3j
+                .getRawBlock(new BlockParameterIndex(blockIndex))
+                .sendAsync()
+                .whenComplete((rawBlock, throwable) -> {
+                    if (throwable != null) {
+                        emitter.onError(throwable);
+                        return;
+                    }
+                    try {
+                        emitter.onSuccess(rawBlock.getBlock());
+                    } catch (DeserializationException e) {
+                        emitter.onError(e);
+                    }
+                }));
+    }
+
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
@@ -1,11 +1,15 @@
 package io.neow3j.protocol.rx;
 
+import io.neow3j.block.Block;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
+import java.math.BigInteger;
+
 /**
  * The Observables JSON-RPC client event API.
  */
@@ -50,6 +54,79 @@ public interface Neow3jRx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range in ascending order.
+     * <p>
+     * Up to {@code maxConcurrentRequests} blocks are fetched in parallel, but they are emitted
+     * strictly in block order. Blocks are only fetched as fast as they are consumed downstream.
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param maxConcurrentRequests  the maximum number of block requests in flight at any time
+     * @return Flowable to emit these blocks
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, int maxConcurrentRequests);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range.
+     * <p>
+     * Up to {@code maxConcurrentRequests} blocks are fetched in parallel, but they are emitted
+     * strictly in block order. Blocks are only fetched as fast as they are consumed downstream.
+     *
+     * @param startBlock             block number to commence with
+     * @param endBlock               block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param ascending              if true, emits blocks in ascending order between range, otherwise
+     *                               in descending order
+     * @param maxConcurrentRequests  the maximum number of block requests in flight at any time
+     * @return Flowable to emit these blocks
+     */
+    Flowable<NeoGetBlock> replayBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock,
+            boolean fullTransactionObjects, boolean ascending, int maxConcurrentRequests);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range in ascending order.
+     * <p>
+     * The blocks are fetched in their binary form and deserialized locally, which is
+     * considerably cheaper than fetching and binding their verbose JSON form.
+     *
+     * @param startBlock            block number to commence with
+     * @param endBlock              block number to finish with
+     * @param maxConcurrentRequests the maximum number of block requests in flight at any time
+     * @return Flowable to emit these blocks
+     * @see #replayBlocksFlowable(BlockParameter, BlockParameter, boolean, int)
+     */
+    Flowable<Block> replayRawBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, int maxConcurrentRequests);
+
+    /**
+     * Create a Flowable that emits all blocks from the blockchain contained within the
+     * requested range.
+     * <p>
+     * The blocks are fetched in their binary form and deserialized locally, which is
+     * considerably cheaper than fetching and binding their verbose JSON form.
+     *
+     * @param startBlock            block number to commence with
+     * @param endBlock              block number to finish with
+     * @param ascending             if true, emits blocks in ascending order between range,
+     *                              otherwise in descending order
+     * @param maxConcurrentRequests the maximum number of block requests in flight at any time
+     * @return Flowable to emit these blocks
+     * @see #replayBlocksFlowable(BlockParameter, BlockParameter, boolean, boolean, int)
+     */
+    Flowable<Block> replayRawBlocksFlowable(
+            BlockParameter startBlock, BlockParameter endBlock, boolean ascending,
+            int maxConcurrentRequests);
+
     /**
      * <p>Create an Observable that emits all transactions from the blockchain starting with a
      * provided block number. Once it has replayed up to the most current block, the provided
@@ -94,4 +171,19 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Creates an Observable that emits the index of the block that contains the given
+     * transaction as soon as it has been integrated in one. The Observable completes right
+     * after emitting the block index.
+     * <p>
+     * All tracked transactions share one block stream, i.e., each block is only fetched once,
+     * no matter how many transactions are tracked at the same time.
+     *
+     * @param txId            the id of the transaction to track
+     * @param startBlockIndex the index of the first block that might contain the transaction,
+     *                        e.g., the block count at the time the transaction was sent
+     * @return Observable to emit the index of the block containing the transaction
+     */
+    Observable<Long> transactionTrackingObservable(String txId, BigInteger startBlockIndex);
+
 }
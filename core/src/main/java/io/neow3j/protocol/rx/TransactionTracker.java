@@ -0,0 +1,194 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.utils.Numeric;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the inclusion of transactions in blocks.
+ * <p>
+ * All tracked transactions share one block stream, i.e., every block is fetched once no matter
+ * how many transactions are tracked. The stream is started with the first tracked transaction
+ * and stopped as soon as no transaction is tracked anymore. The ids of the tracked transactions
+ * are indexed, so that a block is checked in time linear to the number of its transactions.
+ * <p>
+ * The transaction ids of the most recently processed blocks are kept, so that transactions
+ * included in a block before they were registered are found without fetching blocks again.
+ */
+public class TransactionTracker {
+
+    // Number of processed blocks of which the transaction ids are kept.
+    static final int BLOCK_HISTORY_SIZE = 1000;
+
+    private final Neow3j neow3j;
+
+    // All fields below are guarded by this.
+    private final Map<String, List<ObservableEmitter<Long>>> pending = new HashMap<>();
+    private final NavigableMap<Long, Set<String>> recentBlocks = new TreeMap<>();
+    private long lastProcessedBlock = -1;
+    private boolean streaming = false;
+    private Disposable blockSubscription;
+
+    public TransactionTracker(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Creates an Observable that emits the index of the block that contains the given
+     * transaction and completes right after.
+     *
+     * @param txId            the transaction id.
+     * @param startBlockIndex the index of the first block that might contain the transaction.
+     * @return the Observable.
+     */
+    public Observable<Long> track(String txId, BigInteger startBlockIndex) {
+        String id = Numeric.cleanHexPrefix(txId).toLowerCase();
+        long startBlock = startBlockIndex.longValueExact();
+        return Observable.create(emitter -> register(id, startBlock, emitter));
+    }
+
+    private void register(String txId, long startBlock, ObservableEmitter<Long> emitter) {
+        Long blockIndex = null;
+        synchronized (this) {
+            if (startBlock <= lastProcessedBlock) {
+                if (recentBlocks.isEmpty() || recentBlocks.firstKey() > startBlock) {
+                    // The blocks in question are not in the history anymore.
+                    emitter.setDisposable(trackSeparately(txId, startBlock).subscribe(
+                            emitter::onNext, emitter::onError, emitter::onComplete));
+                    return;
+                }
+                blockIndex = findInRecentBlocks(txId, startBlock);
+            }
+            if (blockIndex == null) {
+                pending.computeIfAbsent(txId, k -> new ArrayList<>()).add(emitter);
+                emitter.setCancellable(() -> unregister(txId, emitter));
+                if (!streaming) {
+                    startStream(Math.max(startBlock, lastProcessedBlock + 1));
+                }
+                return;
+            }
+        }
+        emitter.onNext(blockIndex);
+        emitter.onComplete();
+    }
+
+    private synchronized void unregister(String txId, ObservableEmitter<Long> emitter) {
+        List<ObservableEmitter<Long>> emitters = pending.get(txId);
+        if (emitters != null) {
+            emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+                pending.remove(txId);
+            }
+        }
+        if (pending.isEmpty()) {
+            stopStream();
+        }
+    }
+
+    private Long findInRecentBlocks(String txId, long startBlock) {
+        return recentBlocks.tailMap(startBlock, true).entrySet().stream()
+                .filter(e -> e.getValue().contains(txId))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void startStream(long fromBlock) {
+        if (fromBlock > lastProcessedBlock + 1) {
+            // Keep the history free of gaps.
+            recentBlocks.clear();
+            lastProcessedBlock = fromBlock - 1;
+        }
+        streaming = true;
+        Disposable subscription = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                new BlockParameterIndex(BigInteger.valueOf(fromBlock)), true)
+                .subscribe(this::processBlock, this::onStreamError, this::stopStream);
+        // The stream might already have been stopped while subscribing.
+        if (streaming) {
+            blockSubscription = subscription;
+        } else {
+            subscription.dispose();
+        }
+    }
+
+    private synchronized void stopStream() {
+        streaming = false;
+        if (blockSubscription != null) {
+            blockSubscription.dispose();
+            blockSubscription = null;
+        }
+    }
+
+    private void processBlock(NeoGetBlock neoGetBlock) {
+        NeoBlock block = neoGetBlock.getBlock();
+        List<ObservableEmitter<Long>> included = new ArrayList<>();
+        synchronized (this) {
+            if (!streaming || block.getIndex() <= lastProcessedBlock) {
+                return;
+            }
+            Set<String> txIds = block.getTransactions() == null
+                    ? Collections.emptySet()
+                    : block.getTransactions().stream()
+                            .map(tx -> Numeric.cleanHexPrefix(tx.getHash()).toLowerCase())
+                            .collect(Collectors.toSet());
+            recentBlocks.put(block.getIndex(), txIds);
+            if (recentBlocks.size() > BLOCK_HISTORY_SIZE) {
+                recentBlocks.pollFirstEntry();
+            }
+            lastProcessedBlock = block.getIndex();
+            for (String txId : txIds) {
+                List<ObservableEmitter<Long>> emitters = pending.remove(txId);
+                if (emitters != null) {
+                    included.addAll(emitters);
+                }
+            }
+            if (pending.isEmpty()) {
+                stopStream();
+            }
+        }
+        // Emit outside of the lock, since subscribers' code is run on emission.
+        included.forEach(emitter -> {
+            emitter.onNext(block.getIndex());
+            emitter.onComplete();
+        });
+    }
+
+    private void onStreamError(Throwable throwable) {
+        List<ObservableEmitter<Long>> emitters;
+        synchronized (this) {
+            emitters = pending.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            pending.clear();
+            stopStream();
+        }
+        emitters.forEach(emitter -> emitter.onError(throwable));
+    }
+
+    private Observable<Long> trackSeparately(String txId, long startBlock) {
+        return neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                new BlockParameterIndex(BigInteger.valueOf(startBlock)), true)
+                .filter(neoGetBlock -> neoGetBlock.getBlock().getTransactions() != null
+                        && neoGetBlock.getBlock().getTransactions().stream()
+                        .anyMatch(tx -> Numeric.cleanHexPrefix(tx.getHash())
+                                .equalsIgnoreCase(txId)))
+                .take(1)
+                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex());
+    }
+}
@@ -0,0 +1,27 @@
+package io.neow3j.protocol.websocket;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A request that was sent over a WebSocket connection and waits for its reply.
+ *
+ * @param <T> the type of the reply.
+ */
+class WebSocketRequest<T> {
+
+    private final CompletableFuture<T> onReply;
+    private final Class<T> responseType;
+
+    WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
+        this.onReply = onReply;
+        this.responseType = responseType;
+    }
+
+    CompletableFuture<T> getOnReply() {
+        return onReply;
+    }
+
+    Class<T> getResponseType() {
+        return responseType;
+    }
+}
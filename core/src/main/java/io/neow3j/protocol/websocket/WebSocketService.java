@@ -0,0 +1,465 @@
+package io.neow3j.protocol.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
+import io.neow3j.protocol.core.methods.response.NeoUnsubscribe;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * WebSocket implementation of the Service API.
+ * <p>
+ * All requests are multiplexed over one persistent connection and matched to their replies by
+ * their id. If the connection is lost, outstanding requests and requests sent before the
+ * connection is back fail with an {@link IOException}. The service reconnects in the background
+ * with an exponential backoff. Active subscriptions are re-opened after the connection was
+ * re-established.
+ */
+public class WebSocketService implements Neow3jService {
+
+    public static final String DEFAULT_URL = "ws://localhost:10334/";
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
+
+    // Timeout for replies to requests, in seconds.
+    static final long REQUEST_TIMEOUT = 60;
+
+    // Delays between reconnection attempts, in milliseconds.
+    static final long INITIAL_RECONNECT_DELAY = 1000;
+    static final long MAX_RECONNECT_DELAY = 30 * 1000;
+
+    private final WebSocketClient webSocketClient;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
+
+    private final Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSubscription<?>> subscriptionForId =
+            new ConcurrentHashMap<>();
+    private final Set<WebSocketSubscription<?>> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean reconnectScheduled = new AtomicBoolean(false);
+    private volatile long reconnectDelay = INITIAL_RECONNECT_DELAY;
+    private volatile boolean closed = false;
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param url                 the URL to the WebSocket service (JSON-RPC).
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(String url, boolean includeRawResponses) {
+        this(new WebSocketClient(parseURI(url)), includeRawResponses);
+    }
+
+    /**
+     * <p>Create a {@link WebSocketService} instance.</p>
+     * <br>
+     * <p>An internal {@link ScheduledExecutorService} is used for request timeouts and
+     * reconnection attempts, defined by {@link Async#defaultExecutorService()}. It is shut down
+     * when the service is closed.</p>
+     *
+     * @param webSocketClient     the WebSocket client instance.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
+        this(webSocketClient, Async.defaultExecutorService(), true, includeRawResponses);
+    }
+
+    /**
+     * Create a {@link WebSocketService} instance.
+     *
+     * @param webSocketClient     the WebSocket client instance.
+     * @param executor            the executor used for request timeouts and reconnection
+     *                            attempts. It is not shut down when the service is closed.
+     * @param includeRawResponses option to include or not raw responses on the {@link Response}
+     *                            object.
+     */
+    public WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this(webSocketClient, executor, false, includeRawResponses);
+    }
+
+    private WebSocketService(WebSocketClient webSocketClient, ScheduledExecutorService executor,
+            boolean ownsExecutor, boolean includeRawResponses) {
+        this.webSocketClient = webSocketClient;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        if (ownsExecutor && executor instanceof ScheduledThreadPoolExecutor) {
+            // Most request timeouts are cancelled. They should not pile up in the queue.
+            ((ScheduledThreadPoolExecutor) executor).setRemoveOnCancelPolicy(true);
+        }
+        this.objectMapper = ObjectMapperFactory.getObjectMapper();
+        this.includeRawResponses = includeRawResponses;
+        this.webSocketClient.setListener(new WebSocketListener() {
+            @Override
+            public void onMessage(String message) throws IOException {
+                onWebSocketMessage(message);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                // The client logs the error. A lost connection is also reported via onClose.
+            }
+
+            @Override
+            public void onClose() {
+                onWebSocketClose();
+            }
+        });
+    }
+
+    /**
+     * Connects to the WebSocket server. Has to be called before the service is used.
+     *
+     * @throws ConnectException if the connection could not be established.
+     */
+    public void connect() throws ConnectException {
+        try {
+            if (!webSocketClient.connectBlocking()) {
+                throw new ConnectException("Failed to connect to WebSocket server at "
+                        + webSocketClient.getURI());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while connecting to WebSocket server at "
+                    + webSocketClient.getURI());
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType)
+            throws IOException {
+        return waitFor(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request,
+            Class<T> responseType) {
+        CompletableFuture<T> reply = registerRequest(request.getId(), responseType);
+        try {
+            sendPayload(objectMapper.writeValueAsString(request));
+        } catch (IOException e) {
+            closeRequest(request.getId(), e);
+        }
+        return reply;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return waitFor(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ?>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+        List<CompletableFuture<?>> replies = new ArrayList<>(requests.size());
+        for (Request<?, ?> request : requests) {
+            replies.add(registerRequest(request.getId(), request.getResponseType()));
+        }
+        try {
+            sendPayload(objectMapper.writeValueAsString(requests));
+        } catch (IOException e) {
+            requests.forEach(r -> closeRequest(r.getId(), e));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> new BatchResponse(requests, replies.stream()
+                        .map(r -> (Response<?>) r.join())
+                        .collect(toList())));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(Request request,
+            String unsubscribeMethod, Class<T> responseType) {
+
+        // The subscription is opened with the first and closed with the last observer. If it
+        // failed, the next observer opens a new one.
+        return Observable.defer(() -> {
+            WebSocketSubscription<T> subscription = new WebSocketSubscription<>(
+                    PublishSubject.create(), responseType, request, unsubscribeMethod);
+            return subscription.getSubject()
+                    .doOnSubscribe(d -> openSubscription(subscription))
+                    .doOnDispose(() -> closeSubscription(subscription));
+        }).share();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        webSocketClient.close();
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> registerRequest(long requestId, Class<T> responseType) {
+        CompletableFuture<T> reply = new CompletableFuture<>();
+        if (closed) {
+            reply.completeExceptionally(new IOException("WebSocket service was closed"));
+            return reply;
+        }
+        requestForId.put(requestId, new WebSocketRequest<>(reply, responseType));
+        ScheduledFuture<?> timeout = executor.schedule(
+                () -> closeRequest(requestId, new IOException(
+                        String.format("Request with id %d timed out", requestId))),
+                REQUEST_TIMEOUT, TimeUnit.SECONDS);
+        reply.whenComplete((r, t) -> timeout.cancel(false));
+        return reply;
+    }
+
+    private void closeRequest(long requestId, Exception e) {
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void sendPayload(String payload) throws IOException {
+        if (closed) {
+            throw new IOException("WebSocket service was closed");
+        }
+        if (!webSocketClient.isOpen()) {
+            // Reconnecting can take long. It is not done on the caller's thread.
+            scheduleReconnect();
+            throw new IOException("WebSocket connection to " + webSocketClient.getURI()
+                    + " is not open");
+        }
+        try {
+            webSocketClient.send(payload);
+        } catch (WebsocketNotConnectedException e) {
+            throw new IOException("WebSocket connection to " + webSocketClient.getURI()
+                    + " was closed", e);
+        }
+    }
+
+    private synchronized void reconnect() throws IOException {
+        if (webSocketClient.isOpen()) {
+            return;
+        }
+        try {
+            if (!webSocketClient.reconnectBlocking()) {
+                throw new ConnectException("Failed to reconnect to WebSocket server at "
+                        + webSocketClient.getURI());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while reconnecting to WebSocket server at "
+                    + webSocketClient.getURI());
+        }
+        reconnectDelay = INITIAL_RECONNECT_DELAY;
+        subscriptionForId.clear();
+        subscriptions.forEach(this::sendSubscribeRequest);
+    }
+
+    private void scheduleReconnect() {
+        if (closed || !reconnectScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = reconnectDelay;
+        reconnectDelay = Math.min(delay * 2, MAX_RECONNECT_DELAY);
+        executor.schedule(() -> {
+            reconnectScheduled.set(false);
+            try {
+                reconnect();
+            } catch (IOException e) {
+                log.warn("Failed to reconnect to WebSocket server at {}. Retrying in {} ms.",
+                        webSocketClient.getURI(), reconnectDelay);
+                scheduleReconnect();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    void onWebSocketMessage(String message) throws IOException {
+        JsonNode node = objectMapper.readTree(message);
+        if (node.isArray()) {
+            for (JsonNode reply : node) {
+                processReply(reply);
+            }
+        } else if (node.hasNonNull("id")) {
+            processReply(node);
+        } else if (node.has("method")) {
+            processNotification(node);
+        } else {
+            throw new IOException("Unknown message type received: " + message);
+        }
+    }
+
+    void onWebSocketClose() {
+        IOException e = new IOException(
+                "WebSocket connection to " + webSocketClient.getURI() + " was closed");
+        new ArrayList<>(requestForId.keySet()).forEach(id -> closeRequest(id, e));
+        subscriptionForId.clear();
+        if (closed) {
+            subscriptions.forEach(s -> s.getSubject().onComplete());
+            subscriptions.clear();
+        } else {
+            scheduleReconnect();
+        }
+    }
+
+    private void processReply(JsonNode reply) throws IOException {
+        long id = reply.path("id").asLong();
+        WebSocketRequest<?> request = requestForId.remove(id);
+        if (request == null) {
+            log.warn("Received reply for unknown request with id {}", id);
+            return;
+        }
+        completeRequest(request, reply);
+    }
+
+    private <T> void completeRequest(WebSocketRequest<T> request, JsonNode reply) {
+        try {
+            T response = objectMapper.treeToValue(reply, request.getResponseType());
+            if (includeRawResponses && response instanceof Response) {
+                ((Response<?>) response).setRawResponse(reply.toString());
+            }
+            request.getOnReply().complete(response);
+        } catch (IOException e) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void processNotification(JsonNode notification) throws IOException {
+        JsonNode subscriptionId = notification.path("params").get("subscription");
+        if (subscriptionId == null) {
+            throw new IOException("Received notification without subscription id: "
+                    + notification.toString());
+        }
+        WebSocketSubscription<?> subscription = subscriptionForId.get(subscriptionId.asText());
+        if (subscription == null) {
+            log.warn("Received notification for unknown subscription with id {}",
+                    subscriptionId.asText());
+            return;
+        }
+        emitNotification(subscription, notification);
+    }
+
+    private <T> void emitNotification(WebSocketSubscription<T> subscription,
+            JsonNode notification) throws IOException {
+        subscription.getSubject().onNext(
+                objectMapper.treeToValue(notification, subscription.getResponseType()));
+    }
+
+    private void openSubscription(WebSocketSubscription<?> subscription) {
+        subscriptions.add(subscription);
+        sendSubscribeRequest(subscription);
+    }
+
+    private void sendSubscribeRequest(WebSocketSubscription<?> subscription) {
+        subscription.setSubscriptionId(null);
+        sendAsync(subscription.getSubscribeRequest(), NeoSubscribe.class)
+                .thenAccept(reply -> {
+                    if (reply.hasError()) {
+                        subscriptions.remove(subscription);
+                        subscription.getSubject().onError(new IOException(
+                                "Subscription request failed with error: "
+                                        + reply.getError().getMessage()));
+                    } else {
+                        subscription.setSubscriptionId(reply.getSubscriptionId());
+                        subscriptionForId.put(reply.getSubscriptionId(), subscription);
+                        if (!subscriptions.contains(subscription)) {
+                            // All observers were disposed before the subscription was opened.
+                            closeSubscription(subscription);
+                        }
+                    }
+                })
+                .exceptionally(t -> {
+                    // If the connection was lost, the subscription is re-opened on reconnection.
+                    // Otherwise, e.g., if the request timed out, it is retried.
+                    if (!closed && webSocketClient.isOpen()
+                            && subscriptions.contains(subscription)) {
+                        log.warn("Subscription request failed. Retrying in {} ms.",
+                                INITIAL_RECONNECT_DELAY, t);
+                        executor.schedule(() -> retrySubscribeRequest(subscription),
+                                INITIAL_RECONNECT_DELAY, TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                });
+    }
+
+    private void retrySubscribeRequest(WebSocketSubscription<?> subscription) {
+        if (!closed && webSocketClient.isOpen() && subscriptions.contains(subscription)
+                && subscription.getSubscriptionId() == null) {
+            sendSubscribeRequest(subscription);
+        }
+    }
+
+    private void closeSubscription(WebSocketSubscription<?> subscription) {
+        subscriptions.remove(subscription);
+        String subscriptionId = subscription.getSubscriptionId();
+        if (subscriptionId == null || subscriptionForId.remove(subscriptionId) == null
+                || !webSocketClient.isOpen()) {
+            return;
+        }
+        Request<String, NeoUnsubscribe> unsubscribeRequest = new Request<>(
+                subscription.getUnsubscribeMethod(), Collections.singletonList(subscriptionId),
+                this, NeoUnsubscribe.class);
+        sendAsync(unsubscribeRequest, NeoUnsubscribe.class)
+                .exceptionally(t -> {
+                    log.error("Failed to unsubscribe from subscription with id {}",
+                            subscriptionId, t);
+                    return null;
+                });
+    }
+
+    private static <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for WebSocket reply", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    private static URI parseURI(String url) {
+        try {
+            return new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(String.format("Failed to parse URL: '%s'", url), e);
+        }
+    }
+}
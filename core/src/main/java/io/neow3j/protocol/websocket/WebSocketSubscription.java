@@ -0,0 +1,53 @@
+package io.neow3j.protocol.websocket;
+
+import io.neow3j.protocol.core.Request;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * An active subscription to server notifications.
+ * <p>
+ * Holds on to the request that opened the subscription, so that it can be re-opened after the
+ * connection was re-established.
+ *
+ * @param <T> the type of the notifications.
+ */
+class WebSocketSubscription<T> {
+
+    private final PublishSubject<T> subject;
+    private final Class<T> responseType;
+    private final Request<?, ?> subscribeRequest;
+    private final String unsubscribeMethod;
+    private volatile String subscriptionId;
+
+    WebSocketSubscription(PublishSubject<T> subject, Class<T> responseType,
+            Request<?, ?> subscribeRequest, String unsubscribeMethod) {
+        this.subject = subject;
+        this.responseType = responseType;
+        this.subscribeRequest = subscribeRequest;
+        this.unsubscribeMethod = unsubscribeMethod;
+    }
+
+    PublishSubject<T> getSubject() {
+        return subject;
+    }
+
+    Class<T> getResponseType() {
+        return responseType;
+    }
+
+    Request<?, ?> getSubscribeRequest() {
+        return subscribeRequest;
+    }
+
+    String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    void setSubscriptionId(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+    }
+}
@@ -2,6 +2,7 @@ package io.neow3j.transaction;
 
 import io.neow3j.contract.ScriptBuilder;
 import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash;
 import io.neow3j.crypto.Sign;
 import io.neow3j.crypto.Sign.SignatureData;
 import io.neow3j.io.BinaryReader;
@@ -10,9 +11,11 @@ import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.constants.OpCode;
 import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.transaction.exceptions.ScriptFormatException;
 import io.neow3j.utils.Numeric;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -65,8 +68,9 @@ public class InvocationScript extends NeoSerializable {
      * @return the constructed invocation script.
      */
     public static InvocationScript fromMessageAndKeyPair(byte[] message, ECKeyPair keyPair) {
-        SignatureData signature = Sign.signMessage(message, keyPair);
-        return fromSignature(signature);
+        // The recovery id of Sign.signMessage() is not needed for the witness, so skip it.
+        return fromSignature(SignatureData.fromByteArray(
+                keyPair.signAndGetArrayBytes(Hash.sha256(message))));
     }
 
     public static InvocationScript fromSignatures(List<SignatureData> sigs) {
@@ -79,6 +83,28 @@ public class InvocationScript extends NeoSerializable {
         return script;
     }
 
+    /**
+     * Gets the signatures pushed by this invocation script.
+     *
+     * @return the signatures in the order they are pushed.
+     * @throws ScriptFormatException if this script does not only consist of signature pushes.
+     */
+    public List<SignatureData> getSignatures() {
+        List<SignatureData> sigs = new ArrayList<>();
+        int pos = 0;
+        while (pos < script.length) {
+            // Each signature is pushed with PUSHDATA1, followed by the size byte and 64 bytes.
+            if (script.length - pos < 66 || script[pos] != OpCode.PUSHDATA1.getCode()
+                    || script[pos + 1] != 64) {
+                throw new ScriptFormatException("The invocation script does not only consist "
+                        + "of signatures.");
+            }
+            sigs.add(SignatureData.fromByteArray(Arrays.copyOfRange(script, pos + 2, pos + 66)));
+            pos += 66;
+        }
+        return sigs;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
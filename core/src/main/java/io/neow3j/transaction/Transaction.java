@@ -10,15 +10,12 @@ import io.neow3j.io.IOUtils;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.io.exceptions.DeserializationException;
 import io.neow3j.protocol.Neow3j;
-import io.neow3j.protocol.core.BlockParameterIndex;
 import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
-import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.transaction.exceptions.TransactionConfigurationException;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import io.reactivex.Observable;
-import io.reactivex.functions.Predicate;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
@@ -163,6 +160,35 @@ public class Transaction extends NeoSerializable {
         return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
     }
 
+    /**
+     * Verifies that this transaction has exactly one witness for each of its signers and that all
+     * witnesses hold valid signatures of this transaction.
+     * <p>
+     * The network magic number, which is part of the signed data, is fetched from the neo-node
+     * this transaction was built with. Use {@link Transaction#verifyWitnesses(byte[])} for
+     * transactions that were deserialized from their raw form.
+     * <p>
+     * Only witnesses of single-sig and multi-sig accounts can be verified locally (see
+     * {@link WitnessVerifier}).
+     *
+     * @return true if all witnesses are valid. False, otherwise.
+     * @throws IOException if the network magic number cannot be fetched from the neo-node.
+     */
+    public boolean verifyWitnesses() throws IOException {
+        return new WitnessVerifier().verify(this);
+    }
+
+    /**
+     * Verifies the witnesses of this transaction like {@link Transaction#verifyWitnesses()},
+     * using the given network magic number.
+     *
+     * @param networkMagic the magic number of the network this transaction is meant for.
+     * @return true if all witnesses are valid. False, otherwise.
+     */
+    public boolean verifyWitnesses(byte[] networkMagic) {
+        return new WitnessVerifier().verify(this, networkMagic);
+    }
+
     /**
      * Sends this invocation transaction to the neo-node via the `sendrawtransaction` RPC.
      *
@@ -193,7 +219,8 @@ public class Transaction extends NeoSerializable {
      * number.
      * <p>
      * The observable starts tracking the blocks from the point at which the transaction has been
-     * sent.
+     * sent. The blocks are fetched by one block stream that is shared by all transactions tracked
+     * on the same {@link Neow3j} instance.
      *
      * @return The observable.
      * @throws IllegalStateException if this transaction has not yet been sent.
@@ -202,23 +229,13 @@ public class Transaction extends NeoSerializable {
         if (blockIndexWhenSent == null) {
             throw new IllegalStateException("Can't subscribe before transaction has been sent.");
         }
-
-        Predicate<NeoGetBlock> pred = neoGetBlock ->
-                neoGetBlock.getBlock().getTransactions() != null &&
-                        neoGetBlock.getBlock().getTransactions().stream().anyMatch(transaction -> {
-                            try {
-                                return Numeric.cleanHexPrefix(transaction.getHash())
-                                        .equals(getTxId());
-                            } catch (IOException e) {
-                               throw new RuntimeException(e);
-                            }
-                        });
-
-        return neow.catchUpToLatestAndSubscribeToNewBlocksObservable(
-                new BlockParameterIndex(blockIndexWhenSent), true)
-                .takeUntil(pred)
-                .filter(pred)
-                .map(neoGetBlock -> neoGetBlock.getBlock().getIndex());
+        String txId;
+        try {
+            txId = getTxId();
+        } catch (IOException e) {
+            return Observable.error(e);
+        }
+        return neow.transactionTrackingObservable(txId, blockIndexWhenSent);
     }
 
     /**
@@ -0,0 +1,195 @@
+package io.neow3j.transaction;
+
+import static java.util.stream.Collectors.toList;
+
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.crypto.SignatureVerifier;
+import io.neow3j.transaction.exceptions.ScriptFormatException;
+import io.neow3j.utils.ArrayUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Verifies the witnesses of transactions locally, i.e., without a neo-node.
+ * <p>
+ * Only witnesses of single-sig and multi-sig accounts can be verified. A witness with any other
+ * verification script, e.g., of a contract, is considered invalid because verifying it requires
+ * executing the script on the blockchain.
+ * <p>
+ * The witnesses of one or many transactions are verified in parallel. The public keys are
+ * managed by a {@link SignatureVerifier}, which reuses its precomputations for public keys that
+ * are seen repeatedly.
+ */
+public class WitnessVerifier {
+
+    private final SignatureVerifier signatureVerifier;
+
+    /**
+     * Constructs a witness verifier that uses the shared {@link SignatureVerifier}.
+     */
+    public WitnessVerifier() {
+        this(SignatureVerifier.getShared());
+    }
+
+    /**
+     * Constructs a witness verifier that uses the given {@link SignatureVerifier}.
+     *
+     * @param signatureVerifier the signature verifier.
+     */
+    public WitnessVerifier(SignatureVerifier signatureVerifier) {
+        this.signatureVerifier = signatureVerifier;
+    }
+
+    /**
+     * Verifies that the given witness holds valid signatures of the given message.
+     *
+     * @param message the signed message, e.g., the hash data of a transaction.
+     * @param witness the witness.
+     * @return true if the witness is valid. False, otherwise.
+     */
+    public boolean verify(byte[] message, Witness witness) {
+        return verifyHash(Hash.sha256(message), witness);
+    }
+
+    /**
+     * Verifies the witnesses of the given transaction like
+     * {@link WitnessVerifier#verify(Transaction, byte[])}. The network magic number is fetched
+     * from the neo-node the transaction was built with.
+     *
+     * @param tx the transaction.
+     * @return true if the transaction has a valid witness for each of its signers. False,
+     * otherwise.
+     * @throws IOException if the network magic number cannot be fetched from the neo-node.
+     */
+    public boolean verify(Transaction tx) throws IOException {
+        return verifyWithHashData(Arrays.asList(tx), Arrays.asList(tx.getHashData())).get(0);
+    }
+
+    /**
+     * Verifies that the given transaction has exactly one witness for each of its signers and
+     * that all of the witnesses are valid. Like on the blockchain, the witness at index
+     * {@code i} must belong to the signer at index {@code i}.
+     *
+     * @param tx           the transaction.
+     * @param networkMagic the magic number of the network the transaction is meant for.
+     * @return true if the transaction has a valid witness for each of its signers. False,
+     * otherwise.
+     */
+    public boolean verify(Transaction tx, byte[] networkMagic) {
+        return verifyAll(Arrays.asList(tx), networkMagic).get(0);
+    }
+
+    /**
+     * Verifies the witnesses of all given transactions like
+     * {@link WitnessVerifier#verify(Transaction, byte[])}. All witnesses of all transactions are
+     * verified in parallel.
+     *
+     * @param txs          the transactions.
+     * @param networkMagic the magic number of the network the transactions are meant for.
+     * @return the verification result of each transaction, in the order of the transactions.
+     */
+    public List<Boolean> verifyAll(List<Transaction> txs, byte[] networkMagic) {
+        return verifyWithHashData(txs, txs.stream()
+                .map(tx -> ArrayUtils.concatenate(networkMagic, tx.toArrayWithoutWitnesses()))
+                .collect(toList()));
+    }
+
+    private List<Boolean> verifyWithHashData(List<Transaction> txs, List<byte[]> hashData) {
+        List<WitnessCheck> checks = new ArrayList<>();
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < txs.size(); i++) {
+            Transaction tx = txs.get(i);
+            boolean complete = hasWitnessForEachSigner(tx);
+            results.add(complete);
+            if (complete) {
+                byte[] hash = Hash.sha256(hashData.get(i));
+                for (Witness witness : tx.getWitnesses()) {
+                    checks.add(new WitnessCheck(i, hash, witness));
+                }
+            }
+        }
+        Stream<WitnessCheck> stream = checks.size() > 1
+                ? checks.parallelStream()
+                : checks.stream();
+        stream.filter(c -> !verifyHash(c.hash, c.witness))
+                .map(c -> c.tx)
+                .collect(toList())
+                .forEach(tx -> results.set(tx, false));
+        return results;
+    }
+
+    private static boolean hasWitnessForEachSigner(Transaction tx) {
+        List<Witness> witnesses = tx.getWitnesses();
+        List<Signer> signers = tx.getSigners();
+        if (witnesses.size() != signers.size()) {
+            return false;
+        }
+        for (int i = 0; i < signers.size(); i++) {
+            if (!signers.get(i).getScriptHash().equals(witnesses.get(i).getScriptHash())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean verifyHash(byte[] hash, Witness witness) {
+        VerificationScript verificationScript = witness.getVerificationScript();
+        try {
+            List<SignatureData> sigs = witness.getInvocationScript().getSignatures();
+            if (verificationScript.isSingleSigScript()) {
+                return sigs.size() == 1 && signatureVerifier.verifyHash(hash, sigs.get(0),
+                        verificationScript.getPublicKeys().get(0));
+            }
+            if (verificationScript.isMultiSigScript()) {
+                return verifyMultiSig(hash, sigs, verificationScript.getPublicKeys(),
+                        verificationScript.getSigningThreshold());
+            }
+        } catch (ScriptFormatException | IllegalArgumentException e) {
+            // The invocation script is malformed or the verification script contains a public
+            // key that is not a valid point on the curve.
+            return false;
+        }
+        return false;
+    }
+
+    // Checks the signatures like the multi-sig check of the NeoVM. The signatures must be in the
+    // same order as the public keys of their signers.
+    private boolean verifyMultiSig(byte[] hash, List<SignatureData> sigs, List<ECPublicKey> keys,
+            int m) {
+        if (sigs.size() != m) {
+            return false;
+        }
+        int n = keys.size();
+        int i = 0;
+        for (int j = 0; i < m && j < n; j++) {
+            if (signatureVerifier.verifyHash(hash, sigs.get(i), keys.get(j))) {
+                i++;
+            }
+            if (m - i > n - j - 1) {
+                return false;
+            }
+        }
+        return i == m;
+    }
+
+    private static class WitnessCheck {
+
+        private final int tx;
+        private final byte[] hash;
+        private final Witness witness;
+
+        private WitnessCheck(int tx, byte[] hash, Witness witness) {
+            this.tx = tx;
+            this.hash = hash;
+            this.witness = witness;
+        }
+
+    }
+
+}
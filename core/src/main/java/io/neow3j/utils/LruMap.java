@@ -0,0 +1,78 @@
+package io.neow3j.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A map that holds a bounded number of entries and evicts the least recently used one when it
+ * is full. Getting or putting an entry counts as using it.
+ * <p>
+ * The map is not thread-safe. Caches using it guard it with their own lock.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Consumer<? super V> onEviction;
+    private int maxSize;
+
+    /**
+     * Constructs an empty map that holds at most the given number of entries.
+     *
+     * @param maxSize the maximum number of entries.
+     */
+    public LruMap(int maxSize) {
+        this(maxSize, value -> { });
+    }
+
+    /**
+     * Constructs an empty map that holds at most the given number of entries and passes the
+     * value of every evicted entry to the given consumer, e.g., to erase it.
+     *
+     * @param maxSize    the maximum number of entries.
+     * @param onEviction the consumer of evicted values.
+     */
+    public LruMap(int maxSize, Consumer<? super V> onEviction) {
+        super(16, 0.75f, true);
+        this.onEviction = onEviction;
+        setMaxSize(maxSize);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries. If the map holds more entries, the least recently used
+     * ones are evicted.
+     *
+     * @param maxSize the maximum number of entries.
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be greater than 0.");
+        }
+        this.maxSize = maxSize;
+        Iterator<V> it = values().iterator();
+        while (size() > maxSize) {
+            V value = it.next();
+            it.remove();
+            onEviction.accept(value);
+        }
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (size() > maxSize) {
+            onEviction.accept(eldest.getValue());
+            return true;
+        }
+        return false;
+    }
+
+}
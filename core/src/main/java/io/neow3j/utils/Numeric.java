@@ -5,6 +5,8 @@ import io.neow3j.exceptions.MessageEncodingException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.regex.Pattern;
 
@@ -20,6 +22,18 @@ public final class Numeric {
 
     private static final String HEX_PREFIX = "0x";
     private static final Pattern HEX_PATTERN = Pattern.compile("^([0-9A-Fa-f]{2})*$");
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    // The values of the hexadecimal digits indexed by their ASCII code. -1 for non-digits, as
+    // returned by Character.digit().
+    private static final int[] HEX_DIGIT_VALUES = new int[128];
+
+    static {
+        Arrays.fill(HEX_DIGIT_VALUES, -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_DIGIT_VALUES[Character.forDigit(i, 16)] = i;
+            HEX_DIGIT_VALUES[Character.toUpperCase(Character.forDigit(i, 16))] = i;
+        }
+    }
 
     private Numeric() {
     }
@@ -196,7 +210,7 @@ public final class Numeric {
     }
 
     public static String toHexStringNoPrefix(byte input) {
-        return toHexString(new byte[]{input}, 0, 1, false);
+        return new String(new char[]{HEX_CHARS[(input & 0xFF) >>> 4], HEX_CHARS[input & 0x0F]});
     }
 
     public static String toHexStringNoPrefix(byte[] input) {
@@ -281,42 +295,112 @@ public final class Numeric {
     }
 
     public static byte[] hexStringToByteArray(String input) {
-        String cleanInput = cleanHexPrefix(input);
-
-        int len = cleanInput.length();
-
-        if (len == 0) {
+        int start = containsHexPrefix(input) ? 2 : 0;
+        int len = input.length() - start;
+        if (len <= 0) {
             return new byte[]{};
         }
+        byte[] data = new byte[(len + 1) / 2];
+        writeHexBytes(input, start, len, data, 0);
+        return data;
+    }
 
-        byte[] data;
-        int startIdx;
-        if (len % 2 != 0) {
-            data = new byte[(len / 2) + 1];
-            data[0] = (byte) Character.digit(cleanInput.charAt(0), 16);
-            startIdx = 1;
+    /**
+     * Decodes the given hexadecimal string and writes the bytes to the given buffer, starting at
+     * the buffer's current position. The buffer's position is advanced by the number of bytes
+     * written.
+     * <p>
+     * A hexadecimal string with an odd number of characters is decoded as if it was padded in
+     * the front with a zero.
+     *
+     * @param input  the hexadecimal string with or without the '0x' prefix.
+     * @param output the buffer to write to.
+     * @return the number of bytes written.
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+     */
+    public static int hexStringToBytes(String input, ByteBuffer output) {
+        int start = containsHexPrefix(input) ? 2 : 0;
+        int len = input.length() - start;
+        if (len <= 0) {
+            return 0;
+        }
+        int byteCount = (len + 1) / 2;
+        if (output.hasArray()) {
+            if (output.remaining() < byteCount) {
+                throw new BufferOverflowException();
+            }
+            writeHexBytes(input, start, len, output.array(),
+                    output.arrayOffset() + output.position());
+            output.position(output.position() + byteCount);
         } else {
-            data = new byte[len / 2];
-            startIdx = 0;
+            int i = start;
+            if (len % 2 != 0) {
+                output.put((byte) hexDigit(input.charAt(i++)));
+            }
+            for (; i < start + len; i += 2) {
+                output.put(toByte(input.charAt(i), input.charAt(i + 1)));
+            }
+        }
+        return byteCount;
+    }
+
+    private static void writeHexBytes(String input, int start, int len, byte[] output,
+            int outputOffset) {
+
+        int i = start;
+        int j = outputOffset;
+        if (len % 2 != 0) {
+            output[j++] = (byte) hexDigit(input.charAt(i++));
         }
+        for (; i < start + len; i += 2) {
+            output[j++] = toByte(input.charAt(i), input.charAt(i + 1));
+        }
+    }
 
-        for (int i = startIdx; i < len; i += 2) {
-            data[(i + 1) / 2] = (byte) ((Character.digit(cleanInput.charAt(i), 16) << 4)
-                    + Character.digit(cleanInput.charAt(i + 1), 16));
+    private static byte toByte(char high, char low) {
+        return (byte) ((hexDigit(high) << 4) + hexDigit(low));
+    }
+
+    private static int hexDigit(char c) {
+        if (c < HEX_DIGIT_VALUES.length) {
+            return HEX_DIGIT_VALUES[c];
         }
-        return data;
+        return Character.digit(c, 16);
     }
 
     public static String toHexString(byte[] input, int offset, int length, boolean withPrefix) {
-        StringBuilder stringBuilder = new StringBuilder();
+        int prefixLength = withPrefix ? HEX_PREFIX.length() : 0;
+        char[] chars = new char[prefixLength + 2 * length];
         if (withPrefix) {
-            stringBuilder.append("0x");
+            chars[0] = '0';
+            chars[1] = 'x';
         }
+        toHexChars(input, offset, length, chars, prefixLength);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the lower-case hexadecimal representation of the given bytes to the given char
+     * array. Two characters are written per byte and no prefix is added.
+     *
+     * @param input        the bytes to encode.
+     * @param offset       the offset of the first byte to encode.
+     * @param length       the number of bytes to encode.
+     * @param output       the char array to write to.
+     * @param outputOffset the index in the char array at which the first character is written.
+     * @return the index in the char array after the last written character.
+     * @throws ArrayIndexOutOfBoundsException if the char array is too small.
+     */
+    public static int toHexChars(byte[] input, int offset, int length, char[] output,
+            int outputOffset) {
+
+        int j = outputOffset;
         for (int i = offset; i < offset + length; i++) {
-            stringBuilder.append(String.format("%02x", input[i] & 0xFF));
+            int b = input[i] & 0xFF;
+            output[j++] = HEX_CHARS[b >>> 4];
+            output[j++] = HEX_CHARS[b & 0x0F];
         }
-
-        return stringBuilder.toString();
+        return j;
     }
 
     public static String toHexString(byte input) {
@@ -0,0 +1,365 @@
+package io.neow3j.vm;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Base58;
+import io.neow3j.crypto.Base64;
+import io.neow3j.crypto.Hash;
+import io.neow3j.model.types.StackItemType;
+import io.neow3j.protocol.core.methods.response.InteropInterfaceStackItem;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.Execution.Notification;
+import io.neow3j.protocol.core.methods.response.StackItem;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Executes the interop services that do not depend on the state of the blockchain, except for
+ * the contract storage, which is read from a {@link StorageProvider}.
+ * <p>
+ * Supported are the services for encoding and hashing, the runtime services that only depend on
+ * the executed scripts, logs and notifications, and the storage services except for
+ * {@code System.Storage.Find}. Writes to the storage are kept in memory and are only visible to
+ * the execution they happen in. All other services, e.g., contract calls, fault the execution.
+ * Subclasses can support them by overriding {@link DefaultInteropHandler#invoke}.
+ */
+public class DefaultInteropHandler implements InteropHandler {
+
+    /**
+     * The default price in fractions of GAS per byte of data written to the storage.
+     */
+    public static final long DEFAULT_STORAGE_PRICE = 100000;
+
+    static final int MAX_STORAGE_KEY_SIZE = 64;
+    static final int MAX_STORAGE_VALUE_SIZE = 0xFFFF;
+
+    // The trigger type of transactions executed on the blockchain.
+    private static final int TRIGGER_APPLICATION = 0x40;
+    private static final byte[] PLATFORM = "NEO".getBytes(StandardCharsets.US_ASCII);
+
+    private final StorageProvider storageProvider;
+    private final Set<ScriptHash> witnesses = new HashSet<>();
+    private long storagePrice = DEFAULT_STORAGE_PRICE;
+
+    // Values written by the executed scripts. Deleted keys map to null.
+    private final Map<StorageKey, byte[]> storageChanges = new HashMap<>();
+    private final List<String> logs = new ArrayList<>();
+    private final List<Notification> notifications = new ArrayList<>();
+
+    /**
+     * Constructs a handler reading the contract storage from the given provider.
+     *
+     * @param storageProvider the storage provider.
+     */
+    public DefaultInteropHandler(StorageProvider storageProvider) {
+        this.storageProvider = storageProvider;
+    }
+
+    /**
+     * Adds the given accounts to the accounts for which {@code System.Runtime.CheckWitness}
+     * succeeds, i.e., the accounts that would sign the transaction with the executed script.
+     *
+     * @param accounts the script hashes of the accounts.
+     * @return this handler.
+     */
+    public DefaultInteropHandler witnesses(ScriptHash... accounts) {
+        witnesses.addAll(Arrays.asList(accounts));
+        return this;
+    }
+
+    /**
+     * Sets the price per byte of data written to the storage.
+     * <p>
+     * It is set to {@link DefaultInteropHandler#DEFAULT_STORAGE_PRICE} by default.
+     *
+     * @param storagePrice the price in fractions of GAS.
+     * @return this handler.
+     */
+    public DefaultInteropHandler storagePrice(long storagePrice) {
+        this.storagePrice = storagePrice;
+        return this;
+    }
+
+    /**
+     * Gets the messages logged with {@code System.Runtime.Log}.
+     *
+     * @return the messages.
+     */
+    public List<String> getLogs() {
+        return Collections.unmodifiableList(logs);
+    }
+
+    /**
+     * Gets the notifications sent with {@code System.Runtime.Notify}.
+     *
+     * @return the notifications.
+     */
+    public List<Notification> getNotifications() {
+        return Collections.unmodifiableList(notifications);
+    }
+
+    @Override
+    public void invoke(ExecutionEngine engine, InteropServiceCode service) throws IOException {
+        switch (service) {
+            case SYSTEM_BINARY_BASE64ENCODE:
+                engine.push(toBytes(Base64.encode(engine.popBytes())));
+                break;
+            case SYSTEM_BINARY_BASE64DECODE:
+                engine.push(Base64.decode(popString(engine)));
+                break;
+            case SYSTEM_BINARY_BASE58ENCODE:
+                engine.push(toBytes(Base58.encode(engine.popBytes())));
+                break;
+            case SYSTEM_BINARY_BASE58DECODE:
+                engine.push(Base58.decode(popString(engine)));
+                break;
+            case SYSTEM_BINARY_ITOA:
+                BigInteger value = engine.popInteger();
+                engine.push(toBytes(itoa(value, engine.popInteger().intValue())));
+                break;
+            case SYSTEM_BINARY_ATOI:
+                String string = popString(engine);
+                engine.push(atoi(string, engine.popInteger().intValue()));
+                break;
+            case NEO_CRYPTO_SHA256:
+                engine.push(Hash.sha256(engine.popBytes()));
+                break;
+            case NEO_CRYPTO_RIPEMD160:
+                engine.push(Hash.ripemd160(engine.popBytes()));
+                break;
+            case SYSTEM_RUNTIME_PLATFORM:
+                engine.push(PLATFORM);
+                break;
+            case SYSTEM_RUNTIME_GETTRIGGER:
+                engine.push(BigInteger.valueOf(TRIGGER_APPLICATION));
+                break;
+            case SYSTEM_RUNTIME_GETEXECUTINGSCRIPTHASH:
+                engine.push(engine.getCurrentContext().getScriptHash().toArray());
+                break;
+            case SYSTEM_RUNTIME_GETCALLINGSCRIPTHASH:
+                ScriptHash callingScriptHash = engine.getCallingScriptHash();
+                if (callingScriptHash == null) {
+                    engine.pushNull();
+                } else {
+                    engine.push(callingScriptHash.toArray());
+                }
+                break;
+            case SYSTEM_RUNTIME_GETENTRYSCRIPTHASH:
+                engine.push(engine.getEntryContext().getScriptHash().toArray());
+                break;
+            case SYSTEM_RUNTIME_CHECKWITNESS:
+                engine.push(checkWitness(engine.popBytes()));
+                break;
+            case SYSTEM_RUNTIME_GASLEFT:
+                engine.push(BigInteger.valueOf(engine.getGasLeft()));
+                break;
+            case SYSTEM_RUNTIME_LOG:
+                logs.add(popString(engine));
+                break;
+            case SYSTEM_RUNTIME_NOTIFY:
+                String eventName = popString(engine);
+                StackItem state = engine.pop();
+                if (state.getType() != StackItemType.ARRAY) {
+                    throw new VMException("The state of a notification must be an array.");
+                }
+                notifications.add(new Notification(Numeric.prependHexPrefix(
+                        engine.getCurrentContext().getScriptHash().toString()), eventName, state));
+                break;
+            case SYSTEM_STORAGE_GETCONTEXT:
+                engine.push(new InteropInterfaceStackItem(
+                        new StorageContext(engine.getCurrentContext().getScriptHash(), false)));
+                break;
+            case SYSTEM_STORAGE_GETREADONLYCONTEXT:
+                engine.push(new InteropInterfaceStackItem(
+                        new StorageContext(engine.getCurrentContext().getScriptHash(), true)));
+                break;
+            case SYSTEM_STORAGE_ASREADONLY:
+                StorageContext context = popStorageContext(engine);
+                engine.push(new InteropInterfaceStackItem(
+                        new StorageContext(context.contract, true)));
+                break;
+            case SYSTEM_STORAGE_GET:
+                StorageContext getContext = popStorageContext(engine);
+                byte[] stored = getStorage(getContext.contract, engine.popBytes());
+                if (stored == null) {
+                    engine.pushNull();
+                } else {
+                    engine.push(stored);
+                }
+                break;
+            case SYSTEM_STORAGE_PUT:
+            case SYSTEM_STORAGE_PUTEX:
+                StorageContext putContext = popWritableStorageContext(engine);
+                byte[] key = engine.popBytes();
+                byte[] newValue = engine.popBytes();
+                if (service == InteropServiceCode.SYSTEM_STORAGE_PUTEX) {
+                    // The storage flags do not affect a single execution.
+                    engine.popInteger();
+                }
+                putStorage(engine, putContext.contract, key, newValue);
+                break;
+            case SYSTEM_STORAGE_DELETE:
+                StorageContext deleteContext = popWritableStorageContext(engine);
+                storageChanges.put(new StorageKey(deleteContext.contract, engine.popBytes()),
+                        null);
+                break;
+            default:
+                throw new VMException("The interop service " + service.getName() + " is not "
+                        + "supported by the local execution engine.");
+        }
+    }
+
+    private boolean checkWitness(byte[] hashOrPublicKey) {
+        ScriptHash account;
+        if (hashOrPublicKey.length == NeoConstants.SCRIPTHASH_SIZE) {
+            account = new ScriptHash(hashOrPublicKey);
+        } else if (hashOrPublicKey.length == NeoConstants.PUBLIC_KEY_SIZE) {
+            account = ScriptHash.fromPublicKey(hashOrPublicKey);
+        } else {
+            throw new VMException("CheckWitness requires a script hash or a public key.");
+        }
+        return witnesses.contains(account);
+    }
+
+    private byte[] getStorage(ScriptHash contract, byte[] key) throws IOException {
+        StorageKey storageKey = new StorageKey(contract, key);
+        if (storageChanges.containsKey(storageKey)) {
+            return storageChanges.get(storageKey);
+        }
+        return storageProvider.get(contract, key);
+    }
+
+    private void putStorage(ExecutionEngine engine, ScriptHash contract, byte[] key,
+            byte[] value) throws IOException {
+
+        if (key.length > MAX_STORAGE_KEY_SIZE || value.length > MAX_STORAGE_VALUE_SIZE) {
+            throw new VMException("The storage key or value exceeds the maximum size.");
+        }
+        byte[] oldValue = getStorage(contract, key);
+        // Only new bytes are charged in full. Overwritten bytes are charged a quarter.
+        long newDataSize;
+        if (oldValue == null) {
+            newDataSize = key.length + value.length;
+        } else if (value.length <= oldValue.length) {
+            newDataSize = (value.length - 1) / 4 + 1;
+        } else {
+            newDataSize = (oldValue.length - 1) / 4 + 1 + value.length - oldValue.length;
+        }
+        engine.addGas(newDataSize * storagePrice);
+        storageChanges.put(new StorageKey(contract, key), value);
+    }
+
+    private static StorageContext popStorageContext(ExecutionEngine engine) {
+        StackItem item = engine.pop();
+        if (item.getType() != StackItemType.INTEROP_INTERFACE
+                || !(((InteropInterfaceStackItem) item).getValue() instanceof StorageContext)) {
+            throw new VMException("Expected a storage context but got "
+                    + item.getType().jsonValue() + ".");
+        }
+        return (StorageContext) ((InteropInterfaceStackItem) item).getValue();
+    }
+
+    private static StorageContext popWritableStorageContext(ExecutionEngine engine) {
+        StorageContext context = popStorageContext(engine);
+        if (context.readOnly) {
+            throw new VMException("The storage context is read-only.");
+        }
+        return context;
+    }
+
+    private static String popString(ExecutionEngine engine) {
+        return new String(engine.popBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Hexadecimal numbers are in two's complement with as few digits as possible, like in C#.
+    private static String itoa(BigInteger value, int base) {
+        if (base == 10) {
+            return value.toString();
+        }
+        if (base != 16) {
+            throw new VMException("Only base 10 and 16 are supported.");
+        }
+        String hex = Numeric.toHexStringNoPrefix(value.toByteArray());
+        while (hex.length() > 1 && (hex.charAt(0) == '0' && hex.charAt(1) < '8'
+                || hex.charAt(0) == 'f' && hex.charAt(1) >= '8')) {
+            hex = hex.substring(1);
+        }
+        return hex;
+    }
+
+    private static BigInteger atoi(String string, int base) {
+        try {
+            if (base == 10) {
+                return new BigInteger(string);
+            }
+            if (base != 16) {
+                throw new VMException("Only base 10 and 16 are supported.");
+            }
+            BigInteger value = new BigInteger(string, 16);
+            if (Character.digit(string.charAt(0), 16) >= 8) {
+                value = value.subtract(BigInteger.ONE.shiftLeft(4 * string.length()));
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new VMException("The string '" + string + "' is not a number in base "
+                    + base + ".");
+        }
+    }
+
+    /**
+     * The storage of a contract as passed to the storage interop services.
+     */
+    public static class StorageContext {
+
+        private final ScriptHash contract;
+        private final boolean readOnly;
+
+        private StorageContext(ScriptHash contract, boolean readOnly) {
+            this.contract = contract;
+            this.readOnly = readOnly;
+        }
+
+        public ScriptHash getContract() {
+            return contract;
+        }
+
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StorageContext)) {
+                return false;
+            }
+            StorageContext other = (StorageContext) o;
+            return readOnly == other.readOnly && contract.equals(other.contract);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contract, readOnly);
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.neow3j.vm;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.protocol.core.methods.response.StackItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An entry of the invocation stack of an {@link ExecutionEngine}, i.e., a script and the state
+ * of the method executed in it.
+ * <p>
+ * Contexts created by a {@code CALL} share the script, the evaluation stack and the static
+ * fields with their caller but have their own local variables and arguments.
+ */
+public class ExecutionContext {
+
+    private final Script script;
+    private int instructionPointer;
+    private StackItem[] localVariables;
+    private StackItem[] arguments;
+    private final Deque<TryContext> tryStack = new ArrayDeque<>();
+
+    ExecutionContext(byte[] script, ScriptHash scriptHash, int instructionPointer) {
+        this(new Script(script, scriptHash), instructionPointer);
+    }
+
+    private ExecutionContext(Script script, int instructionPointer) {
+        this.script = script;
+        this.instructionPointer = instructionPointer;
+    }
+
+    // Creates a context for a call to the given position in the same script.
+    ExecutionContext createCallContext(int position) {
+        return new ExecutionContext(script, position);
+    }
+
+    public byte[] getScript() {
+        return script.script;
+    }
+
+    public ScriptHash getScriptHash() {
+        return script.scriptHash;
+    }
+
+    public int getInstructionPointer() {
+        return instructionPointer;
+    }
+
+    void setInstructionPointer(int instructionPointer) {
+        this.instructionPointer = instructionPointer;
+    }
+
+    List<StackItem> getEvaluationStack() {
+        return script.evaluationStack;
+    }
+
+    StackItem[] getStaticFields() {
+        return script.staticFields;
+    }
+
+    void setStaticFields(StackItem[] staticFields) {
+        script.staticFields = staticFields;
+    }
+
+    StackItem[] getLocalVariables() {
+        return localVariables;
+    }
+
+    void setLocalVariables(StackItem[] localVariables) {
+        this.localVariables = localVariables;
+    }
+
+    StackItem[] getArguments() {
+        return arguments;
+    }
+
+    void setArguments(StackItem[] arguments) {
+        this.arguments = arguments;
+    }
+
+    Deque<TryContext> getTryStack() {
+        return tryStack;
+    }
+
+    // The state shared by all contexts executing the same script.
+    private static class Script {
+
+        private final byte[] script;
+        private final ScriptHash scriptHash;
+        private final List<StackItem> evaluationStack = new ArrayList<>();
+        private StackItem[] staticFields;
+
+        private Script(byte[] script, ScriptHash scriptHash) {
+            this.script = script;
+            this.scriptHash = scriptHash;
+        }
+
+    }
+
+    // The positions of the catch and finally blocks of a try block. Positions are -1 if the block
+    // does not exist.
+    static class TryContext {
+
+        enum State {TRY, CATCH, FINALLY}
+
+        final int catchPointer;
+        final int finallyPointer;
+        int endPointer = -1;
+        State state = State.TRY;
+
+        TryContext(int catchPointer, int finallyPointer) {
+            this.catchPointer = catchPointer;
+            this.finallyPointer = finallyPointer;
+        }
+
+    }
+
+}
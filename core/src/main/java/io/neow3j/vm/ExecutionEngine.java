@@ -0,0 +1,1684 @@
+package io.neow3j.vm;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.OpCode;
+import io.neow3j.constants.OperandSize;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Base64;
+import io.neow3j.model.types.StackItemType;
+import io.neow3j.protocol.core.methods.response.AnyStackItem;
+import io.neow3j.protocol.core.methods.response.ArrayStackItem;
+import io.neow3j.protocol.core.methods.response.BooleanStackItem;
+import io.neow3j.protocol.core.methods.response.BufferStackItem;
+import io.neow3j.protocol.core.methods.response.ByteStringStackItem;
+import io.neow3j.protocol.core.methods.response.IntegerStackItem;
+import io.neow3j.protocol.core.methods.response.InvocationResult;
+import io.neow3j.protocol.core.methods.response.MapStackItem;
+import io.neow3j.protocol.core.methods.response.PointerStackItem;
+import io.neow3j.protocol.core.methods.response.StackItem;
+import io.neow3j.protocol.core.methods.response.StructStackItem;
+import io.neow3j.utils.BigIntegers;
+import io.neow3j.utils.Numeric;
+import io.neow3j.vm.ExecutionContext.TryContext;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes NeoVM scripts locally, e.g., to estimate the GAS consumed by a script or to check
+ * that it does not fault, without making an {@code invokescript} call to a neo-node.
+ * <p>
+ * The engine implements all instructions of {@link OpCode}, charges their prices multiplied by
+ * the execution fee factor and enforces the limits of the NeoVM. Interop services are executed
+ * by an {@link InteropHandler}. The {@link DefaultInteropHandler} supports services that do not
+ * depend on the blockchain, e.g., hashing and encoding, and reads the contract storage from a
+ * {@link StorageProvider}. Calls to other contracts, including native contracts, are not
+ * supported by it.
+ * <p>
+ * An engine executes the script it is loaded with once. Use a new engine for every execution.
+ */
+public class ExecutionEngine {
+
+    /**
+     * The default factor by which the prices of opcodes and interop services are multiplied.
+     */
+    public static final long DEFAULT_EXEC_FEE_FACTOR = 30;
+
+    /**
+     * The default maximum amount of GAS that an execution can consume, i.e., 20 GAS.
+     */
+    public static final long DEFAULT_GAS_LIMIT = 2000000000L;
+
+    static final int MAX_STACK_SIZE = 2 * 1024;
+    static final int MAX_ITEM_SIZE = 1024 * 1024;
+    static final int MAX_INTEGER_SIZE = 32;
+    static final int MAX_KEY_SIZE = 64;
+    static final int MAX_SHIFT = 256;
+    static final int MAX_INVOCATION_STACK_SIZE = 1024;
+    static final int MAX_TRY_NESTING_DEPTH = 16;
+
+    private static final StackItem NULL = new AnyStackItem();
+
+    // Operand sizes and operand prefix sizes indexed by the opcode. Read once from the
+    // annotations of the opcodes, because reading them per instruction is too slow.
+    private static final int[] OPERAND_SIZES = new int[256];
+    private static final int[] OPERAND_PREFIX_SIZES = new int[256];
+    // Interop services indexed by their hash as read from the script.
+    private static final Map<Integer, InteropServiceCode> INTEROP_SERVICES = new HashMap<>();
+
+    static {
+        for (OpCode opCode : OpCode.values()) {
+            OperandSize operandSize = OpCode.getOperandSize(opCode);
+            if (operandSize != null) {
+                OPERAND_SIZES[opCode.getCode()] = operandSize.size();
+                OPERAND_PREFIX_SIZES[opCode.getCode()] = operandSize.prefixSize();
+            }
+        }
+        for (InteropServiceCode service : InteropServiceCode.values()) {
+            INTEROP_SERVICES.put(readInt32(Numeric.hexStringToByteArray(service.getHash()), 0),
+                    service);
+        }
+    }
+
+    private final InteropHandler interopHandler;
+    private long execFeeFactor = DEFAULT_EXEC_FEE_FACTOR;
+    private long gasLimit = DEFAULT_GAS_LIMIT;
+
+    private final Deque<ExecutionContext> invocationStack = new ArrayDeque<>();
+    private final List<StackItem> resultStack = new ArrayList<>();
+    private ExecutionContext entryContext;
+    private VMState state = VMState.NONE;
+    private long gasConsumed = 0;
+    private StackItem uncaughtException;
+    private String faultMessage;
+
+    /**
+     * Constructs an engine that executes interop services with a {@link DefaultInteropHandler}
+     * without any contract storage.
+     */
+    public ExecutionEngine() {
+        this(new DefaultInteropHandler(StorageProvider.EMPTY));
+    }
+
+    /**
+     * Constructs an engine that executes interop services with the given handler.
+     *
+     * @param interopHandler the interop handler.
+     */
+    public ExecutionEngine(InteropHandler interopHandler) {
+        this.interopHandler = interopHandler;
+    }
+
+    /**
+     * Sets the factor by which the prices of opcodes and interop services are multiplied.
+     * <p>
+     * It is set to {@link ExecutionEngine#DEFAULT_EXEC_FEE_FACTOR} by default. The current
+     * factor of the network can be fetched from the {@code PolicyContract}.
+     *
+     * @param execFeeFactor the execution fee factor.
+     * @return this engine.
+     */
+    public ExecutionEngine execFeeFactor(long execFeeFactor) {
+        this.execFeeFactor = execFeeFactor;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of GAS that the execution can consume before it faults.
+     * <p>
+     * It is set to {@link ExecutionEngine#DEFAULT_GAS_LIMIT} by default.
+     *
+     * @param gasLimit the GAS limit in fractions of GAS.
+     * @return this engine.
+     */
+    public ExecutionEngine gasLimit(long gasLimit) {
+        this.gasLimit = gasLimit;
+        return this;
+    }
+
+    /**
+     * Loads the given script to be executed from its start.
+     *
+     * @param script the script.
+     * @return this engine.
+     */
+    public ExecutionEngine loadScript(byte[] script) {
+        loadScript(script, 0);
+        return this;
+    }
+
+    /**
+     * Loads the given script to be executed from the given position, e.g., to call a method of
+     * another contract from an {@link InteropHandler}.
+     * <p>
+     * The new context gets its own evaluation stack. The items left on it when the context
+     * returns are moved onto the evaluation stack of the calling context.
+     *
+     * @param script   the script.
+     * @param position the position of the first instruction to execute.
+     * @return the new context.
+     * @throws VMException if the maximum size of the invocation stack is exceeded.
+     */
+    public ExecutionContext loadScript(byte[] script, int position) {
+        if (position < 0 || position > script.length) {
+            throw new IllegalArgumentException("The position " + position + " is outside of "
+                    + "the script.");
+        }
+        return loadContext(new ExecutionContext(script, ScriptHash.fromScript(script), position));
+    }
+
+    /**
+     * Executes the loaded script until it halts or faults.
+     *
+     * @return the final state of the engine.
+     * @throws IOException if there was a problem fetching state from the Neo node.
+     */
+    public VMState execute() throws IOException {
+        if (state != VMState.NONE) {
+            throw new IllegalStateException("The engine has already executed its script.");
+        }
+        while (state == VMState.NONE) {
+            if (invocationStack.isEmpty()) {
+                state = VMState.HALT;
+                break;
+            }
+            try {
+                executeNext();
+            } catch (RuntimeException e) {
+                // Like in the NeoVM, any error of an instruction or interop service faults the
+                // execution, e.g., invalid Base64 passed to System.Binary.Base64Decode.
+                faultMessage = e.getMessage() == null ? e.toString() : e.getMessage();
+                state = VMState.FAULT;
+            }
+        }
+        return state;
+    }
+
+    public VMState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the GAS consumed so far, i.e., the system fee that a transaction with the loaded
+     * script would need.
+     *
+     * @return the consumed GAS in fractions of GAS.
+     */
+    public long getGasConsumed() {
+        return gasConsumed;
+    }
+
+    /**
+     * Gets the GAS that can still be consumed before the GAS limit is reached.
+     *
+     * @return the remaining GAS in fractions of GAS.
+     */
+    public long getGasLeft() {
+        return gasLimit - gasConsumed;
+    }
+
+    public long getExecFeeFactor() {
+        return execFeeFactor;
+    }
+
+    /**
+     * Gets the items left on the evaluation stack after the engine halted. The item at the top
+     * of the stack is the last one in the list.
+     *
+     * @return the result stack.
+     */
+    public List<StackItem> getResultStack() {
+        return Collections.unmodifiableList(resultStack);
+    }
+
+    /**
+     * Gets the reason why the engine faulted.
+     *
+     * @return the fault message or null if the engine did not fault.
+     */
+    public String getFaultMessage() {
+        return faultMessage;
+    }
+
+    /**
+     * Gets the result of the execution in the same form as the result of an
+     * {@code invokescript} call.
+     *
+     * @return the invocation result.
+     */
+    public InvocationResult toInvocationResult() {
+        String script = entryContext == null ? "" : Base64.encode(entryContext.getScript());
+        return new InvocationResult(script, state.name(), Long.toString(gasConsumed),
+                faultMessage, new ArrayList<>(resultStack), null);
+    }
+
+    /**
+     * Gets the context that is currently executed.
+     *
+     * @return the current context or null if no context is loaded.
+     */
+    public ExecutionContext getCurrentContext() {
+        return invocationStack.peek();
+    }
+
+    /**
+     * Gets the context of the script that was loaded first.
+     *
+     * @return the entry context or null if no context is loaded.
+     */
+    public ExecutionContext getEntryContext() {
+        return entryContext;
+    }
+
+    /**
+     * Gets the script hash of the script that called the currently executed script.
+     *
+     * @return the script hash or null if the current script was not called by another script.
+     */
+    public ScriptHash getCallingScriptHash() {
+        ExecutionContext current = invocationStack.peek();
+        if (current == null) {
+            return null;
+        }
+        for (ExecutionContext context : invocationStack) {
+            if (context.getScript() != current.getScript()) {
+                return context.getScriptHash();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the given amount of GAS to the consumed GAS.
+     *
+     * @param gas the GAS in fractions of GAS.
+     * @throws VMException if the GAS limit is exceeded.
+     */
+    public void addGas(long gas) {
+        gasConsumed += gas;
+        if (gasConsumed > gasLimit) {
+            throw new VMException("Insufficient GAS.");
+        }
+    }
+
+    /**
+     * Pushes the given item onto the evaluation stack of the current context.
+     *
+     * @param item the item.
+     */
+    public void push(StackItem item) {
+        currentStack().add(item);
+    }
+
+    /**
+     * Pushes the given integer onto the evaluation stack of the current context.
+     *
+     * @param value the integer.
+     * @throws VMException if the integer is bigger than 32 bytes.
+     */
+    public void push(BigInteger value) {
+        if (value.bitLength() >= MAX_INTEGER_SIZE * 8) {
+            throw new VMException("The integer " + value + " exceeds the maximum size of "
+                    + MAX_INTEGER_SIZE + " bytes.");
+        }
+        push(new IntegerStackItem(value));
+    }
+
+    /**
+     * Pushes the given boolean onto the evaluation stack of the current context.
+     *
+     * @param value the boolean.
+     */
+    public void push(boolean value) {
+        push(new BooleanStackItem(value));
+    }
+
+    /**
+     * Pushes the given byte array as {@link ByteStringStackItem} onto the evaluation stack of
+     * the current context.
+     *
+     * @param value the byte array.
+     * @throws VMException if the byte array exceeds the maximum item size.
+     */
+    public void push(byte[] value) {
+        checkItemSize(value.length);
+        push(new ByteStringStackItem(value));
+    }
+
+    /**
+     * Pushes null onto the evaluation stack of the current context.
+     */
+    public void pushNull() {
+        push(NULL);
+    }
+
+    /**
+     * Pops the top item from the evaluation stack of the current context.
+     *
+     * @return the item.
+     * @throws VMException if the evaluation stack is empty.
+     */
+    public StackItem pop() {
+        return remove(0);
+    }
+
+    /**
+     * Pops the top item from the evaluation stack of the current context and converts it to an
+     * integer.
+     *
+     * @return the integer.
+     * @throws VMException if the evaluation stack is empty or if the item cannot be converted.
+     */
+    public BigInteger popInteger() {
+        return toBigInteger(pop());
+    }
+
+    /**
+     * Pops the top item from the evaluation stack of the current context and converts it to a
+     * boolean.
+     *
+     * @return the boolean.
+     * @throws VMException if the evaluation stack is empty or if the item cannot be converted.
+     */
+    public boolean popBoolean() {
+        return toBoolean(pop());
+    }
+
+    /**
+     * Pops the top item from the evaluation stack of the current context and converts it to a
+     * byte array.
+     *
+     * @return the byte array.
+     * @throws VMException if the evaluation stack is empty or if the item cannot be converted.
+     */
+    public byte[] popBytes() {
+        return toBytes(pop());
+    }
+
+    /**
+     * Gets the item at the given index from the top of the evaluation stack of the current
+     * context without removing it.
+     *
+     * @param index the index from the top of the stack. The top item has index 0.
+     * @return the item.
+     * @throws VMException if the stack does not contain an item at the index.
+     */
+    public StackItem peek(int index) {
+        List<StackItem> stack = currentStack();
+        checkStackIndex(stack, index);
+        return stack.get(stack.size() - 1 - index);
+    }
+
+    private ExecutionContext loadContext(ExecutionContext context) {
+        if (invocationStack.size() >= MAX_INVOCATION_STACK_SIZE) {
+            throw new VMException("The maximum size of the invocation stack is exceeded.");
+        }
+        if (entryContext == null) {
+            entryContext = context;
+        }
+        invocationStack.push(context);
+        return context;
+    }
+
+    private void executeNext() throws IOException {
+        ExecutionContext context = invocationStack.peek();
+        byte[] script = context.getScript();
+        int position = context.getInstructionPointer();
+        if (position >= script.length) {
+            // The end of a script is an implicit RET.
+            addGas(OpCode.RET.getPrice() * execFeeFactor);
+            executeRet();
+            return;
+        }
+        int code = script[position] & 0xFF;
+        OpCode opCode = OpCode.get(code);
+        if (opCode == null) {
+            throw new VMException("Invalid opcode 0x" + Numeric.toHexStringNoPrefix(script[position])
+                    + " at position " + position + ".");
+        }
+        int operandPosition = position + 1 + OPERAND_PREFIX_SIZES[code];
+        int operandSize = OPERAND_SIZES[code];
+        if (OPERAND_PREFIX_SIZES[code] > 0) {
+            operandSize = readOperandPrefix(script, position + 1, OPERAND_PREFIX_SIZES[code]);
+        }
+        int nextPosition = operandPosition + operandSize;
+        if (nextPosition > script.length) {
+            throw new VMException("The operand of " + opCode.name() + " at position " + position
+                    + " exceeds the script.");
+        }
+        addGas(opCode.getPrice() * execFeeFactor);
+        // Advance before executing, so that jumps and calls can simply overwrite the pointer.
+        context.setInstructionPointer(nextPosition);
+        executeInstruction(context, opCode, position, operandPosition, operandSize);
+        if (!invocationStack.isEmpty() && currentStack().size() > MAX_STACK_SIZE) {
+            throw new VMException("The maximum stack size of " + MAX_STACK_SIZE
+                    + " is exceeded.");
+        }
+    }
+
+    private void executeInstruction(ExecutionContext context, OpCode opCode, int position,
+            int operandPosition, int operandSize) throws IOException {
+
+        byte[] script = context.getScript();
+        switch (opCode) {
+            // Constants
+            case PUSHINT8:
+            case PUSHINT16:
+            case PUSHINT32:
+            case PUSHINT64:
+            case PUSHINT128:
+            case PUSHINT256:
+                push(BigIntegers.fromLittleEndianByteArray(Arrays.copyOfRange(script,
+                        operandPosition, operandPosition + operandSize)));
+                break;
+            case PUSHA:
+                push(new PointerStackItem(BigInteger.valueOf(
+                        checkPosition(context, position + readInt32(script, operandPosition)))));
+                break;
+            case PUSHNULL:
+                pushNull();
+                break;
+            case PUSHDATA1:
+            case PUSHDATA2:
+            case PUSHDATA4:
+                push(Arrays.copyOfRange(script, operandPosition, operandPosition + operandSize));
+                break;
+            case PUSHM1:
+            case PUSH0:
+            case PUSH1:
+            case PUSH2:
+            case PUSH3:
+            case PUSH4:
+            case PUSH5:
+            case PUSH6:
+            case PUSH7:
+            case PUSH8:
+            case PUSH9:
+            case PUSH10:
+            case PUSH11:
+            case PUSH12:
+            case PUSH13:
+            case PUSH14:
+            case PUSH15:
+            case PUSH16:
+                push(BigInteger.valueOf(opCode.getCode() - OpCode.PUSH0.getCode()));
+                break;
+
+            // Flow control
+            case NOP:
+                break;
+            case JMP:
+            case JMP_L:
+                jump(context, position, script, operandPosition, operandSize);
+                break;
+            case JMPIF:
+            case JMPIF_L:
+                if (popBoolean()) {
+                    jump(context, position, script, operandPosition, operandSize);
+                }
+                break;
+            case JMPIFNOT:
+            case JMPIFNOT_L:
+                if (!popBoolean()) {
+                    jump(context, position, script, operandPosition, operandSize);
+                }
+                break;
+            case JMPEQ:
+            case JMPEQ_L:
+            case JMPNE:
+            case JMPNE_L:
+            case JMPGT:
+            case JMPGT_L:
+            case JMPGE:
+            case JMPGE_L:
+            case JMPLT:
+            case JMPLT_L:
+            case JMPLE:
+            case JMPLE_L:
+                BigInteger jx2 = popInteger();
+                BigInteger jx1 = popInteger();
+                if (compare(opCode, jx1.compareTo(jx2))) {
+                    jump(context, position, script, operandPosition, operandSize);
+                }
+                break;
+            case CALL:
+            case CALL_L:
+                call(context, position + readOffset(script, operandPosition, operandSize));
+                break;
+            case CALLA:
+                StackItem pointer = pop();
+                if (pointer.getType() != StackItemType.POINTER) {
+                    throw new VMException("CALLA requires a pointer but got "
+                            + pointer.getType().jsonValue() + ".");
+                }
+                call(context, ((PointerStackItem) pointer).getValue().intValue());
+                break;
+            case CALLT:
+                throw new VMException("Method tokens are not supported.");
+            case ABORT:
+                throw new VMException("ABORT is executed.");
+            case ASSERT:
+                if (!popBoolean()) {
+                    throw new VMException("ASSERT is executed with false result.");
+                }
+                break;
+            case THROW:
+                uncaughtException = pop();
+                handleException();
+                break;
+            case TRY:
+            case TRY_L:
+                executeTry(context, position, script, operandPosition, operandSize / 2);
+                break;
+            case ENDTRY:
+            case ENDTRY_L:
+                executeEndTry(context,
+                        position + readOffset(script, operandPosition, operandSize));
+                break;
+            case ENDFINALLY:
+                if (context.getTryStack().isEmpty()) {
+                    throw new VMException("ENDFINALLY is executed outside of a try block.");
+                }
+                TryContext tryContext = context.getTryStack().pop();
+                if (uncaughtException == null) {
+                    context.setInstructionPointer(tryContext.endPointer);
+                } else {
+                    handleException();
+                }
+                break;
+            case RET:
+                executeRet();
+                break;
+            case SYSCALL:
+                InteropServiceCode service =
+                        INTEROP_SERVICES.get(readInt32(script, operandPosition));
+                if (service == null) {
+                    throw new VMException("Unknown interop service at position " + position
+                            + ".");
+                }
+                // Services with a dynamic price return 0 here and are charged by the handler.
+                addGas(service.getPrice(0) * execFeeFactor);
+                interopHandler.invoke(this, service);
+                break;
+
+            // Stack
+            case DEPTH:
+                push(BigInteger.valueOf(currentStack().size()));
+                break;
+            case DROP:
+                pop();
+                break;
+            case NIP:
+                remove(1);
+                break;
+            case XDROP:
+                remove(popIndex());
+                break;
+            case CLEAR:
+                currentStack().clear();
+                break;
+            case DUP:
+                push(peek(0));
+                break;
+            case OVER:
+                push(peek(1));
+                break;
+            case PICK:
+                push(peek(popIndex()));
+                break;
+            case TUCK:
+                insert(2, peek(0));
+                break;
+            case SWAP:
+                push(remove(1));
+                break;
+            case ROT:
+                push(remove(2));
+                break;
+            case ROLL:
+                int rollIndex = popIndex();
+                if (rollIndex != 0) {
+                    push(remove(rollIndex));
+                }
+                break;
+            case REVERSE3:
+                reverse(3);
+                break;
+            case REVERSE4:
+                reverse(4);
+                break;
+            case REVERSEN:
+                reverse(popIndex());
+                break;
+
+            // Slots
+            case INITSSLOT:
+                if (context.getStaticFields() != null) {
+                    throw new VMException("The static fields are already initialized.");
+                }
+                context.setStaticFields(createSlot(script[operandPosition] & 0xFF));
+                break;
+            case INITSLOT:
+                executeInitSlot(context, script[operandPosition] & 0xFF,
+                        script[operandPosition + 1] & 0xFF);
+                break;
+            case LDSFLD0:
+            case LDSFLD1:
+            case LDSFLD2:
+            case LDSFLD3:
+            case LDSFLD4:
+            case LDSFLD5:
+            case LDSFLD6:
+            case LDSFLD:
+            case LDLOC0:
+            case LDLOC1:
+            case LDLOC2:
+            case LDLOC3:
+            case LDLOC4:
+            case LDLOC5:
+            case LDLOC6:
+            case LDLOC:
+            case LDARG0:
+            case LDARG1:
+            case LDARG2:
+            case LDARG3:
+            case LDARG4:
+            case LDARG5:
+            case LDARG6:
+            case LDARG:
+                StackItem[] loadSlot = getSlot(context, opCode);
+                push(loadSlot[getSlotIndex(loadSlot, opCode, script, operandPosition)]);
+                break;
+            case STSFLD0:
+            case STSFLD1:
+            case STSFLD2:
+            case STSFLD3:
+            case STSFLD4:
+            case STSFLD5:
+            case STSFLD6:
+            case STSFLD:
+            case STLOC0:
+            case STLOC1:
+            case STLOC2:
+            case STLOC3:
+            case STLOC4:
+            case STLOC5:
+            case STLOC6:
+            case STLOC:
+            case STARG0:
+            case STARG1:
+            case STARG2:
+            case STARG3:
+            case STARG4:
+            case STARG5:
+            case STARG6:
+            case STARG:
+                StackItem[] storeSlot = getSlot(context, opCode);
+                storeSlot[getSlotIndex(storeSlot, opCode, script, operandPosition)] = pop();
+                break;
+
+            // Splice
+            case NEWBUFFER:
+                int bufferLength = popInt();
+                checkItemSize(bufferLength);
+                push(new BufferStackItem(new byte[checkNotNegative(bufferLength)]));
+                break;
+            case MEMCPY:
+                executeMemcpy();
+                break;
+            case CAT:
+                byte[] catX2 = popBytes();
+                byte[] catX1 = popBytes();
+                checkItemSize(catX1.length + catX2.length);
+                byte[] concatenated = Arrays.copyOf(catX1, catX1.length + catX2.length);
+                System.arraycopy(catX2, 0, concatenated, catX1.length, catX2.length);
+                push(new BufferStackItem(concatenated));
+                break;
+            case SUBSTR:
+                int substrCount = checkNotNegative(popInt());
+                int substrIndex = checkNotNegative(popInt());
+                byte[] substrX = popBytes();
+                checkRange(substrIndex + (long) substrCount, substrX.length);
+                push(new BufferStackItem(Arrays.copyOfRange(substrX, substrIndex,
+                        substrIndex + substrCount)));
+                break;
+            case LEFT:
+                int leftCount = checkNotNegative(popInt());
+                byte[] leftX = popBytes();
+                checkRange(leftCount, leftX.length);
+                push(new BufferStackItem(Arrays.copyOf(leftX, leftCount)));
+                break;
+            case RIGHT:
+                int rightCount = checkNotNegative(popInt());
+                byte[] rightX = popBytes();
+                checkRange(rightCount, rightX.length);
+                push(new BufferStackItem(Arrays.copyOfRange(rightX, rightX.length - rightCount,
+                        rightX.length)));
+                break;
+
+            // Bitwise logic
+            case INVERT:
+                push(popInteger().not());
+                break;
+            case AND:
+                push(popInteger().and(popInteger()));
+                break;
+            case OR:
+                push(popInteger().or(popInteger()));
+                break;
+            case XOR:
+                push(popInteger().xor(popInteger()));
+                break;
+            case EQUAL:
+                push(equal(pop(), pop()));
+                break;
+            case NOTEQUAL:
+                push(!equal(pop(), pop()));
+                break;
+
+            // Arithmetic
+            case SIGN:
+                push(BigInteger.valueOf(popInteger().signum()));
+                break;
+            case ABS:
+                push(popInteger().abs());
+                break;
+            case NEGATE:
+                push(popInteger().negate());
+                break;
+            case INC:
+                push(popInteger().add(BigInteger.ONE));
+                break;
+            case DEC:
+                push(popInteger().subtract(BigInteger.ONE));
+                break;
+            case ADD:
+                push(popInteger().add(popInteger()));
+                break;
+            case SUB:
+                BigInteger subtrahend = popInteger();
+                push(popInteger().subtract(subtrahend));
+                break;
+            case MUL:
+                push(popInteger().multiply(popInteger()));
+                break;
+            case DIV:
+                BigInteger divisor = checkNotZero(popInteger());
+                // Like in C#, the quotient is truncated towards zero.
+                push(popInteger().divide(divisor));
+                break;
+            case MOD:
+                BigInteger modulus = checkNotZero(popInteger());
+                push(popInteger().remainder(modulus));
+                break;
+            case SHL:
+                int leftShift = popShift();
+                if (leftShift != 0) {
+                    push(popInteger().shiftLeft(leftShift));
+                }
+                break;
+            case SHR:
+                int rightShift = popShift();
+                if (rightShift != 0) {
+                    push(popInteger().shiftRight(rightShift));
+                }
+                break;
+            case NOT:
+                push(!popBoolean());
+                break;
+            case BOOLAND:
+                boolean andX2 = popBoolean();
+                push(popBoolean() && andX2);
+                break;
+            case BOOLOR:
+                boolean orX2 = popBoolean();
+                push(popBoolean() || orX2);
+                break;
+            case NZ:
+                push(popInteger().signum() != 0);
+                break;
+            case NUMEQUAL:
+            case NUMNOTEQUAL:
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                BigInteger x2 = popInteger();
+                push(compare(opCode, popInteger().compareTo(x2)));
+                break;
+            case MIN:
+                push(popInteger().min(popInteger()));
+                break;
+            case MAX:
+                push(popInteger().max(popInteger()));
+                break;
+            case WITHIN:
+                BigInteger upper = popInteger();
+                BigInteger lower = popInteger();
+                BigInteger x = popInteger();
+                push(lower.compareTo(x) <= 0 && x.compareTo(upper) < 0);
+                break;
+
+            // Compound types
+            case PACK:
+                int packSize = popIndex();
+                checkStackIndex(currentStack(), packSize - 1);
+                List<StackItem> packed = new ArrayList<>(packSize);
+                for (int i = 0; i < packSize; i++) {
+                    packed.add(pop());
+                }
+                push(new ArrayStackItem(packed));
+                break;
+            case UNPACK:
+                executeUnpack(pop());
+                break;
+            case NEWARRAY0:
+                push(new ArrayStackItem(new ArrayList<>()));
+                break;
+            case NEWARRAY:
+            case NEWARRAY_T:
+                int arraySize = popCount();
+                StackItem defaultItem = NULL;
+                if (opCode == OpCode.NEWARRAY_T) {
+                    defaultItem = getDefaultItem(readType(script[operandPosition]));
+                }
+                push(new ArrayStackItem(new ArrayList<>(
+                        Collections.nCopies(arraySize, defaultItem))));
+                break;
+            case NEWSTRUCT0:
+                push(new StructStackItem(new ArrayList<>()));
+                break;
+            case NEWSTRUCT:
+                push(new StructStackItem(new ArrayList<>(
+                        Collections.nCopies(popCount(), NULL))));
+                break;
+            case NEWMAP:
+                push(new MapStackItem(new LinkedHashMap<>()));
+                break;
+            case SIZE:
+                push(BigInteger.valueOf(size(pop())));
+                break;
+            case HASKEY:
+                executeHasKey();
+                break;
+            case KEYS:
+                push(new ArrayStackItem(new ArrayList<>(toMap(pop()).keySet())));
+                break;
+            case VALUES:
+                StackItem valuesSource = pop();
+                Iterable<StackItem> values = valuesSource.getType() == StackItemType.MAP
+                        ? toMap(valuesSource).values()
+                        : toList(valuesSource);
+                List<StackItem> valueList = new ArrayList<>();
+                for (StackItem value : values) {
+                    valueList.add(cloneIfStruct(value));
+                }
+                push(new ArrayStackItem(valueList));
+                break;
+            case PICKITEM:
+                executePickItem();
+                break;
+            case APPEND:
+                StackItem newItem = cloneIfStruct(pop());
+                List<StackItem> appendTarget = toList(pop());
+                checkCount(appendTarget.size() + 1);
+                appendTarget.add(newItem);
+                break;
+            case SETITEM:
+                executeSetItem();
+                break;
+            case REVERSEITEMS:
+                StackItem reversed = pop();
+                if (reversed.getType() == StackItemType.BUFFER) {
+                    byte[] buffer = ((BufferStackItem) reversed).getValue();
+                    for (int i = 0, j = buffer.length - 1; i < j; i++, j--) {
+                        byte b = buffer[i];
+                        buffer[i] = buffer[j];
+                        buffer[j] = b;
+                    }
+                } else {
+                    Collections.reverse(toList(reversed));
+                }
+                break;
+            case REMOVE:
+                StackItem removeKey = pop();
+                StackItem removeSource = pop();
+                if (removeSource.getType() == StackItemType.MAP) {
+                    toMap(removeSource).remove(checkKey(removeKey));
+                } else {
+                    List<StackItem> removeList = toList(removeSource);
+                    int removeIndex = toInt(removeKey);
+                    checkIndex(removeIndex, removeList.size());
+                    removeList.remove(removeIndex);
+                }
+                break;
+            case CLEARITEMS:
+                StackItem cleared = pop();
+                if (cleared.getType() == StackItemType.MAP) {
+                    toMap(cleared).clear();
+                } else {
+                    toList(cleared).clear();
+                }
+                break;
+
+            // Types
+            case ISNULL:
+                push(pop().getType() == StackItemType.ANY);
+                break;
+            case ISTYPE:
+                StackItemType type = readType(script[operandPosition]);
+                if (type == StackItemType.ANY) {
+                    throw new VMException("ISTYPE cannot check for the type Any.");
+                }
+                push(pop().getType() == type);
+                break;
+            case CONVERT:
+                push(convert(pop(), readType(script[operandPosition])));
+                break;
+            default:
+                throw new VMException("The opcode " + opCode.name() + " is not supported.");
+        }
+    }
+
+
+    private void jump(ExecutionContext context, int position, byte[] script, int operandPosition,
+            int operandSize) {
+
+        context.setInstructionPointer(checkPosition(context,
+                position + readOffset(script, operandPosition, operandSize)));
+    }
+
+    private void call(ExecutionContext context, int position) {
+        loadContext(context.createCallContext(checkPosition(context, position)));
+    }
+
+    private void executeRet() {
+        ExecutionContext context = invocationStack.pop();
+        List<StackItem> target = invocationStack.isEmpty()
+                ? resultStack
+                : invocationStack.peek().getEvaluationStack();
+        if (context.getEvaluationStack() != target) {
+            target.addAll(context.getEvaluationStack());
+            context.getEvaluationStack().clear();
+        }
+        if (invocationStack.isEmpty()) {
+            state = VMState.HALT;
+        }
+    }
+
+    private void executeTry(ExecutionContext context, int position, byte[] script,
+            int operandPosition, int offsetSize) {
+
+        int catchOffset = readOffset(script, operandPosition, offsetSize);
+        int finallyOffset = readOffset(script, operandPosition + offsetSize, offsetSize);
+        if (catchOffset == 0 && finallyOffset == 0) {
+            throw new VMException("A try block requires a catch or a finally block.");
+        }
+        if (context.getTryStack().size() >= MAX_TRY_NESTING_DEPTH) {
+            throw new VMException("The maximum nesting depth of try blocks is exceeded.");
+        }
+        int catchPointer = catchOffset == 0 ? -1 : checkPosition(context, position + catchOffset);
+        int finallyPointer =
+                finallyOffset == 0 ? -1 : checkPosition(context, position + finallyOffset);
+        context.getTryStack().push(new TryContext(catchPointer, finallyPointer));
+    }
+
+    private void executeEndTry(ExecutionContext context, int endPosition) {
+        TryContext tryContext = context.getTryStack().peek();
+        if (tryContext == null) {
+            throw new VMException("ENDTRY is executed outside of a try block.");
+        }
+        if (tryContext.state == TryContext.State.FINALLY) {
+            throw new VMException("ENDTRY cannot be executed in a finally block.");
+        }
+        int endPointer = checkPosition(context, endPosition);
+        if (tryContext.finallyPointer != -1) {
+            tryContext.state = TryContext.State.FINALLY;
+            tryContext.endPointer = endPointer;
+            context.setInstructionPointer(tryContext.finallyPointer);
+        } else {
+            context.getTryStack().pop();
+            context.setInstructionPointer(endPointer);
+        }
+    }
+
+    // Continues the execution in the nearest catch or finally block. Contexts without such a
+    // block are unloaded.
+    private void handleException() {
+        int contextsToUnload = 0;
+        for (ExecutionContext context : invocationStack) {
+            Deque<TryContext> tryStack = context.getTryStack();
+            while (!tryStack.isEmpty()) {
+                TryContext tryContext = tryStack.peek();
+                if (tryContext.state == TryContext.State.FINALLY
+                        || (tryContext.state == TryContext.State.CATCH
+                        && tryContext.finallyPointer == -1)) {
+                    tryStack.pop();
+                    continue;
+                }
+                for (int i = 0; i < contextsToUnload; i++) {
+                    invocationStack.pop();
+                }
+                if (tryContext.state == TryContext.State.TRY && tryContext.catchPointer != -1) {
+                    tryContext.state = TryContext.State.CATCH;
+                    push(uncaughtException);
+                    context.setInstructionPointer(tryContext.catchPointer);
+                    uncaughtException = null;
+                } else {
+                    tryContext.state = TryContext.State.FINALLY;
+                    context.setInstructionPointer(tryContext.finallyPointer);
+                }
+                return;
+            }
+            contextsToUnload++;
+        }
+        throw new VMException("An unhandled exception was thrown. "
+                + describe(uncaughtException));
+    }
+
+
+    private void executeInitSlot(ExecutionContext context, int localCount, int argumentCount) {
+        if (context.getLocalVariables() != null || context.getArguments() != null) {
+            throw new VMException("The slots of the method are already initialized.");
+        }
+        if (localCount == 0 && argumentCount == 0) {
+            throw new VMException("INITSLOT requires at least one local variable or argument.");
+        }
+        if (localCount > 0) {
+            context.setLocalVariables(createSlot(localCount));
+        }
+        if (argumentCount > 0) {
+            StackItem[] arguments = new StackItem[argumentCount];
+            for (int i = 0; i < argumentCount; i++) {
+                arguments[i] = pop();
+            }
+            context.setArguments(arguments);
+        }
+    }
+
+    private static StackItem[] createSlot(int size) {
+        if (size == 0) {
+            throw new VMException("A slot requires at least one item.");
+        }
+        StackItem[] slot = new StackItem[size];
+        Arrays.fill(slot, NULL);
+        return slot;
+    }
+
+    private static StackItem[] getSlot(ExecutionContext context, OpCode opCode) {
+        StackItem[] slot;
+        String name;
+        int code = opCode.getCode();
+        if (code < OpCode.LDLOC0.getCode()) {
+            slot = context.getStaticFields();
+            name = "static fields";
+        } else if (code < OpCode.LDARG0.getCode()) {
+            slot = context.getLocalVariables();
+            name = "local variables";
+        } else {
+            slot = context.getArguments();
+            name = "arguments";
+        }
+        if (slot == null) {
+            throw new VMException(opCode.name() + " is executed without initialized " + name
+                    + ".");
+        }
+        return slot;
+    }
+
+    // The slot opcodes come in groups of eight. The first seven have the index encoded in the
+    // opcode, the last one reads it from the operand.
+    private static int getSlotIndex(StackItem[] slot, OpCode opCode, byte[] script,
+            int operandPosition) {
+
+        int index = opCode.getCode() & 0x07;
+        if (index == 0x07) {
+            index = script[operandPosition] & 0xFF;
+        }
+        checkIndex(index, slot.length);
+        return index;
+    }
+
+
+    private void executeMemcpy() {
+        int count = checkNotNegative(popInt());
+        int sourceIndex = checkNotNegative(popInt());
+        byte[] source = popBytes();
+        checkRange(sourceIndex + (long) count, source.length);
+        int destinationIndex = checkNotNegative(popInt());
+        StackItem destination = pop();
+        if (destination.getType() != StackItemType.BUFFER) {
+            throw new VMException("MEMCPY requires a buffer as destination but got "
+                    + destination.getType().jsonValue() + ".");
+        }
+        byte[] buffer = ((BufferStackItem) destination).getValue();
+        checkRange(destinationIndex + (long) count, buffer.length);
+        System.arraycopy(source, sourceIndex, buffer, destinationIndex, count);
+    }
+
+    private void executeUnpack(StackItem item) {
+        if (item.getType() == StackItemType.MAP) {
+            List<Map.Entry<StackItem, StackItem>> entries =
+                    new ArrayList<>(toMap(item).entrySet());
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                push(entries.get(i).getValue());
+                push(entries.get(i).getKey());
+            }
+            push(BigInteger.valueOf(entries.size()));
+        } else {
+            List<StackItem> items = toList(item);
+            for (int i = items.size() - 1; i >= 0; i--) {
+                push(items.get(i));
+            }
+            push(BigInteger.valueOf(items.size()));
+        }
+    }
+
+    private void executeHasKey() {
+        StackItem key = pop();
+        StackItem item = pop();
+        switch (item.getType()) {
+            case MAP:
+                push(toMap(item).containsKey(checkKey(key)));
+                break;
+            case ARRAY:
+            case STRUCT:
+            case BUFFER:
+            case BYTE_STRING:
+                int index = checkNotNegative(toInt(key));
+                push(index < size(item));
+                break;
+            default:
+                throw new VMException("HASKEY is not supported for "
+                        + item.getType().jsonValue() + ".");
+        }
+    }
+
+    private void executePickItem() {
+        StackItem key = pop();
+        StackItem item = pop();
+        switch (item.getType()) {
+            case MAP:
+                StackItem value = toMap(item).get(checkKey(key));
+                if (value == null) {
+                    throw new VMException("The key is not present in the map.");
+                }
+                push(value);
+                break;
+            case ARRAY:
+            case STRUCT:
+                List<StackItem> items = toList(item);
+                int index = toInt(key);
+                checkIndex(index, items.size());
+                push(items.get(index));
+                break;
+            default:
+                byte[] bytes = toBytes(item);
+                int byteIndex = toInt(key);
+                checkIndex(byteIndex, bytes.length);
+                push(BigInteger.valueOf(bytes[byteIndex] & 0xFF));
+        }
+    }
+
+    private void executeSetItem() {
+        StackItem value = cloneIfStruct(pop());
+        StackItem key = pop();
+        StackItem item = pop();
+        switch (item.getType()) {
+            case MAP:
+                Map<StackItem, StackItem> map = toMap(item);
+                map.put(checkKey(key), value);
+                checkCount(map.size());
+                break;
+            case ARRAY:
+            case STRUCT:
+                List<StackItem> items = toList(item);
+                int index = toInt(key);
+                checkIndex(index, items.size());
+                items.set(index, value);
+                break;
+            case BUFFER:
+                byte[] buffer = ((BufferStackItem) item).getValue();
+                int byteIndex = toInt(key);
+                checkIndex(byteIndex, buffer.length);
+                int b = toInt(value);
+                if (b < Byte.MIN_VALUE || b > 0xFF) {
+                    throw new VMException("The value " + b + " does not fit into a byte.");
+                }
+                buffer[byteIndex] = (byte) b;
+                break;
+            default:
+                throw new VMException("SETITEM is not supported for "
+                        + item.getType().jsonValue() + ".");
+        }
+    }
+
+    private static int size(StackItem item) {
+        switch (item.getType()) {
+            case ARRAY:
+            case STRUCT:
+                return toList(item).size();
+            case MAP:
+                return toMap(item).size();
+            default:
+                return toBytes(item).length;
+        }
+    }
+
+    private static List<StackItem> toList(StackItem item) {
+        if (item.getType() == StackItemType.ARRAY) {
+            return ((ArrayStackItem) item).getValue();
+        }
+        if (item.getType() == StackItemType.STRUCT) {
+            return ((StructStackItem) item).getValue();
+        }
+        throw new VMException("Expected an array or a struct but got "
+                + item.getType().jsonValue() + ".");
+    }
+
+    private static Map<StackItem, StackItem> toMap(StackItem item) {
+        if (item.getType() != StackItemType.MAP) {
+            throw new VMException("Expected a map but got " + item.getType().jsonValue() + ".");
+        }
+        return ((MapStackItem) item).getValue();
+    }
+
+    // Only primitive items can be used as map keys.
+    private static StackItem checkKey(StackItem key) {
+        switch (key.getType()) {
+            case BOOLEAN:
+            case INTEGER:
+            case BYTE_STRING:
+                if (toBytes(key).length > MAX_KEY_SIZE) {
+                    throw new VMException("The map key exceeds the maximum size of "
+                            + MAX_KEY_SIZE + " bytes.");
+                }
+                return key;
+            default:
+                throw new VMException(key.getType().jsonValue() + " cannot be used as map key.");
+        }
+    }
+
+    private static StackItem cloneIfStruct(StackItem item) {
+        if (item.getType() != StackItemType.STRUCT) {
+            return item;
+        }
+        List<StackItem> items = ((StructStackItem) item).getValue();
+        List<StackItem> clonedItems = new ArrayList<>(items.size());
+        for (StackItem i : items) {
+            clonedItems.add(cloneIfStruct(i));
+        }
+        return new StructStackItem(clonedItems);
+    }
+
+    private static StackItem getDefaultItem(StackItemType type) {
+        switch (type) {
+            case BOOLEAN:
+                return new BooleanStackItem(false);
+            case INTEGER:
+                return new IntegerStackItem(BigInteger.ZERO);
+            case BYTE_STRING:
+                return new ByteStringStackItem(new byte[0]);
+            default:
+                return NULL;
+        }
+    }
+
+
+    private static boolean toBoolean(StackItem item) {
+        switch (item.getType()) {
+            case ANY:
+                return false;
+            case BOOLEAN:
+                return ((BooleanStackItem) item).getValue();
+            case INTEGER:
+                return ((IntegerStackItem) item).getValue().signum() != 0;
+            case BYTE_STRING:
+                byte[] bytes = ((ByteStringStackItem) item).getValue();
+                checkIntegerSize(bytes);
+                for (byte b : bytes) {
+                    if (b != 0) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static BigInteger toBigInteger(StackItem item) {
+        switch (item.getType()) {
+            case BOOLEAN:
+                return ((BooleanStackItem) item).getValue() ? BigInteger.ONE : BigInteger.ZERO;
+            case INTEGER:
+                return ((IntegerStackItem) item).getValue();
+            case BYTE_STRING:
+                byte[] bytes = ((ByteStringStackItem) item).getValue();
+                checkIntegerSize(bytes);
+                return bytes.length == 0
+                        ? BigInteger.ZERO
+                        : BigIntegers.fromLittleEndianByteArray(bytes);
+            default:
+                throw new VMException("Cannot convert " + item.getType().jsonValue()
+                        + " to an integer.");
+        }
+    }
+
+    private static byte[] toBytes(StackItem item) {
+        switch (item.getType()) {
+            case BOOLEAN:
+                return new byte[]{(byte) (((BooleanStackItem) item).getValue() ? 1 : 0)};
+            case INTEGER:
+                BigInteger value = ((IntegerStackItem) item).getValue();
+                // Zero is represented by an empty byte array in the NeoVM.
+                return value.signum() == 0
+                        ? new byte[0]
+                        : BigIntegers.toLittleEndianByteArray(value);
+            case BYTE_STRING:
+                return ((ByteStringStackItem) item).getValue();
+            case BUFFER:
+                return ((BufferStackItem) item).getValue();
+            default:
+                throw new VMException("Cannot convert " + item.getType().jsonValue()
+                        + " to a byte array.");
+        }
+    }
+
+    private static int toInt(StackItem item) {
+        BigInteger value = toBigInteger(item);
+        if (value.bitLength() > 31) {
+            throw new VMException("The integer " + value + " is out of range.");
+        }
+        return value.intValue();
+    }
+
+    private static StackItem convert(StackItem item, StackItemType type) {
+        StackItemType itemType = item.getType();
+        if (itemType == type) {
+            return item;
+        }
+        if (itemType == StackItemType.ANY) {
+            // Null stays null.
+            return item;
+        }
+        if (type == StackItemType.BOOLEAN) {
+            return new BooleanStackItem(toBoolean(item));
+        }
+        switch (itemType) {
+            case BOOLEAN:
+            case INTEGER:
+            case BYTE_STRING:
+            case BUFFER:
+                switch (type) {
+                    case INTEGER:
+                        byte[] bytes = toBytes(item);
+                        checkIntegerSize(bytes);
+                        return new IntegerStackItem(bytes.length == 0
+                                ? BigInteger.ZERO
+                                : BigIntegers.fromLittleEndianByteArray(bytes));
+                    case BYTE_STRING:
+                        return new ByteStringStackItem(toBytes(item).clone());
+                    case BUFFER:
+                        return new BufferStackItem(toBytes(item).clone());
+                    default:
+                        break;
+                }
+                break;
+            case ARRAY:
+                if (type == StackItemType.STRUCT) {
+                    return new StructStackItem(new ArrayList<>(toList(item)));
+                }
+                break;
+            case STRUCT:
+                if (type == StackItemType.ARRAY) {
+                    return new ArrayStackItem(new ArrayList<>(toList(item)));
+                }
+                break;
+            default:
+                break;
+        }
+        throw new VMException("Cannot convert " + itemType.jsonValue() + " to "
+                + type.jsonValue() + ".");
+    }
+
+    // Primitive items are compared by value, structs element by element and all other items by
+    // reference.
+    private static boolean equal(StackItem item1, StackItem item2) {
+        if (item1 == item2) {
+            return true;
+        }
+        if (item1.getType() != item2.getType()) {
+            return false;
+        }
+        switch (item1.getType()) {
+            case ANY:
+                return true;
+            case BOOLEAN:
+            case INTEGER:
+            case POINTER:
+            case INTEROP_INTERFACE:
+                return item1.equals(item2);
+            case BYTE_STRING:
+                return Arrays.equals(toBytes(item1), toBytes(item2));
+            case STRUCT:
+                List<StackItem> items1 = toList(item1);
+                List<StackItem> items2 = toList(item2);
+                if (items1.size() != items2.size()) {
+                    return false;
+                }
+                for (int i = 0; i < items1.size(); i++) {
+                    if (!equal(items1.get(i), items2.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String describe(StackItem item) {
+        if (item.getType() == StackItemType.BYTE_STRING) {
+            return new String(toBytes(item), StandardCharsets.UTF_8);
+        }
+        return item.getType().jsonValue();
+    }
+
+
+    private List<StackItem> currentStack() {
+        ExecutionContext context = invocationStack.peek();
+        if (context == null) {
+            throw new VMException("No context is loaded.");
+        }
+        return context.getEvaluationStack();
+    }
+
+    private StackItem remove(int index) {
+        List<StackItem> stack = currentStack();
+        checkStackIndex(stack, index);
+        return stack.remove(stack.size() - 1 - index);
+    }
+
+    private void insert(int index, StackItem item) {
+        List<StackItem> stack = currentStack();
+        if (index > stack.size()) {
+            throw new VMException("The evaluation stack contains only " + stack.size()
+                    + " items.");
+        }
+        stack.add(stack.size() - index, item);
+    }
+
+    private void reverse(int count) {
+        List<StackItem> stack = currentStack();
+        checkStackIndex(stack, count - 1);
+        Collections.reverse(stack.subList(stack.size() - count, stack.size()));
+    }
+
+    private int popInt() {
+        return toInt(pop());
+    }
+
+    private int popIndex() {
+        return checkNotNegative(popInt());
+    }
+
+    private int popCount() {
+        return checkCount(popIndex());
+    }
+
+    private int popShift() {
+        int shift = popInt();
+        if (shift < 0 || shift > MAX_SHIFT) {
+            throw new VMException("The shift " + shift + " is out of range.");
+        }
+        return shift;
+    }
+
+    private static void checkStackIndex(List<StackItem> stack, int index) {
+        if (index >= stack.size()) {
+            throw new VMException(stack.isEmpty()
+                    ? "The evaluation stack is empty."
+                    : "The evaluation stack contains only " + stack.size() + " items.");
+        }
+    }
+
+    private static int checkPosition(ExecutionContext context, int position) {
+        if (position < 0 || position > context.getScript().length) {
+            throw new VMException("The position " + position + " is outside of the script.");
+        }
+        return position;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new VMException("The index " + index + " is out of range.");
+        }
+    }
+
+    private static void checkRange(long end, int size) {
+        if (end > size) {
+            throw new VMException("The range exceeds the size of " + size + " bytes.");
+        }
+    }
+
+    private static int checkNotNegative(int value) {
+        if (value < 0) {
+            throw new VMException("The value " + value + " must not be negative.");
+        }
+        return value;
+    }
+
+    private static BigInteger checkNotZero(BigInteger divisor) {
+        if (divisor.signum() == 0) {
+            throw new VMException("Division by zero.");
+        }
+        return divisor;
+    }
+
+    private static int checkCount(int count) {
+        if (count > MAX_STACK_SIZE) {
+            throw new VMException("The maximum number of items in a compound type is "
+                    + MAX_STACK_SIZE + ".");
+        }
+        return count;
+    }
+
+    private static void checkItemSize(int size) {
+        if (size > MAX_ITEM_SIZE) {
+            throw new VMException("The maximum item size of " + MAX_ITEM_SIZE
+                    + " bytes is exceeded.");
+        }
+    }
+
+    private static void checkIntegerSize(byte[] bytes) {
+        if (bytes.length > MAX_INTEGER_SIZE) {
+            throw new VMException("The integer exceeds the maximum size of " + MAX_INTEGER_SIZE
+                    + " bytes.");
+        }
+    }
+
+    private static StackItemType readType(byte type) {
+        try {
+            return StackItemType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new VMException("Invalid stack item type 0x"
+                    + Numeric.toHexStringNoPrefix(type) + ".");
+        }
+    }
+
+    private static int readOperandPrefix(byte[] script, int position, int prefixSize) {
+        if (position + prefixSize > script.length) {
+            throw new VMException("The operand prefix at position " + position
+                    + " exceeds the script.");
+        }
+        long size;
+        if (prefixSize == 1) {
+            size = script[position] & 0xFF;
+        } else if (prefixSize == 2) {
+            size = (script[position] & 0xFF) | (script[position + 1] & 0xFF) << 8;
+        } else {
+            size = readInt32(script, position) & 0xFFFFFFFFL;
+        }
+        if (size > MAX_ITEM_SIZE) {
+            throw new VMException("The operand at position " + position
+                    + " exceeds the maximum item size.");
+        }
+        return (int) size;
+    }
+
+    // Reads a signed jump or call offset of 1 or 4 bytes.
+    private static int readOffset(byte[] script, int position, int size) {
+        return size == 1 ? script[position] : readInt32(script, position);
+    }
+
+    private static int readInt32(byte[] bytes, int position) {
+        return (bytes[position] & 0xFF)
+                | (bytes[position + 1] & 0xFF) << 8
+                | (bytes[position + 2] & 0xFF) << 16
+                | (bytes[position + 3] & 0xFF) << 24;
+    }
+
+    private static boolean compare(OpCode opCode, int comparison) {
+        switch (opCode) {
+            case JMPEQ:
+            case JMPEQ_L:
+            case NUMEQUAL:
+                return comparison == 0;
+            case JMPNE:
+            case JMPNE_L:
+            case NUMNOTEQUAL:
+                return comparison != 0;
+            case JMPGT:
+            case JMPGT_L:
+            case GT:
+                return comparison > 0;
+            case JMPGE:
+            case JMPGE_L:
+            case GE:
+                return comparison >= 0;
+            case JMPLT:
+            case JMPLT_L:
+            case LT:
+                return comparison < 0;
+            case JMPLE:
+            case JMPLE_L:
+            case LE:
+                return comparison <= 0;
+            default:
+                throw new IllegalArgumentException("No comparison for " + opCode.name() + ".");
+        }
+    }
+
+
+}
@@ -0,0 +1,29 @@
+package io.neow3j.vm;
+
+import io.neow3j.constants.InteropServiceCode;
+
+import java.io.IOException;
+
+/**
+ * Executes the interop services called by a script via {@code SYSCALL}.
+ * <p>
+ * The fixed price of the interop service is charged by the {@link ExecutionEngine} before the
+ * handler is invoked. Dynamic prices, e.g., for storing data, have to be charged by the handler
+ * with {@link ExecutionEngine#addGas(long)}.
+ */
+@FunctionalInterface
+public interface InteropHandler {
+
+    /**
+     * Executes the given interop service. Its arguments are popped from and its result is pushed
+     * onto the evaluation stack of the given engine.
+     *
+     * @param engine  the engine executing the script.
+     * @param service the interop service.
+     * @throws IOException if there was a problem fetching state from the Neo node.
+     * @throws VMException if the interop service is not supported or if its arguments are
+     *                     invalid.
+     */
+    void invoke(ExecutionEngine engine, InteropServiceCode service) throws IOException;
+
+}
@@ -0,0 +1,73 @@
+package io.neow3j.vm;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetStorage;
+import io.neow3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fetches storage values lazily from a Neo node with {@code getstorage} calls.
+ * <p>
+ * Every value is fetched at most once and then served from memory, so that repeated
+ * executions reading the same keys do not hit the node again. The cached values are not updated
+ * when the storage changes on the blockchain. Use {@link RpcStorageProvider#clear()} or a new
+ * provider to read the latest state.
+ */
+public class RpcStorageProvider implements StorageProvider {
+
+    // Marks keys without a value, because the map does not accept null values.
+    private static final byte[] ABSENT = new byte[0];
+
+    private final Neow3j neow;
+    private final Map<StorageKey, byte[]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a provider fetching the storage from the node the given {@link Neow3j} instance
+     * is connected to.
+     *
+     * @param neow the {@link Neow3j} instance.
+     */
+    public RpcStorageProvider(Neow3j neow) {
+        this.neow = neow;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * An empty value and an error response of the node, e.g., for an unknown contract, are
+     * treated as if nothing was stored under the key.
+     */
+    @Override
+    public byte[] get(ScriptHash contract, byte[] key) throws IOException {
+        StorageKey storageKey = new StorageKey(contract, key);
+        byte[] value = cache.get(storageKey);
+        if (value == null) {
+            value = fetch(contract, key);
+            cache.put(storageKey, value);
+        }
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Drops all cached storage values.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private byte[] fetch(ScriptHash contract, byte[] key) throws IOException {
+        NeoGetStorage response = neow.getStorage(contract.toString(),
+                Numeric.toHexStringNoPrefix(key)).send();
+        if (response.hasError() || response.getStorage() == null
+                || response.getStorage().isEmpty()) {
+            return ABSENT;
+        }
+        return Base64.decode(response.getStorage());
+    }
+
+}
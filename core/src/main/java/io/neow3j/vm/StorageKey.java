@@ -0,0 +1,36 @@
+package io.neow3j.vm;
+
+import io.neow3j.contract.ScriptHash;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// A key in the storage of a specific contract.
+final class StorageKey {
+
+    private final ScriptHash contract;
+    private final byte[] key;
+
+    StorageKey(ScriptHash contract, byte[] key) {
+        this.contract = contract;
+        this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StorageKey)) {
+            return false;
+        }
+        StorageKey other = (StorageKey) o;
+        return contract.equals(other.contract) && Arrays.equals(key, other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contract, Arrays.hashCode(key));
+    }
+
+}
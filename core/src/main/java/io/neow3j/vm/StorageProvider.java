@@ -0,0 +1,31 @@
+package io.neow3j.vm;
+
+import io.neow3j.contract.ScriptHash;
+
+import java.io.IOException;
+
+/**
+ * Provides the contract storage that scripts executed by an {@link ExecutionEngine} read from.
+ * <p>
+ * Writes of a script are never passed to the provider. They are only visible to the execution
+ * they happen in.
+ */
+@FunctionalInterface
+public interface StorageProvider {
+
+    /**
+     * A provider without any stored values.
+     */
+    StorageProvider EMPTY = (contract, key) -> null;
+
+    /**
+     * Gets the value stored under the given key in the storage of the given contract.
+     *
+     * @param contract the script hash of the contract.
+     * @param key      the storage key.
+     * @return the value or null if nothing is stored under the key.
+     * @throws IOException if there was a problem fetching the value from the Neo node.
+     */
+    byte[] get(ScriptHash contract, byte[] key) throws IOException;
+
+}
@@ -0,0 +1,16 @@
+package io.neow3j.vm;
+
+/**
+ * Thrown while executing a script if the execution has to stop in the {@link VMState#FAULT}
+ * state.
+ * <p>
+ * {@link InteropHandler}s throw this exception if an interop service cannot be executed with the
+ * items on the evaluation stack.
+ */
+public class VMException extends RuntimeException {
+
+    public VMException(String message) {
+        super(message);
+    }
+
+}
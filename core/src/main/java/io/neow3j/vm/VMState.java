@@ -0,0 +1,24 @@
+package io.neow3j.vm;
+
+/**
+ * The state of an {@link ExecutionEngine}.
+ */
+public enum VMState {
+
+    /**
+     * The engine has not finished executing the loaded script yet.
+     */
+    NONE,
+
+    /**
+     * The engine finished the execution of the loaded script successfully.
+     */
+    HALT,
+
+    /**
+     * The execution failed, e.g., because of an invalid instruction, an uncaught exception or
+     * insufficient GAS.
+     */
+    FAULT
+
+}
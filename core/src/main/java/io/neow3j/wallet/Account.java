@@ -62,14 +62,33 @@ public class Account {
 
     /**
      * Gets this account's EC key pair.
+     * <p>
+     * If the account only holds an encrypted private key and its wallet is in lazy decryption
+     * mode (see {@link Wallet#lazyDecryption(Wallet.PasswordSupplier)}), the key pair is
+     * decrypted on first use and taken from the wallet's {@link UnlockedKeyCache}. In that case,
+     * the returned key pair is a copy that the cache does not erase.
      *
      * @return the key pair.
+     * @throws IllegalStateException if the account does not hold a key pair and it cannot be
+     *                               decrypted lazily.
      */
     public ECKeyPair getECKeyPair() {
-        if (keyPair == null) {
-            throw new IllegalStateException("This account does not hold an EC key pair.");
+        if (keyPair != null) {
+            return keyPair;
+        }
+        if (encryptedPrivateKey != null && wallet != null) {
+            ECKeyPair unlocked;
+            try {
+                unlocked = wallet.unlock(this);
+            } catch (NEP2InvalidFormat | CipherException | NEP2InvalidPassphrase e) {
+                throw new IllegalStateException("The private key of the account " + address +
+                        " could not be decrypted.", e);
+            }
+            if (unlocked != null) {
+                return unlocked;
+            }
         }
-        return keyPair;
+        throw new IllegalStateException("This account does not hold an EC key pair.");
     }
 
     public String getLabel() {
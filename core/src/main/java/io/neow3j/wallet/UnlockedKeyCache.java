@@ -0,0 +1,157 @@
+package io.neow3j.wallet;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
+import io.neow3j.utils.LruMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds the key pairs of accounts that were decrypted on demand (see
+ * {@link Wallet#lazyDecryption(Wallet.PasswordSupplier)}).
+ * <p>
+ * The cache holds a bounded number of key pairs and evicts the least recently used one when it
+ * is full. Key pairs also expire after a fixed time since their decryption. The private key of
+ * an evicted or expired key pair is erased.
+ * <p>
+ * The cache only erases its own copies of the key pairs. Both {@link UnlockedKeyCache#put} and
+ * {@link UnlockedKeyCache#get} copy the key pair, so that a key pair held by a caller, e.g.,
+ * while signing a transaction, is never erased under its feet.
+ */
+public class UnlockedKeyCache {
+
+    /**
+     * The default maximum number of key pairs held in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    /**
+     * The default time in milliseconds after which a decrypted key pair expires.
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = 300_000;
+
+    private final long timeToLive;
+    private final LongSupplier clock;
+
+    // Guarded by this. Erases the private keys of evicted key pairs.
+    private final LruMap<ScriptHash, Entry> entries;
+
+    /**
+     * Constructs a cache with the default maximum size and time to live.
+     */
+    public UnlockedKeyCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructs a cache with the given maximum size and time to live.
+     *
+     * @param maxSize    the maximum number of key pairs held in the cache.
+     * @param timeToLive the time in milliseconds after which a decrypted key pair expires.
+     */
+    public UnlockedKeyCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::currentTimeMillis);
+    }
+
+    UnlockedKeyCache(int maxSize, long timeToLive, LongSupplier clock) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("The time to live cannot be negative.");
+        }
+        this.entries = new LruMap<>(maxSize, e -> e.keyPair.getPrivateKey().erase());
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets a copy of the key pair of the given account if it is cached and not expired. The
+     * copy is not erased by the cache.
+     *
+     * @param account the script hash of the account.
+     * @return the key pair or null.
+     */
+    public synchronized ECKeyPair get(ScriptHash account) {
+        removeExpired();
+        Entry entry = entries.get(account);
+        return entry == null ? null : copy(entry.keyPair);
+    }
+
+    /**
+     * Adds a copy of the key pair of the given account. The given key pair is not erased by the
+     * cache. A key pair already cached for the account is replaced and its private key erased.
+     *
+     * @param account the script hash of the account.
+     * @param keyPair the decrypted key pair.
+     */
+    public synchronized void put(ScriptHash account, ECKeyPair keyPair) {
+        removeExpired();
+        Entry previous = entries.put(account, new Entry(copy(keyPair), clock.getAsLong()));
+        if (previous != null) {
+            previous.keyPair.getPrivateKey().erase();
+        }
+    }
+
+    /**
+     * Gets the number of key pairs held in the cache, including expired ones that have not
+     * been removed yet.
+     *
+     * @return the number of key pairs.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the key pair of the given account and erases its private key.
+     *
+     * @param account the script hash of the account.
+     */
+    public synchronized void remove(ScriptHash account) {
+        Entry entry = entries.remove(account);
+        if (entry != null) {
+            entry.keyPair.getPrivateKey().erase();
+        }
+    }
+
+    /**
+     * Removes all key pairs and erases their private keys.
+     */
+    public synchronized void clear() {
+        entries.values().forEach(e -> e.keyPair.getPrivateKey().erase());
+        entries.clear();
+    }
+
+    private void removeExpired() {
+        long now = clock.getAsLong();
+        Iterator<Map.Entry<ScriptHash, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next().getValue();
+            if (now - entry.time >= timeToLive) {
+                entry.keyPair.getPrivateKey().erase();
+                it.remove();
+            }
+        }
+    }
+
+    private static ECKeyPair copy(ECKeyPair keyPair) {
+        byte[] privateKey = keyPair.getPrivateKey().getBytes();
+        return new ECKeyPair(new ECPrivateKey(Arrays.copyOf(privateKey, privateKey.length)),
+                keyPair.getPublicKey());
+    }
+
+    private static class Entry {
+
+        private final ECKeyPair keyPair;
+        private final long time;
+
+        private Entry(ECKeyPair keyPair, long time) {
+            this.keyPair = keyPair;
+            this.time = time;
+        }
+
+    }
+
+}
@@ -21,11 +21,18 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +51,8 @@ public class Wallet {
     private Map<ScriptHash, Account> accounts = new HashMap<>();
     private ScryptParams scryptParams;
     private ScriptHash defaultAccount;
+    private PasswordSupplier passwordSupplier;
+    private UnlockedKeyCache unlockedKeyCache;
 
     static {
         addBouncyCastle();
@@ -136,6 +145,91 @@ public class Wallet {
         return this;
     }
 
+    /**
+     * Enables the lazy decryption of the accounts in this wallet with a new
+     * {@link UnlockedKeyCache} with default settings.
+     *
+     * @param passwordSupplier the supplier of the passphrases used for decryption.
+     * @return this wallet.
+     * @see Wallet#lazyDecryption(PasswordSupplier, UnlockedKeyCache)
+     */
+    public Wallet lazyDecryption(PasswordSupplier passwordSupplier) {
+        return lazyDecryption(passwordSupplier, new UnlockedKeyCache());
+    }
+
+    /**
+     * Enables the lazy decryption of the accounts in this wallet.
+     * <p>
+     * In lazy mode, {@link Account#getECKeyPair()} decrypts an account's private key on first
+     * use with the passphrase from the given supplier, if the account only holds an encrypted
+     * private key. The decrypted key pair is not stored in the account but in the given cache,
+     * which erases its copy on eviction or expiry. Thus, only the accounts that are actually used
+     * for signing pay for the scrypt key derivation.
+     *
+     * @param passwordSupplier the supplier of the passphrases used for decryption.
+     * @param unlockedKeyCache the cache for the decrypted key pairs.
+     * @return this wallet.
+     */
+    public Wallet lazyDecryption(PasswordSupplier passwordSupplier,
+            UnlockedKeyCache unlockedKeyCache) {
+        if (passwordSupplier == null || unlockedKeyCache == null) {
+            throw new IllegalArgumentException(
+                    "The password supplier and the key cache must not be null.");
+        }
+        if (this.unlockedKeyCache != null && this.unlockedKeyCache != unlockedKeyCache) {
+            this.unlockedKeyCache.clear();
+        }
+        this.passwordSupplier = passwordSupplier;
+        this.unlockedKeyCache = unlockedKeyCache;
+        return this;
+    }
+
+    /**
+     * Disables the lazy decryption of the accounts in this wallet and erases all key pairs
+     * decrypted in lazy mode.
+     *
+     * @return this wallet.
+     */
+    public Wallet disableLazyDecryption() {
+        if (unlockedKeyCache != null) {
+            unlockedKeyCache.clear();
+        }
+        this.passwordSupplier = null;
+        this.unlockedKeyCache = null;
+        return this;
+    }
+
+    /**
+     * Gets the cache of key pairs decrypted in lazy mode.
+     *
+     * @return the cache or null if lazy decryption is disabled.
+     */
+    public UnlockedKeyCache getUnlockedKeyCache() {
+        return unlockedKeyCache;
+    }
+
+    // Gets the key pair of the given account from the unlocked key cache, decrypting it if
+    // necessary. Returns null if lazy decryption is disabled.
+    ECKeyPair unlock(Account account) throws NEP2InvalidFormat, CipherException,
+            NEP2InvalidPassphrase {
+
+        UnlockedKeyCache cache = unlockedKeyCache;
+        PasswordSupplier supplier = passwordSupplier;
+        if (cache == null || supplier == null) {
+            return null;
+        }
+        // Lock on the account, so that concurrent signers decrypt it only once.
+        synchronized (account) {
+            ECKeyPair keyPair = cache.get(account.getScriptHash());
+            if (keyPair == null) {
+                keyPair = NEP2.decrypt(supplier.getPassword(account),
+                        account.getEncryptedPrivateKey(), scryptParams);
+                cache.put(account.getScriptHash(), keyPair);
+            }
+            return keyPair;
+        }
+    }
+
     /**
      * Adds the given accounts to this wallet, if it doesn't contain an account with the same
      * script hash (address).
@@ -188,6 +282,9 @@ public class Wallet {
         }
         // Remove the link to this wallet in the account instance.
         this.accounts.get(scriptHash).setWallet(null);
+        if (unlockedKeyCache != null) {
+            unlockedKeyCache.remove(scriptHash);
+        }
 
         // If the removed account was the default account in this wallet, set a new default account.
         if (scriptHash.equals(this.getDefaultAccount().getScriptHash())) {
@@ -213,6 +310,212 @@ public class Wallet {
         }
     }
 
+    /**
+     * Decrypts the private keys of all accounts in this wallet in parallel, using the default
+     * parallelism (see {@link Wallet#getDefaultParallelism(ScryptParams)}).
+     *
+     * @param password the passphrase used to decrypt the private keys.
+     * @throws NEP2InvalidFormat     if an encrypted private key has an invalid format.
+     * @throws CipherException       if the decryption failed.
+     * @throws NEP2InvalidPassphrase if the passphrase is not valid.
+     * @throws InterruptedException  if the calling thread was interrupted while waiting.
+     */
+    public void decryptAllAccountsInParallel(String password) throws NEP2InvalidFormat,
+            CipherException, NEP2InvalidPassphrase, InterruptedException {
+        decryptAllAccountsInParallel(password, getDefaultParallelism(scryptParams), null);
+    }
+
+    /**
+     * Decrypts the private keys of all accounts in this wallet in parallel.
+     * <p>
+     * Each decryption runs the memory-hard scrypt key derivation. The accounts are distributed
+     * over a pool with the given number of threads, which is shut down when this method returns.
+     * If a decryption fails, the remaining accounts are skipped and the failure is rethrown.
+     * Accounts decrypted before that stay decrypted.
+     * <p>
+     * The operation can be cancelled by interrupting the calling thread. The accounts that are
+     * decrypted in that moment are completed, all others are skipped.
+     *
+     * @param password    the passphrase used to decrypt the private keys.
+     * @param parallelism the maximum number of threads to use.
+     * @param listener    the listener that is notified after each decrypted account. It is
+     *                    called from the pool's threads. Can be null.
+     * @throws NEP2InvalidFormat     if an encrypted private key has an invalid format.
+     * @throws CipherException       if the decryption failed.
+     * @throws NEP2InvalidPassphrase if the passphrase is not valid.
+     * @throws InterruptedException  if the calling thread was interrupted while waiting.
+     */
+    public void decryptAllAccountsInParallel(String password, int parallelism,
+            ProgressListener listener) throws NEP2InvalidFormat, CipherException,
+            NEP2InvalidPassphrase, InterruptedException {
+
+        try {
+            forAllAccountsInParallel(a -> a.decryptPrivateKey(password, scryptParams),
+                    parallelism, listener);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NEP2InvalidFormat) {
+                throw (NEP2InvalidFormat) e.getCause();
+            }
+            if (e.getCause() instanceof NEP2InvalidPassphrase) {
+                throw (NEP2InvalidPassphrase) e.getCause();
+            }
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Encrypts the private keys of all accounts in this wallet in parallel, using the default
+     * parallelism (see {@link Wallet#getDefaultParallelism(ScryptParams)}).
+     *
+     * @param password the passphrase used to encrypt the private keys.
+     * @throws CipherException      if the encryption failed.
+     * @throws InterruptedException if the calling thread was interrupted while waiting.
+     */
+    public void encryptAllAccountsInParallel(String password)
+            throws CipherException, InterruptedException {
+        encryptAllAccountsInParallel(password, getDefaultParallelism(scryptParams), null);
+    }
+
+    /**
+     * Encrypts the private keys of all accounts in this wallet in parallel.
+     * <p>
+     * Works like {@link Wallet#decryptAllAccountsInParallel(String, int, ProgressListener)}.
+     *
+     * @param password    the passphrase used to encrypt the private keys.
+     * @param parallelism the maximum number of threads to use.
+     * @param listener    the listener that is notified after each encrypted account. It is
+     *                    called from the pool's threads. Can be null.
+     * @throws CipherException      if the encryption failed.
+     * @throws InterruptedException if the calling thread was interrupted while waiting.
+     */
+    public void encryptAllAccountsInParallel(String password, int parallelism,
+            ProgressListener listener) throws CipherException, InterruptedException {
+
+        try {
+            forAllAccountsInParallel(a -> a.encryptPrivateKey(password, scryptParams),
+                    parallelism, listener);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Gets the default number of threads used for encrypting or decrypting accounts in
+     * parallel. It is the number of available processors, limited by the memory that is
+     * available for the scrypt key derivation (128 * r * N bytes per thread).
+     *
+     * @param scryptParams the scrypt parameters.
+     * @return the number of threads.
+     */
+    public static int getDefaultParallelism(ScryptParams scryptParams) {
+        Runtime runtime = Runtime.getRuntime();
+        long availableMemory =
+                runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        long memoryPerThread = 128L * scryptParams.getR() * scryptParams.getN();
+        // Leave half of the available memory to the rest of the application.
+        long threadsByMemory = availableMemory / 2 / memoryPerThread;
+        return (int) Math.max(1, Math.min(runtime.availableProcessors(), threadsByMemory));
+    }
+
+    private void forAllAccountsInParallel(AccountOperation operation, int parallelism,
+            ProgressListener listener) throws ExecutionException, InterruptedException {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than 0.");
+        }
+        List<Account> accountList = new ArrayList<>(accounts.values());
+        int total = accountList.size();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        // The pool wraps checked exceptions, therefore the first failure is kept separately.
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, total));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Account account : accountList) {
+                futures.add(pool.submit(() -> {
+                    if (cancelled.get()) {
+                        return;
+                    }
+                    try {
+                        operation.apply(account);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                        cancelled.set(true);
+                        return;
+                    }
+                    int done = completed.incrementAndGet();
+                    if (listener != null) {
+                        listener.onProgress(done, total);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            if (failure.get() != null) {
+                throw new ExecutionException(failure.get());
+            }
+        } finally {
+            cancelled.set(true);
+            pool.shutdown();
+        }
+    }
+
+    // Rethrows the cause of the given exception if it is a CipherException or unchecked.
+    private static RuntimeException rethrow(ExecutionException e) throws CipherException {
+        if (e.getCause() instanceof CipherException) {
+            throw (CipherException) e.getCause();
+        }
+        if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    /**
+     * Is notified about the progress of encrypting or decrypting the accounts of a wallet in
+     * parallel.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Is called after an account was processed.
+         *
+         * @param completed the number of accounts processed so far.
+         * @param total     the total number of accounts.
+         */
+        void onProgress(int completed, int total);
+
+    }
+
+    /**
+     * Supplies the passphrases for decrypting the accounts of a wallet in lazy mode.
+     */
+    @FunctionalInterface
+    public interface PasswordSupplier {
+
+        /**
+         * Gets the passphrase for decrypting the private key of the given account.
+         *
+         * @param account the account.
+         * @return the passphrase.
+         */
+        String getPassword(Account account);
+
+    }
+
+    @FunctionalInterface
+    private interface AccountOperation {
+
+        void apply(Account account) throws Exception;
+
+    }
+
     public NEP6Wallet toNEP6Wallet() {
         List<NEP6Account> accts = this.accounts.values().stream()
                 .map(Account::toNEP6Account)
@@ -0,0 +1,128 @@
+package io.neow3j.block;
+
+import static io.neow3j.crypto.Hash.hash256;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.Base64;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.io.exceptions.DeserializationException;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+
+public class BlockTest {
+
+    private static final String UNSIGNED_HEADER = ""
+            + "00000000"  // version
+            + "0101010101010101010101010101010101010101010101010101010101010101"  // prev hash
+            + "0202020202020202020202020202020202020202020202020202020202020202"  // merkle root
+            + "1c8cd6f975010000"  // timestamp
+            + "39300000"  // index 12345
+            + "941343239213fa0e765f1027ce742f48db779a96";  // next consensus
+
+    private static final String WITNESS = "01" + "01000100";  // 1 witness
+
+    private static final String TRANSACTION = ""
+            + "00" // version
+            + "62bdaa0e"  // nonce
+            + "c272890000000000"  // system fee
+            + "a65a130000000000"  // network fee
+            + "99232000"  // valid until block
+            + "01" + "941343239213fa0e765f1027ce742f48db779a96" + "01"
+            + "00"
+            + "0111"  // 1-byte script with PUSH1 OpCode
+            + "01" + "01000100";
+
+    private static final String BLOCK = UNSIGNED_HEADER + WITNESS
+            + "03"  // consensus data and 2 transactions
+            + "02" + "0807060504030201"  // consensus data
+            + TRANSACTION + TRANSACTION;
+
+    @Test
+    public void deserializeBlock() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+
+        assertThat(block.getVersion(), is(0L));
+        assertThat(block.getPrevHash(),
+                is("0101010101010101010101010101010101010101010101010101010101010101"));
+        assertThat(block.getMerkleRoot(),
+                is("0202020202020202020202020202020202020202020202020202020202020202"));
+        assertThat(block.getTimestamp(), is(1606214388764L));
+        assertThat(block.getIndex(), is(12345L));
+        assertThat(block.getNextConsensus(),
+                is(new ScriptHash("969a77db482f74ce27105f760efa139223431394")));
+        assertThat(block.getWitness(), is(new Witness(new byte[]{0x00}, new byte[]{0x00})));
+        assertThat(block.getConsensusData().getPrimaryIndex(), is(2));
+        assertThat(block.getConsensusData().getNonce(), is(0x0102030405060708L));
+        assertThat(block.getTransactions(), hasSize(2));
+        Transaction tx = block.getTransactions().get(1);
+        assertThat(tx.getNonce(), is(246070626L));
+        assertThat(tx.getSystemFee(), is(9007810L));
+    }
+
+    @Test
+    public void serializeBlock() throws DeserializationException {
+        byte[] data = Numeric.hexStringToByteArray(BLOCK);
+        Block block = NeoSerializableInterface.from(data, Block.class);
+
+        assertArrayEquals(data, block.toArray());
+        assertThat(block.getSize(), is(data.length));
+    }
+
+    @Test
+    public void deserializeHeader() throws DeserializationException {
+        byte[] data = Numeric.hexStringToByteArray(UNSIGNED_HEADER + WITNESS + "00");
+        Header header = NeoSerializableInterface.from(data, Header.class);
+
+        assertThat(header.getIndex(), is(12345L));
+        assertThat(header.getWitness(), is(new Witness(new byte[]{0x00}, new byte[]{0x00})));
+        assertArrayEquals(data, header.toArray());
+        assertThat(header.getSize(), is(data.length));
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void deserializeHeaderWithContents() throws DeserializationException {
+        NeoSerializableInterface.from(Numeric.hexStringToByteArray(BLOCK), Header.class);
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void deserializeBlockWithoutWitness() throws DeserializationException {
+        NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(UNSIGNED_HEADER + "00"), Block.class);
+    }
+
+    @Test
+    public void hashOfBlockEqualsHashOfHeader() throws DeserializationException {
+        byte[] magic = new byte[]{0x4e, 0x45, 0x4f, 0x00};
+        Block block = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(BLOCK), Block.class);
+        Header header = NeoSerializableInterface.from(
+                Numeric.hexStringToByteArray(UNSIGNED_HEADER + WITNESS + "00"), Header.class);
+
+        byte[] expected = ArrayUtils.reverseArray(hash256(ArrayUtils.concatenate(magic,
+                Numeric.hexStringToByteArray(UNSIGNED_HEADER))));
+        assertThat(block.getHash(magic), is(Numeric.toHexStringNoPrefix(expected)));
+        assertThat(header.getHash(magic), is(block.getHash(magic)));
+    }
+
+    @Test
+    public void getBlockFromRawBlockResponse() throws DeserializationException {
+        NeoGetRawBlock response = new NeoGetRawBlock();
+        response.setResult(Base64.encode(Numeric.hexStringToByteArray(BLOCK)));
+
+        Block block = response.getBlock();
+
+        assertThat(block.getIndex(), is(12345L));
+        assertThat(block.getTransactions(), hasSize(2));
+        assertArrayEquals(Numeric.hexStringToByteArray(BLOCK), block.toArray());
+    }
+
+}
@@ -1,6 +1,11 @@
 package io.neow3j.crypto;
 
 import io.neow3j.utils.Numeric;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -104,4 +109,64 @@ public class HashTest {
         final String result = Hash.ripemd160(hexStringToHash);
         assertThat(result, is(expected));
     }
+
+    @Test
+    public void testSha256() {
+        byte[] result = Hash.sha256("Hello World.".getBytes());
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("f4bb1975bf1f81f76ce824f7536c1e101a8060a632a52289d530a6f600d52c92"));
+    }
+
+    @Test
+    public void testSha256OfRange() {
+        byte[] input = "--Hello World.--".getBytes();
+        byte[] result = Hash.sha256(input, 2, input.length - 4);
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("f4bb1975bf1f81f76ce824f7536c1e101a8060a632a52289d530a6f600d52c92"));
+    }
+
+    @Test
+    public void testHash256() {
+        byte[] result = Hash.hash256("Hello World.".getBytes());
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("5cc94a8d22db7ed6105fe886b6e37b44a0d586bb5833efab85b546bad066c4e7"));
+    }
+
+    @Test
+    public void testHash256OfRange() {
+        byte[] input = "--Hello World.--".getBytes();
+        byte[] result = Hash.hash256(input, 2, input.length - 4);
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("5cc94a8d22db7ed6105fe886b6e37b44a0d586bb5833efab85b546bad066c4e7"));
+    }
+
+    @Test
+    public void testSha256AndThenRipemd160() {
+        byte[] result = Hash.sha256AndThenRipemd160("Hello World.".getBytes());
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("2550445c8eabb8ac45916925f78a29c86b409df8"));
+    }
+
+    @Test
+    public void testHashesAreNotAffectedByOtherThreads() throws Exception {
+        byte[] input = "Hello World.".getBytes();
+        String expected = Numeric.toHexStringNoPrefix(Hash.hash256(input));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                byte[] other = new byte[i];
+                results.add(executor.submit(() -> {
+                    // Interleave the different hash functions on the same thread.
+                    Hash.sha256AndThenRipemd160(other);
+                    return Numeric.toHexStringNoPrefix(Hash.hash256(input));
+                }));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get(), is(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package io.neow3j.crypto;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.utils.Numeric;
+
+import org.junit.Test;
+
+public class PublicKeyCacheTest {
+
+    private static final byte[] KEY_1 = Numeric.hexStringToByteArray(
+            "0265bf906bf385fbf3f777832e55a87991bcfbe19b097fb7c5ca2e4025a4d5e5d6");
+    private static final byte[] KEY_2 = Numeric.hexStringToByteArray(
+            "02249425a06b5a1f8e6133fc79afa2c2b8430bf9327297f176761df79e8d8929c5");
+    private static final byte[] KEY_3 = Numeric.hexStringToByteArray(
+            "031d8e1630ce640966967bc6d95223d21f44304133003140c3b52004dc981349c9");
+
+    @Test
+    public void decodeReturnsSamePoint() {
+        PublicKeyCache cache = new PublicKeyCache();
+
+        assertThat(cache.decode(KEY_1), is(sameInstance(cache.decode(KEY_1.clone()))));
+        assertThat(cache.decode(KEY_1).getEncoded(true), is(KEY_1));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void scriptHashAndAddressMatchVerificationScript() {
+        PublicKeyCache cache = new PublicKeyCache();
+        ScriptHash expected = ScriptHash.fromScript(ScriptBuilder.buildVerificationScript(KEY_1));
+
+        assertThat(cache.getScriptHash(KEY_1), is(expected));
+        assertThat(cache.getScriptHash(KEY_1), is(sameInstance(cache.getScriptHash(KEY_1))));
+        assertThat(cache.getAddress(KEY_1), is(expected.toAddress()));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedKey() {
+        PublicKeyCache cache = new PublicKeyCache(2);
+        cache.decode(KEY_1);
+        cache.decode(KEY_2);
+        cache.decode(KEY_1);
+
+        cache.decode(KEY_3);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.decode(KEY_1), is(sameInstance(cache.decode(KEY_1))));
+        cache.clear();
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void publicKeysShareDecodedPoint() {
+        ECPublicKey key = new ECPublicKey(KEY_1);
+
+        assertThat(new ECPublicKey(KEY_1), is(key));
+        assertThat(ScriptHash.fromPublicKey(KEY_1),
+                is(sameInstance(ScriptHash.fromPublicKey(KEY_1))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failOnInvalidPoint() {
+        new PublicKeyCache().decode(new byte[]{0x02, 0x01});
+    }
+
+}
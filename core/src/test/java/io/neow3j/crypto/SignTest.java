@@ -1,5 +1,6 @@
 package io.neow3j.crypto;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
@@ -8,6 +9,8 @@ import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
 import io.neow3j.utils.Numeric;
 import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 
 public class SignTest {
@@ -34,6 +37,68 @@ public class SignTest {
         assertThat(signatureData, is(expected));
     }
 
+    @Test
+    public void testSignAllInOrder() {
+        List<byte[]> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            messages.add(("message " + i).getBytes());
+        }
+
+        List<Sign.SignatureData> signatures = Sign.signAll(messages, KEY_PAIR);
+
+        assertThat(signatures.size(), is(20));
+        for (int i = 0; i < 20; i++) {
+            Sign.SignatureData expected = Sign.signMessage(messages.get(i), KEY_PAIR);
+            assertThat(signatures.get(i).getV(), is((byte) 0));
+            assertThat(signatures.get(i).getConcatenated(), is(expected.getConcatenated()));
+        }
+    }
+
+    @Test
+    public void testSigningContextMatchesSignMessage() {
+        SigningContext context = new SigningContext(KEY_PAIR);
+
+        Sign.SignatureData signatureData = context.signMessage(TEST_MESSAGE);
+
+        assertThat(signatureData.getR(), is(Numeric.hexStringToByteArray(
+                "147e5f3c929dd830d961626551dbea6b70e4b2837ed2fe9089eed2072ab3a655")));
+        assertThat(signatureData.getS(), is(Numeric.hexStringToByteArray(
+                "523ae0fa8711eee4769f1913b180b9b3410bbb2cf770f529c85f6886f22cbaaf")));
+        assertThat(context.signMessage(TEST_MESSAGE), is(signatureData));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosedSigningContextCannotSign() {
+        SigningContext context = new SigningContext(KEY_PAIR);
+        context.close();
+
+        context.signMessage(TEST_MESSAGE);
+    }
+
+    @Test
+    public void testSignWithAll() {
+        ECKeyPair other = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "84180ac9d6eb6fba207ea4ef9d2200102d1ebeb4b9c07e2c6a738a42742e27a5"));
+
+        List<Sign.SignatureData> signatures =
+                Sign.signWithAll(TEST_MESSAGE, asList(KEY_PAIR, other));
+
+        assertThat(signatures.size(), is(2));
+        assertThat(signatures.get(0).getConcatenated(),
+                is(Sign.signMessage(TEST_MESSAGE, KEY_PAIR).getConcatenated()));
+        assertThat(signatures.get(1).getConcatenated(),
+                is(Sign.signMessage(TEST_MESSAGE, other).getConcatenated()));
+    }
+
+    @Test
+    public void testVerifySignature() {
+        Sign.SignatureData signatureData = Sign.signMessage(TEST_MESSAGE, KEY_PAIR);
+
+        assertThat(Sign.verifySignature(TEST_MESSAGE, signatureData, PUBLIC_KEY), is(true));
+        assertThat(Sign.verifySignature("Another message".getBytes(), signatureData, PUBLIC_KEY),
+                is(false));
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData = Sign.signMessage(TEST_MESSAGE, KEY_PAIR);
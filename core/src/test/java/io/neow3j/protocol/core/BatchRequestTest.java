@@ -0,0 +1,144 @@
+package io.neow3j.protocol.core;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRequestTest {
+
+    private Neow3j neow3j;
+    private String requestBody;
+    private String responseBody;
+
+    @Before
+    public void setUp() {
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    Buffer buffer = new Buffer();
+                    chain.request().body().writeTo(buffer);
+                    requestBody = buffer.readUtf8();
+                    return new okhttp3.Response.Builder()
+                            .body(ResponseBody.create(JSON_MEDIA_TYPE, responseBody))
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_2)
+                            .code(200)
+                            .message("")
+                            .build();
+                })
+                .build();
+        neow3j = Neow3j.build(new HttpService(httpClient));
+    }
+
+    @Test
+    public void sendBatch() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        // The node may answer in any order.
+        responseBody = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + version.getId() + ",\"result\":"
+                + "{\"tcpport\":40333,\"wsport\":40334,\"nonce\":1234,"
+                + "\"useragent\":\"/Neo:3.0.0/\",\"magic\":769}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234}"
+                + "]";
+
+        BatchResponse batchResponse = neow3j.newBatch()
+                .add(blockCount)
+                .add(version)
+                .send();
+
+        assertThat(requestBody, is("["
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":"
+                + blockCount.getId() + "},"
+                + "{\"jsonrpc\":\"2.0\",\"method\":\"getversion\",\"params\":[],\"id\":"
+                + version.getId() + "}"
+                + "]"));
+        assertThat(batchResponse.getResponses().size(), is(2));
+        assertThat(batchResponse.getResponse(0, NeoBlockCount.class).getBlockIndex(),
+                is(BigInteger.valueOf(1234)));
+        assertThat(batchResponse.getResponse(1, NeoGetVersion.class).getVersion().getMagic(),
+                is(769));
+    }
+
+    @Test
+    public void sendBatchAsync() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        responseBody = "[{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId()
+                + ",\"error\":{\"code\":-32601,\"message\":\"Method not found\"}}]";
+
+        BatchResponse batchResponse = neow3j.newBatch().add(blockCount).sendAsync().get();
+
+        NeoBlockCount response = batchResponse.getResponse(0, NeoBlockCount.class);
+        assertTrue(response.hasError());
+        assertThat(response.getError().getCode(), is(-32601));
+    }
+
+    @Test
+    public void sendEmptyBatch() throws Exception {
+        BatchResponse batchResponse = neow3j.newBatch().send();
+
+        assertThat(batchResponse, notNullValue());
+        assertTrue(batchResponse.getResponses().isEmpty());
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void sendBatch_responseIsNotAnArray() throws Exception {
+        responseBody = "{\"jsonrpc\":\"2.0\",\"id\":null,"
+                + "\"error\":{\"code\":-32700,\"message\":\"Parse error\"}}";
+
+        neow3j.newBatch().add(neow3j.getBlockCount()).send();
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void sendBatch_responseWithUnknownId() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        responseBody = "[{\"jsonrpc\":\"2.0\",\"id\":" + (blockCount.getId() + 1000)
+                + ",\"result\":1234}]";
+
+        neow3j.newBatch().add(blockCount).send();
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void sendBatch_responseMissing() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        responseBody = "[{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId()
+                + ",\"result\":1234}]";
+
+        neow3j.newBatch().add(blockCount).add(version).send();
+    }
+
+    @Test(expected = ClientConnectionException.class)
+    public void sendBatch_responseWithDuplicateId() throws Exception {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+        Request<?, NeoGetVersion> version = neow3j.getVersion();
+        responseBody = "["
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1234},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":1235}"
+                + "]";
+
+        neow3j.newBatch().add(blockCount).add(version).send();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addRequestTwice() {
+        Request<?, NeoBlockCount> blockCount = neow3j.getBlockCount();
+
+        neow3j.newBatch().add(blockCount).add(blockCount);
+    }
+}
@@ -1,15 +1,21 @@
 package io.neow3j.protocol.rx;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.neow3j.block.Block;
+import io.neow3j.crypto.Base64;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jService;
 import io.neow3j.protocol.core.BlockParameterIndex;
@@ -17,15 +23,21 @@ import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -123,6 +135,115 @@ public class JsonRpc2_0RxTest {
         assertThat(transactionLatch.getCount(), is(0L));
     }
 
+    @Test
+    public void testNeoBlockObservableIsSharedBetweenSubscribers() throws Exception {
+        NeoBlockCount neoBlockCount = new NeoBlockCount();
+        neoBlockCount.setResult(BigInteger.valueOf(5));
+        when(neow3jService.send(any(Request.class), eq(NeoBlockCount.class)))
+            .thenReturn(neoBlockCount);
+
+        JsonRpc2_0Rx rx = new JsonRpc2_0Rx(neow3j, Executors.newSingleThreadScheduledExecutor());
+        Observable<BigInteger> observable = rx.neoBlockObservable(1000);
+        assertThat(rx.neoBlockObservable(1000), sameInstance(observable));
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<BigInteger> results1 = new ArrayList<>();
+        List<BigInteger> results2 = new ArrayList<>();
+        Disposable disposable1 = observable.subscribe(i -> {
+            results1.add(i);
+            latch.countDown();
+        });
+        Disposable disposable2 = observable.subscribe(i -> {
+            results2.add(i);
+            latch.countDown();
+        });
+        // The first poll only determines the current block.
+        Thread.sleep(500);
+        neoBlockCount.setResult(BigInteger.valueOf(6));
+        latch.await(5, TimeUnit.SECONDS);
+        disposable1.dispose();
+        disposable2.dispose();
+
+        assertThat(results1, equalTo(Arrays.asList(BigInteger.valueOf(5))));
+        assertThat(results2, equalTo(Arrays.asList(BigInteger.valueOf(5))));
+        // With one poller polling every 100 ms while waiting for the block, there are far fewer
+        // calls than with two pollers.
+        verify(neow3jService, atMost(10)).send(any(Request.class), eq(NeoBlockCount.class));
+    }
+
+    @Test
+    public void testReplayBlocksFlowable() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // Blocks with a lower index take longer to be fetched, i.e., replies arrive out of order.
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                int index = ((BigInteger) request.getParams().get(0)).intValue();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(10 * (10 - index));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return createBlock(index);
+                });
+            });
+
+        Flowable<NeoGetBlock> flowable = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.ZERO),
+            new BlockParameterIndex(BigInteger.valueOf(9)),
+            true, 3);
+
+        List<Long> indices = new ArrayList<>();
+        flowable.blockingForEach(block -> indices.add(block.getBlock().getIndex()));
+
+        assertThat(indices, equalTo(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L)));
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void testReplayBlocksDescendingFlowable() throws Exception {
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetBlock.class)))
+            .thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                int index = ((BigInteger) request.getParams().get(0)).intValue();
+                return CompletableFuture.completedFuture(createBlock(index));
+            });
+
+        Flowable<NeoGetBlock> flowable = neow3j.replayBlocksFlowable(
+            new BlockParameterIndex(BigInteger.valueOf(3)),
+            new BlockParameterIndex(BigInteger.valueOf(6)),
+            true, false, 2);
+
+        List<Long> indices = new ArrayList<>();
+        flowable.blockingForEach(block -> indices.add(block.getBlock().getIndex()));
+
+        assertThat(indices, equalTo(Arrays.asList(6L, 5L, 4L, 3L)));
+    }
+
+    @Test
+    public void testReplayRawBlocksFlowable() throws Exception {
+        when(neow3jService.sendAsync(any(Request.class), eq(NeoGetRawBlock.class)))
+            .thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                int index = ((BigInteger) request.getParams().get(0)).intValue();
+                return CompletableFuture.completedFuture(createRawBlock(index));
+            });
+
+        Flowable<Block> flowable = neow3j.replayRawBlocksFlowable(
+            new BlockParameterIndex(BigInteger.valueOf(3)),
+            new BlockParameterIndex(BigInteger.valueOf(6)),
+            2);
+
+        List<Long> indices = new ArrayList<>();
+        flowable.blockingForEach(block -> indices.add(block.getIndex()));
+
+        assertThat(indices, equalTo(Arrays.asList(3L, 4L, 5L, 6L)));
+    }
+
     @Test
     public void testCatchUpToLatestAndSubscribeToNewBlockObservable() throws Exception {
 
@@ -281,6 +402,22 @@ public class JsonRpc2_0RxTest {
         assertTrue(disposable.isDisposed());
     }
 
+    private NeoGetRawBlock createRawBlock(int number) {
+        String rawBlock = ""
+            + "00000000"  // version
+            + "0101010101010101010101010101010101010101010101010101010101010101"  // prev hash
+            + "0202020202020202020202020202020202020202020202020202020202020202"  // merkle root
+            + "1c8cd6f975010000"  // timestamp
+            + Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(
+                Numeric.toBytesPadded(BigInteger.valueOf(number), 4)))  // index
+            + "941343239213fa0e765f1027ce742f48db779a96"  // next consensus
+            + "01" + "01000100"  // witness
+            + "01" + "000000000000000000";  // consensus data without transactions
+        NeoGetRawBlock neoGetRawBlock = new NeoGetRawBlock();
+        neoGetRawBlock.setResult(Base64.encode(Numeric.hexStringToByteArray(rawBlock)));
+        return neoGetRawBlock;
+    }
+
     private NeoGetBlock createBlock(int number) {
         NeoGetBlock neoGetBlock = new NeoGetBlock();
         NeoBlock block = new NeoBlock("", 0L, 0, "",
@@ -0,0 +1,111 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionTrackerTest {
+
+    private static final String TX_1 =
+            "0x1111111111111111111111111111111111111111111111111111111111111111";
+    private static final String TX_2 =
+            "0x2222222222222222222222222222222222222222222222222222222222222222";
+    private static final String TX_3 =
+            "0x3333333333333333333333333333333333333333333333333333333333333333";
+
+    private Neow3j neow3j;
+    private PublishSubject<NeoGetBlock> blocks;
+    private TransactionTracker tracker;
+
+    @Before
+    public void setUp() {
+        neow3j = mock(Neow3j.class);
+        blocks = PublishSubject.create();
+        when(neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                any(BlockParameterIndex.class), anyBoolean()))
+                .thenReturn(blocks);
+        tracker = new TransactionTracker(neow3j);
+    }
+
+    @Test
+    public void trackedTransactionsShareOneBlockStream() {
+        TestObserver<Long> observer1 = tracker.track(TX_1, BigInteger.TEN).test();
+        TestObserver<Long> observer2 = tracker.track(TX_2, BigInteger.TEN).test();
+
+        blocks.onNext(createBlock(10, TX_1));
+        blocks.onNext(createBlock(11, TX_3));
+        blocks.onNext(createBlock(12, TX_2, TX_3));
+
+        observer1.assertValue(10L).assertComplete();
+        observer2.assertValue(12L).assertComplete();
+        verify(neow3j, times(1)).catchUpToLatestAndSubscribeToNewBlocksObservable(
+                any(BlockParameterIndex.class), anyBoolean());
+        // The stream is stopped as soon as no transaction is tracked anymore.
+        assertThat(blocks.hasObservers(), is(false));
+    }
+
+    @Test
+    public void transactionIncludedBeforeRegistrationIsFoundInHistory() {
+        TestObserver<Long> observer1 = tracker.track(TX_1, BigInteger.TEN).test();
+        blocks.onNext(createBlock(10, TX_2));
+        blocks.onNext(createBlock(11));
+
+        TestObserver<Long> observer2 = tracker.track(TX_2, BigInteger.TEN).test();
+
+        observer2.assertValue(10L).assertComplete();
+        observer1.assertNoValues();
+        assertThat(blocks.hasObservers(), is(true));
+    }
+
+    @Test
+    public void streamIsStoppedWhenAllObserversDispose() {
+        TestObserver<Long> observer = tracker.track(TX_1, BigInteger.TEN).test();
+        assertThat(blocks.hasObservers(), is(true));
+
+        observer.dispose();
+
+        assertThat(blocks.hasObservers(), is(false));
+    }
+
+    @Test
+    public void streamErrorIsPropagatedToAllTrackedTransactions() {
+        TestObserver<Long> observer1 = tracker.track(TX_1, BigInteger.TEN).test();
+        TestObserver<Long> observer2 = tracker.track(TX_2, BigInteger.TEN).test();
+
+        blocks.onError(new RuntimeException("Connection lost"));
+
+        observer1.assertErrorMessage("Connection lost");
+        observer2.assertErrorMessage("Connection lost");
+    }
+
+    private NeoGetBlock createBlock(int number, String... txHashes) {
+        List<Transaction> transactions = Arrays.stream(txHashes)
+                .map(hash -> new Transaction(hash, 0, 0, 0L, "", "", "", 0L, null, null, null,
+                        null))
+                .collect(Collectors.toList());
+        NeoGetBlock neoGetBlock = new NeoGetBlock();
+        neoGetBlock.setResult(new NeoBlock("", 0L, 0, "", "", 123456789, number, "nonce", null,
+                null, transactions, 1, "next"));
+        return neoGetBlock;
+    }
+}
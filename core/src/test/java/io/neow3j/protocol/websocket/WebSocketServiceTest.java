@@ -0,0 +1,251 @@
+package io.neow3j.protocol.websocket;
+
+import io.neow3j.protocol.core.BatchRequest;
+import io.neow3j.protocol.core.BatchResponse;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import io.neow3j.protocol.core.methods.response.NeoSubscribe;
+import io.neow3j.protocol.notifications.Notification;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebSocketServiceTest {
+
+    private WebSocketClient webSocketClient;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduledTask;
+    private WebSocketService service;
+
+    @Before
+    public void setUp() {
+        webSocketClient = mock(WebSocketClient.class);
+        when(webSocketClient.isOpen()).thenReturn(true);
+        executor = mock(ScheduledExecutorService.class);
+        scheduledTask = mock(ScheduledFuture.class);
+        doReturn(scheduledTask).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        service = new WebSocketService(webSocketClient, executor, false);
+    }
+
+    @Test
+    public void sendAsync() throws Exception {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+
+        CompletableFuture<NeoBlockCount> reply = request.sendAsync();
+        verify(webSocketClient).send("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\","
+                + "\"params\":[],\"id\":" + request.getId() + "}");
+        assertThat(reply.isDone(), is(false));
+
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId() + ",\"result\":1234}");
+
+        assertThat(reply.get().getBlockIndex(), is(BigInteger.valueOf(1234)));
+    }
+
+    @Test
+    public void timeoutIsCancelledOnReply() throws Exception {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+
+        request.sendAsync();
+        verify(executor).schedule(any(Runnable.class), eq(WebSocketService.REQUEST_TIMEOUT),
+                eq(TimeUnit.SECONDS));
+        verify(scheduledTask, never()).cancel(false);
+
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId() + ",\"result\":1234}");
+
+        verify(scheduledTask).cancel(false);
+    }
+
+    @Test
+    public void repliesAreMatchedById() throws Exception {
+        Request<?, NeoBlockCount> request1 = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+        Request<?, NeoBlockCount> request2 = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+
+        CompletableFuture<NeoBlockCount> reply1 = request1.sendAsync();
+        CompletableFuture<NeoBlockCount> reply2 = request2.sendAsync();
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + request2.getId() + ",\"result\":2}");
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + request1.getId() + ",\"result\":1}");
+
+        assertThat(reply1.get().getBlockIndex(), is(BigInteger.ONE));
+        assertThat(reply2.get().getBlockIndex(), is(BigInteger.valueOf(2)));
+    }
+
+    @Test
+    public void sendBatchAsync() throws Exception {
+        Request<?, NeoBlockCount> blockCount = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+        Request<?, NeoGetVersion> version = new Request<>("getversion",
+                Collections.emptyList(), service, NeoGetVersion.class);
+
+        CompletableFuture<BatchResponse> reply = new BatchRequest(service)
+                .add(blockCount)
+                .add(version)
+                .sendAsync();
+        verify(webSocketClient).send(startsWith("[{\"jsonrpc\":\"2.0\""));
+
+        service.onWebSocketMessage("["
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + version.getId() + ",\"result\":"
+                + "{\"tcpport\":40333,\"wsport\":40334,\"nonce\":1234,"
+                + "\"useragent\":\"/Neo:3.0.0/\",\"magic\":769}},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":" + blockCount.getId() + ",\"result\":10}"
+                + "]");
+
+        BatchResponse batchResponse = reply.get();
+        assertThat(batchResponse.getResponse(0, NeoBlockCount.class).getBlockIndex(),
+                is(BigInteger.TEN));
+        assertThat(batchResponse.getResponse(1, NeoGetVersion.class).getVersion().getMagic(),
+                is(769));
+    }
+
+    @Test
+    public void pendingRequestsFailWhenConnectionIsClosed() {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+
+        CompletableFuture<NeoBlockCount> reply = request.sendAsync();
+        service.onWebSocketClose();
+
+        try {
+            reply.get();
+            fail();
+        } catch (InterruptedException | ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    @Test
+    public void subscribe() throws Exception {
+        Request<?, NeoSubscribe> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, NeoSubscribe.class);
+        List<TestNotification> notifications = new ArrayList<>();
+
+        Disposable disposable = service.subscribe(subscribeRequest, "unsubscribe",
+                TestNotification.class).subscribe(notifications::add);
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.getId()
+                + ",\"result\":\"0xcd0c3e\"}");
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\","
+                + "\"params\":{\"subscription\":\"0xcd0c3e\",\"result\":\"block\"}}");
+        // Notifications of other subscriptions are ignored.
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\","
+                + "\"params\":{\"subscription\":\"0xffffff\",\"result\":\"other\"}}");
+
+        assertThat(notifications.size(), is(1));
+        assertThat(notifications.get(0).getParams().getResult(), is("block"));
+
+        disposable.dispose();
+        verify(webSocketClient).send(startsWith(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"unsubscribe\",\"params\":[\"0xcd0c3e\"]"));
+    }
+
+    @Test
+    public void subscriptionIsReopenedAfterReconnect() throws Exception {
+        Request<?, NeoSubscribe> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, NeoSubscribe.class);
+        List<TestNotification> notifications = new ArrayList<>();
+        service.subscribe(subscribeRequest, "unsubscribe", TestNotification.class)
+                .subscribe(notifications::add);
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.getId()
+                + ",\"result\":\"0x01\"}");
+
+        when(webSocketClient.isOpen()).thenReturn(false);
+        service.onWebSocketClose();
+        // The service reconnects in the background.
+        ArgumentCaptor<Runnable> reconnect = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(reconnect.capture(),
+                eq(WebSocketService.INITIAL_RECONNECT_DELAY), eq(TimeUnit.MILLISECONDS));
+        when(webSocketClient.reconnectBlocking()).thenAnswer(i -> {
+            when(webSocketClient.isOpen()).thenReturn(true);
+            return true;
+        });
+        reconnect.getValue().run();
+
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.getId()
+                + ",\"result\":\"0x02\"}");
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\","
+                + "\"params\":{\"subscription\":\"0x02\",\"result\":\"block\"}}");
+
+        assertThat(notifications.size(), is(1));
+    }
+
+    @Test
+    public void subscriptionCanBeReopenedAfterError() throws Exception {
+        Request<?, NeoSubscribe> subscribeRequest = new Request<>("subscribe",
+                Collections.singletonList("block_added"), service, NeoSubscribe.class);
+        Observable<TestNotification> observable = service.subscribe(
+                subscribeRequest, "unsubscribe", TestNotification.class);
+        List<Throwable> errors = new ArrayList<>();
+        observable.subscribe(n -> { }, errors::add);
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.getId()
+                + ",\"error\":{\"code\":-32603,\"message\":\"Internal error\"}}");
+        assertThat(errors.size(), is(1));
+
+        List<TestNotification> notifications = new ArrayList<>();
+        observable.subscribe(notifications::add);
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"id\":" + subscribeRequest.getId()
+                + ",\"result\":\"0x01\"}");
+        service.onWebSocketMessage("{\"jsonrpc\":\"2.0\",\"method\":\"block_added\","
+                + "\"params\":{\"subscription\":\"0x01\",\"result\":\"block\"}}");
+
+        assertThat(notifications.size(), is(1));
+    }
+
+    @Test
+    public void sendFailsWithoutBlockingWhenConnectionIsNotOpen() throws Exception {
+        when(webSocketClient.isOpen()).thenReturn(false);
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+
+        CompletableFuture<NeoBlockCount> reply = request.sendAsync();
+
+        assertThat(reply.isCompletedExceptionally(), is(true));
+        verify(webSocketClient, never()).reconnectBlocking();
+        verify(executor).schedule(any(Runnable.class),
+                eq(WebSocketService.INITIAL_RECONNECT_DELAY), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void closeDoesNotShutDownProvidedExecutor() {
+        service.close();
+
+        verify(webSocketClient).close();
+        verify(executor, never()).shutdown();
+    }
+
+    public static class TestNotification extends Notification<String> {
+    }
+}
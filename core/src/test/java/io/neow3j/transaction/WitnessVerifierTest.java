@@ -0,0 +1,199 @@
+package io.neow3j.transaction;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.PublicKeyCache;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.crypto.SignatureVerifier;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class WitnessVerifierTest {
+
+    private static final byte[] MAGIC = Numeric.hexStringToByteArray("4e454f00");
+
+    private ECKeyPair keyPair1;
+    private ECKeyPair keyPair2;
+    private ECKeyPair keyPair3;
+    private VerificationScript multiSigScript;
+    private SignatureVerifier signatureVerifier;
+    private WitnessVerifier verifier;
+
+    @Before
+    public void setUp() {
+        keyPair1 = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3"));
+        keyPair2 = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "84180ac9d6eb6fba207ea4ef9d2200102d1ebeb4b9c07e2c6a738a42742e27a5"));
+        keyPair3 = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "e6e919577dd7b8e97805151c05ae07ff4f752654d6d8797597aca989c02c4cb3"));
+        multiSigScript = new VerificationScript(asList(keyPair1.getPublicKey(),
+                keyPair2.getPublicKey(), keyPair3.getPublicKey()), 2);
+        signatureVerifier = new SignatureVerifier(new PublicKeyCache());
+        verifier = new WitnessVerifier(signatureVerifier);
+    }
+
+    @Test
+    public void verifySingleSigTransaction() {
+        Transaction tx = transaction(keyPair1);
+        tx.addWitness(Witness.create(hashData(tx), keyPair1));
+
+        assertThat(tx.verifyWitnesses(MAGIC), is(true));
+        assertThat(verifier.verify(tx, MAGIC), is(true));
+    }
+
+    @Test
+    public void rejectSignatureOfOtherNetwork() {
+        Transaction tx = transaction(keyPair1);
+        tx.addWitness(Witness.create(hashData(tx), keyPair1));
+
+        assertThat(verifier.verify(tx, Numeric.hexStringToByteArray("4e454f01")), is(false));
+    }
+
+    @Test
+    public void rejectSignatureOfOtherKey() {
+        Transaction tx = transaction(keyPair1);
+        byte[] hashData = hashData(tx);
+        tx.addWitness(new Witness(
+                InvocationScript.fromSignature(Sign.signMessage(hashData, keyPair2)),
+                new VerificationScript(keyPair1.getPublicKey())));
+
+        assertThat(verifier.verify(tx, MAGIC), is(false));
+    }
+
+    @Test
+    public void rejectMissingWitness() {
+        Transaction tx = transaction(keyPair1);
+        tx.getSigners().add(Signer.calledByEntry(multiSigScript.getScriptHash()));
+        tx.addWitness(Witness.create(hashData(tx), keyPair1));
+
+        assertThat(verifier.verify(tx, MAGIC), is(false));
+    }
+
+    @Test
+    public void rejectWitnessesInOtherOrderThanSigners() {
+        Transaction tx = transaction(keyPair1);
+        tx.getSigners().add(Signer.calledByEntry(
+                new VerificationScript(keyPair2.getPublicKey()).getScriptHash()));
+        byte[] hashData = hashData(tx);
+        tx.addWitness(Witness.create(hashData, keyPair2));
+        tx.addWitness(Witness.create(hashData, keyPair1));
+
+        assertThat(verifier.verify(tx, MAGIC), is(false));
+    }
+
+    @Test
+    public void rejectVerificationScriptWithInvalidPublicKey() {
+        byte[] message = new byte[]{1, 2, 3};
+        byte[] script = new VerificationScript(keyPair1.getPublicKey()).getScript();
+        // Replace the x coordinate of the public key with a value that is not on the curve.
+        Arrays.fill(script, 3, 35, (byte) 0xff);
+        Witness witness = new Witness(
+                InvocationScript.fromSignature(Sign.signMessage(message, keyPair1)),
+                new VerificationScript(script));
+
+        assertThat(verifier.verify(message, witness), is(false));
+    }
+
+    @Test
+    public void verifyMultiSigTransaction() {
+        Transaction tx = new Transaction(null, (byte) 0, 1L, 100L,
+                new ArrayList<>(asList(Signer.calledByEntry(multiSigScript.getScriptHash()))),
+                0L, 0L, new ArrayList<>(), new byte[]{1, 2, 3}, new ArrayList<>());
+        byte[] hashData = hashData(tx);
+        List<ECKeyPair> signers = keyPairsInScriptOrder().subList(1, 3);
+        tx.addWitness(Witness.createMultiSigWitness(
+                Sign.signWithAll(hashData, signers), multiSigScript));
+
+        assertThat(verifier.verify(tx, MAGIC), is(true));
+    }
+
+    @Test
+    public void rejectMultiSigWitnessWithSignaturesOutOfOrder() {
+        byte[] message = new byte[]{1, 2, 3};
+        List<ECKeyPair> keyPairs = keyPairsInScriptOrder();
+        List<SignatureData> sigs = Sign.signWithAll(message,
+                asList(keyPairs.get(2), keyPairs.get(0)));
+
+        Witness witness = new Witness(InvocationScript.fromSignatures(sigs), multiSigScript);
+
+        assertThat(verifier.verify(message, witness), is(false));
+    }
+
+    @Test
+    public void rejectMultiSigWitnessWithTooFewSignatures() {
+        byte[] message = new byte[]{1, 2, 3};
+        Witness witness = new Witness(
+                InvocationScript.fromSignature(Sign.signMessage(message, keyPair1)),
+                multiSigScript);
+
+        assertThat(verifier.verify(message, witness), is(false));
+    }
+
+    @Test
+    public void rejectNonStandardVerificationScript() {
+        byte[] message = new byte[]{1, 2, 3};
+        Witness witness = new Witness(
+                InvocationScript.fromSignature(Sign.signMessage(message, keyPair1)),
+                new VerificationScript(new byte[]{0x11, 0x40}));
+
+        assertThat(verifier.verify(message, witness), is(false));
+    }
+
+    @Test
+    public void verifyAllInOrder() {
+        List<Transaction> txs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ECKeyPair keyPair = i % 2 == 0 ? keyPair1 : keyPair2;
+            Transaction tx = transaction(keyPair);
+            // Every third transaction is signed by the wrong key.
+            ECKeyPair signingKeyPair = i % 3 == 0 ? keyPair3 : keyPair;
+            tx.addWitness(new Witness(InvocationScript.fromSignature(
+                    Sign.signMessage(hashData(tx), signingKeyPair)),
+                    new VerificationScript(keyPair.getPublicKey())));
+            txs.add(tx);
+        }
+
+        List<Boolean> results = verifier.verifyAll(txs, MAGIC);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(results.get(i), is(i % 3 != 0));
+        }
+        assertThat(signatureVerifier.getPublicKeyCache().size(), is(2));
+    }
+
+    private Transaction transaction(ECKeyPair keyPair) {
+        List<Signer> signers = new ArrayList<>();
+        signers.add(Signer.calledByEntry(
+                new VerificationScript(keyPair.getPublicKey()).getScriptHash()));
+        return new Transaction(null, (byte) 0, 1L, 100L, signers, 0L, 0L, new ArrayList<>(),
+                new byte[]{1, 2, 3}, new ArrayList<>());
+    }
+
+    private byte[] hashData(Transaction tx) {
+        return ArrayUtils.concatenate(MAGIC, tx.toArrayWithoutWitnesses());
+    }
+
+    private List<ECKeyPair> keyPairsInScriptOrder() {
+        List<ECPublicKey> keys = multiSigScript.getPublicKeys();
+        return keys.stream()
+                .map(k -> asList(keyPair1, keyPair2, keyPair3).stream()
+                        .filter(kp -> kp.getPublicKey().equals(k))
+                        .findFirst().get())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.neow3j.utils;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LruMapTest {
+
+    @Test
+    public void evictLeastRecentlyUsedEntry() {
+        List<String> evicted = new ArrayList<>();
+        LruMap<Integer, String> map = new LruMap<>(2, evicted::add);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.get(1);
+
+        map.put(3, "three");
+
+        assertThat(map.keySet(), contains(1, 3));
+        assertThat(evicted, contains("two"));
+    }
+
+    @Test
+    public void replaceValueWithoutEviction() {
+        List<String> evicted = new ArrayList<>();
+        LruMap<Integer, String> map = new LruMap<>(1, evicted::add);
+        map.put(1, "one");
+
+        map.put(1, "uno");
+
+        assertThat(map.get(1), is("uno"));
+        assertThat(evicted.isEmpty(), is(true));
+    }
+
+    @Test
+    public void evictWhenMaxSizeIsReduced() {
+        List<String> evicted = new ArrayList<>();
+        LruMap<Integer, String> map = new LruMap<>(3, evicted::add);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.put(3, "three");
+
+        map.setMaxSize(1);
+
+        assertThat(map.keySet(), contains(3));
+        assertThat(evicted, contains("one", "two"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectMaxSizeBelowOne() {
+        new LruMap<>(0);
+    }
+
+}
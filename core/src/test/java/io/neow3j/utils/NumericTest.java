@@ -7,6 +7,9 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static junit.framework.TestCase.assertFalse;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -148,6 +151,58 @@ public class NumericTest {
         assertThat(Numeric.toHexString(HEX_RANGE_ARRAY), is(HEX_RANGE_STRING));
     }
 
+    @Test
+    public void testHexStringToByteArrayUpperCase() {
+        assertThat(Numeric.hexStringToByteArray("0xABCDEF"),
+                is(new byte[]{(byte) 0xab, (byte) 0xcd, (byte) 0xef}));
+    }
+
+    @Test
+    public void testHexStringToBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(6);
+        buffer.put((byte) 0x7f);
+
+        assertThat(Numeric.hexStringToBytes("0x123", buffer), is(2));
+        assertThat(Numeric.hexStringToBytes("abcd", buffer), is(2));
+
+        assertThat(buffer.position(), is(5));
+        assertThat(buffer.array(), is(new byte[]{0x7f, 0x1, 0x23, (byte) 0xab, (byte) 0xcd, 0}));
+    }
+
+    @Test
+    public void testHexStringToBytesDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+
+        assertThat(Numeric.hexStringToBytes(HEX_RANGE_STRING, buffer), is(8));
+
+        byte[] bytes = new byte[8];
+        buffer.flip();
+        buffer.get(bytes);
+        assertThat(bytes, is(HEX_RANGE_ARRAY));
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testHexStringToBytesBufferTooSmall() {
+        Numeric.hexStringToBytes("0x0102", ByteBuffer.allocate(1));
+    }
+
+    @Test
+    public void testToHexChars() {
+        char[] chars = new char[20];
+        Arrays.fill(chars, '-');
+
+        int end = Numeric.toHexChars(HEX_RANGE_ARRAY, 1, 2, chars, 3);
+
+        assertThat(end, is(7));
+        assertThat(new String(chars, 0, 8), is("---2345-"));
+    }
+
+    @Test
+    public void testToHexStringNoPrefixSingleByte() {
+        assertThat(Numeric.toHexStringNoPrefix((byte) 0x0a), is("0a"));
+        assertThat(Numeric.toHexStringNoPrefix((byte) 0xf1), is("f1"));
+    }
+
     @Test
     public void testToHexStringNoPrefixZeroPadded() {
         assertThat(
@@ -0,0 +1,165 @@
+package io.neow3j.vm;
+
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.model.types.StackItemType;
+import io.neow3j.protocol.core.methods.response.BooleanStackItem;
+import io.neow3j.protocol.core.methods.response.ByteStringStackItem;
+import io.neow3j.protocol.core.methods.response.IntegerStackItem;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class DefaultInteropHandlerTest {
+
+    private static final byte[] KEY = hexStringToByteArray("01");
+    private static final byte[] VALUE = hexStringToByteArray("0a0b");
+
+    @Test
+    public void readStorageFromProvider() throws IOException {
+        AtomicInteger reads = new AtomicInteger();
+        byte[] script = new ScriptBuilder()
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETREADONLYCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GET)
+                .toArray();
+        ScriptHash contract = ScriptHash.fromScript(script);
+        DefaultInteropHandler handler = new DefaultInteropHandler((c, key) -> {
+            reads.incrementAndGet();
+            return c.equals(contract) && Arrays.equals(key, KEY) ? VALUE : null;
+        });
+
+        ExecutionEngine engine = new ExecutionEngine(handler).loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(new ByteStringStackItem(VALUE)));
+        assertThat(reads.get(), is(1));
+    }
+
+    @Test
+    public void writeStorageWithoutChangingProvider() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushData(VALUE)
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_PUT)
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GET)
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_DELETE)
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GET)
+                .toArray();
+        DefaultInteropHandler handler = new DefaultInteropHandler(StorageProvider.EMPTY);
+
+        ExecutionEngine engine = new ExecutionEngine(handler).loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(new ByteStringStackItem(VALUE)));
+        assertThat(engine.getResultStack().get(1).getType(), is(StackItemType.ANY));
+        long storageFee =
+                (KEY.length + VALUE.length) * DefaultInteropHandler.DEFAULT_STORAGE_PRICE;
+        assertThat(engine.getGasConsumed() > storageFee, is(true));
+    }
+
+    @Test
+    public void faultWhenWritingToReadOnlyContext() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushData(VALUE)
+                .pushData(KEY)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_GETREADONLYCONTEXT)
+                .sysCall(InteropServiceCode.SYSTEM_STORAGE_PUT)
+                .toArray();
+
+        ExecutionEngine engine = new ExecutionEngine().loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("The storage context is read-only."));
+    }
+
+    @Test
+    public void checkWitness() throws IOException {
+        ScriptHash signer = new ScriptHash("0f46dc4287b70117ce8354924b5cb3a47215ad93");
+        byte[] script = new ScriptBuilder()
+                .pushData(signer.toArray())
+                .sysCall(InteropServiceCode.SYSTEM_RUNTIME_CHECKWITNESS)
+                .pushData(ScriptHash.ZERO.toArray())
+                .sysCall(InteropServiceCode.SYSTEM_RUNTIME_CHECKWITNESS)
+                .toArray();
+        DefaultInteropHandler handler =
+                new DefaultInteropHandler(StorageProvider.EMPTY).witnesses(signer);
+
+        ExecutionEngine engine = new ExecutionEngine(handler).loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.HALT));
+        assertThat(engine.getResultStack(), is(Arrays.asList(
+                new BooleanStackItem(true), new BooleanStackItem(false))));
+    }
+
+    @Test
+    public void recordNotification() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .opCode(OpCode.NEWARRAY0)
+                .pushData("event".getBytes(StandardCharsets.UTF_8))
+                .sysCall(InteropServiceCode.SYSTEM_RUNTIME_NOTIFY)
+                .toArray();
+        DefaultInteropHandler handler = new DefaultInteropHandler(StorageProvider.EMPTY);
+
+        ExecutionEngine engine = new ExecutionEngine(handler).loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.HALT));
+        assertThat(handler.getNotifications().size(), is(1));
+        assertThat(handler.getNotifications().get(0).getEventName(), is("event"));
+        assertThat(handler.getNotifications().get(0).getContract(),
+                is("0x" + ScriptHash.fromScript(script).toString()));
+    }
+
+    @Test
+    public void itoaAndAtoi() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushInteger(16)
+                .pushInteger(255)
+                .sysCall(InteropServiceCode.SYSTEM_BINARY_ITOA)
+                .opCode(OpCode.DUP)
+                .pushInteger(16)
+                .opCode(OpCode.SWAP)
+                .sysCall(InteropServiceCode.SYSTEM_BINARY_ATOI)
+                .toArray();
+
+        ExecutionEngine engine = new ExecutionEngine().loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0),
+                is(new ByteStringStackItem("0ff".getBytes(StandardCharsets.UTF_8))));
+        assertThat(engine.getResultStack().get(1),
+                is(new IntegerStackItem(BigInteger.valueOf(255))));
+    }
+
+    @Test
+    public void faultOnUnsupportedService() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .sysCall(InteropServiceCode.SYSTEM_CONTRACT_CALL)
+                .toArray();
+
+        ExecutionEngine engine = new ExecutionEngine().loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("The interop service System.Contract.Call is "
+                + "not supported by the local execution engine."));
+    }
+
+}
@@ -0,0 +1,471 @@
+package io.neow3j.vm;
+
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.constants.InteropServiceCode;
+import io.neow3j.constants.OpCode;
+import io.neow3j.contract.ScriptBuilder;
+import io.neow3j.protocol.core.methods.response.ArrayStackItem;
+import io.neow3j.protocol.core.methods.response.BooleanStackItem;
+import io.neow3j.protocol.core.methods.response.BufferStackItem;
+import io.neow3j.protocol.core.methods.response.ByteStringStackItem;
+import io.neow3j.protocol.core.methods.response.IntegerStackItem;
+import io.neow3j.protocol.core.methods.response.InvocationResult;
+import io.neow3j.protocol.core.methods.response.StackItem;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ExecutionEngineTest {
+
+    @Test
+    public void arithmetic() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushInteger(2)
+                .pushInteger(3)
+                .opCode(OpCode.ADD)
+                .pushInteger(4)
+                .opCode(OpCode.MUL)
+                .pushInteger(-6)
+                .opCode(OpCode.SUB)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().size(), is(1));
+        assertThat(engine.getResultStack().get(0), is(integer(26)));
+        long price = 3 * OpCode.PUSH2.getPrice() + OpCode.PUSHINT8.getPrice()
+                + OpCode.ADD.getPrice() + OpCode.MUL.getPrice() + OpCode.SUB.getPrice() + OpCode.RET.getPrice();
+        assertThat(engine.getGasConsumed(),
+                is(price * ExecutionEngine.DEFAULT_EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void loopWithLocalVariable() throws IOException {
+        // Sums up the numbers from 10 down to 1.
+        byte[] script = hexStringToByteArray(""
+                + "570100" // INITSLOT 1 local, 0 arguments
+                + "1070" // PUSH0, STLOC0
+                + "1a" // PUSH10
+                + "4a689e70" // DUP, LDLOC0, ADD, STLOC0
+                + "9d4a24fa" // DEC, DUP, JMPIF -6
+                + "456840"); // DROP, LDLOC0, RET
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(integer(55)));
+    }
+
+    @Test
+    public void callAndReturn() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "1a" // PUSH10
+                + "3403" // CALL +3
+                + "40" // RET
+                + "9c9c40"); // INC, INC, RET
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(integer(12)));
+    }
+
+    @Test
+    public void catchException() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "3b0900" // TRY catch +9, no finally
+                + "0c03657272" // PUSHDATA1 "err"
+                + "3a" // THROW
+                + "3d02" // ENDTRY +2
+                + "40"); // RET
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(byteString("err")));
+    }
+
+    @Test
+    public void executeFinallyBlock() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "3b0006" // TRY no catch, finally +6
+                + "11" // PUSH1
+                + "3d04" // ENDTRY +4
+                + "12" // PUSH2
+                + "3f" // ENDFINALLY
+                + "40"); // RET
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().size(), is(2));
+        assertThat(engine.getResultStack().get(1), is(integer(2)));
+    }
+
+    @Test
+    public void faultOnUncaughtException() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushData("boom".getBytes(StandardCharsets.UTF_8))
+                .opCode(OpCode.THROW)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), containsString("boom"));
+        assertThat(engine.getResultStack().isEmpty(), is(true));
+    }
+
+    @Test
+    public void faultOnDivisionByZero() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushInteger(1)
+                .pushInteger(0)
+                .opCode(OpCode.DIV)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("Division by zero."));
+    }
+
+    @Test
+    public void faultOnIntegerOverflow() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushInteger(BigInteger.ONE.shiftLeft(254))
+                .pushInteger(2)
+                .opCode(OpCode.MUL)
+                .toArray();
+
+        assertThat(execute(script).getState(), is(VMState.FAULT));
+    }
+
+    @Test
+    public void faultOnInsufficientGas() throws IOException {
+        byte[] script = hexStringToByteArray("2122ff"); // NOP, JMP -1, an endless loop
+
+        ExecutionEngine engine = new ExecutionEngine().gasLimit(1000000).loadScript(script);
+
+        assertThat(engine.execute(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("Insufficient GAS."));
+    }
+
+    @Test
+    public void faultOnEmptyStack() throws IOException {
+        byte[] script = new ScriptBuilder().opCode(OpCode.DROP).toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("The evaluation stack is empty."));
+    }
+
+    @Test
+    public void compoundTypes() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .opCode(OpCode.NEWMAP)
+                .opCode(OpCode.DUP)
+                .pushData("key".getBytes(StandardCharsets.UTF_8))
+                .pushInteger(7)
+                .opCode(OpCode.SETITEM)
+                .pushData("key".getBytes(StandardCharsets.UTF_8))
+                .opCode(OpCode.PICKITEM)
+                .pushInteger(0)
+                .opCode(OpCode.NOT)
+                .pushInteger(2)
+                .opCode(OpCode.PACK)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        StackItem array = engine.getResultStack().get(0);
+        assertThat(array, is(new ArrayStackItem(
+                Arrays.asList(new BooleanStackItem(true), integer(7)))));
+    }
+
+    @Test
+    public void convertTypes() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushInteger(256)
+                .opCode(OpCode.CONVERT, new byte[]{0x28})
+                .opCode(OpCode.SIZE)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getResultStack().get(0), is(integer(2)));
+    }
+
+    @Test
+    public void hashWithInteropService() throws IOException {
+        byte[] script = new ScriptBuilder()
+                .pushData(hexStringToByteArray("01"))
+                .sysCall(InteropServiceCode.NEO_CRYPTO_SHA256)
+                .toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.HALT));
+        assertThat(engine.getResultStack().get(0), is(new ByteStringStackItem(hexStringToByteArray(
+                "4bf5122f344554c53bde2ebb8cd2b7e3d1600ad631c385a5d7cce23c7785459a"))));
+        long price = OpCode.PUSHDATA1.getPrice() + OpCode.SYSCALL.getPrice()
+                + InteropServiceCode.NEO_CRYPTO_SHA256.getPrice()
+                + OpCode.RET.getPrice();
+        assertThat(engine.getGasConsumed(),
+                is(price * ExecutionEngine.DEFAULT_EXEC_FEE_FACTOR));
+    }
+
+    @Test
+    public void toInvocationResult() throws IOException {
+        byte[] script = new ScriptBuilder().pushInteger(1).toArray();
+
+        InvocationResult result = execute(script).toInvocationResult();
+
+        assertThat(result.getState(), is("HALT"));
+        assertThat(result.getGasConsumed(), is("30"));
+        assertThat(result.getScript(), is("EQ=="));
+        assertThat(result.getStack().get(0), is(integer(1)));
+    }
+
+    @Test
+    public void spliceBounds() throws IOException {
+        // Rows: opcode, operands pushed after the string "neow3j", expected result or null for a
+        // fault.
+        Object[][] cases = {
+                {OpCode.SUBSTR, new long[]{1, 3}, "eow"},
+                {OpCode.SUBSTR, new long[]{3, 3}, "w3j"},
+                {OpCode.SUBSTR, new long[]{0, 0}, ""},
+                {OpCode.SUBSTR, new long[]{6, 0}, ""},
+                {OpCode.SUBSTR, new long[]{4, 3}, null},
+                {OpCode.SUBSTR, new long[]{7, 0}, null},
+                {OpCode.SUBSTR, new long[]{-1, 2}, null},
+                {OpCode.SUBSTR, new long[]{1, -1}, null},
+                {OpCode.LEFT, new long[]{2}, "ne"},
+                {OpCode.LEFT, new long[]{0}, ""},
+                {OpCode.LEFT, new long[]{6}, "neow3j"},
+                {OpCode.LEFT, new long[]{7}, null},
+                {OpCode.LEFT, new long[]{-1}, null},
+                {OpCode.RIGHT, new long[]{2}, "3j"},
+                {OpCode.RIGHT, new long[]{0}, ""},
+                {OpCode.RIGHT, new long[]{6}, "neow3j"},
+                {OpCode.RIGHT, new long[]{7}, null},
+                {OpCode.RIGHT, new long[]{-1}, null},
+        };
+        for (Object[] c : cases) {
+            ScriptBuilder builder = new ScriptBuilder().pushData("neow3j");
+            for (long operand : (long[]) c[1]) {
+                builder.pushInteger(operand);
+            }
+            byte[] script = builder.opCode((OpCode) c[0]).toArray();
+            String description = c[0] + " " + Arrays.toString((long[]) c[1]);
+
+            if (c[2] == null) {
+                assertFault(description, script);
+            } else {
+                assertHalt(description, script,
+                        new BufferStackItem(((String) c[2]).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    @Test
+    public void divisionAndModuloSigns() throws IOException {
+        // Like in neo-vm, the quotient is truncated towards zero and the remainder has the sign
+        // of the dividend. Rows: dividend, divisor, quotient, remainder.
+        long[][] cases = {
+                {7, 2, 3, 1},
+                {-7, 2, -3, -1},
+                {7, -2, -3, 1},
+                {-7, -2, 3, -1},
+                {0, 5, 0, 0},
+                {6, 3, 2, 0},
+                {-6, 3, -2, 0},
+        };
+        for (long[] c : cases) {
+            String description = c[0] + ", " + c[1];
+            assertHalt("DIV " + description, binaryOperation(c[0], c[1], OpCode.DIV),
+                    integer(c[2]));
+            assertHalt("MOD " + description, binaryOperation(c[0], c[1], OpCode.MOD),
+                    integer(c[3]));
+        }
+    }
+
+    @Test
+    public void divisionAndModuloFaults() throws IOException {
+        BigInteger min = BigInteger.ONE.shiftLeft(255).negate();
+
+        assertFault("DIV by zero", binaryOperation(BigInteger.ONE, BigInteger.ZERO, OpCode.DIV));
+        assertFault("MOD by zero", binaryOperation(BigInteger.ONE, BigInteger.ZERO, OpCode.MOD));
+        // The quotient 2^255 exceeds the maximum integer size of 32 bytes.
+        assertFault("DIV overflow", binaryOperation(min, BigInteger.ONE.negate(), OpCode.DIV));
+        assertHalt("MOD of the minimum", binaryOperation(min, BigInteger.ONE.negate(),
+                OpCode.MOD), integer(0));
+    }
+
+    @Test
+    public void shiftLimits() throws IOException {
+        // Rows: opcode, value, shift, expected result or null for a fault.
+        Object[][] cases = {
+                {OpCode.SHL, BigInteger.ONE, 0, BigInteger.ONE},
+                {OpCode.SHL, BigInteger.ONE, 3, BigInteger.valueOf(8)},
+                {OpCode.SHL, BigInteger.ONE.negate(), 3, BigInteger.valueOf(-8)},
+                {OpCode.SHL, BigInteger.ONE, 254, BigInteger.ONE.shiftLeft(254)},
+                {OpCode.SHL, BigInteger.ZERO, 256, BigInteger.ZERO},
+                {OpCode.SHL, BigInteger.ONE, 255, null},
+                {OpCode.SHL, BigInteger.ZERO, 257, null},
+                {OpCode.SHL, BigInteger.ONE, -1, null},
+                {OpCode.SHR, BigInteger.valueOf(8), 0, BigInteger.valueOf(8)},
+                {OpCode.SHR, BigInteger.valueOf(8), 3, BigInteger.ONE},
+                {OpCode.SHR, BigInteger.valueOf(-8), 3, BigInteger.ONE.negate()},
+                {OpCode.SHR, BigInteger.valueOf(-7), 1, BigInteger.valueOf(-4)},
+                {OpCode.SHR, BigInteger.ONE, 256, BigInteger.ZERO},
+                {OpCode.SHR, BigInteger.ONE.negate(), 256, BigInteger.ONE.negate()},
+                {OpCode.SHR, BigInteger.ONE, 257, null},
+                {OpCode.SHR, BigInteger.ONE, -1, null},
+        };
+        for (Object[] c : cases) {
+            byte[] script = binaryOperation((BigInteger) c[1], BigInteger.valueOf((int) c[2]),
+                    (OpCode) c[0]);
+            String description = c[0] + " " + c[1] + ", " + c[2];
+
+            if (c[3] == null) {
+                assertFault(description, script);
+            } else {
+                assertHalt(description, script, new IntegerStackItem((BigInteger) c[3]));
+            }
+        }
+    }
+
+    @Test
+    public void rethrowFromNestedFinallyBlock() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "3b0c00" // TRY catch +12, no finally
+                + "3b0007" // TRY no catch, finally +7
+                + "11" // PUSH1
+                + "3a" // THROW
+                + "3d04" // ENDTRY +4
+                + "12" // PUSH2
+                + "3f" // ENDFINALLY, rethrows to the outer catch
+                + "3d02" // ENDTRY +2
+                + "40"); // RET
+
+        // The finally block pushes 2 before the outer catch block gets the exception 1.
+        assertHalt("caught rethrow", script, integer(2), integer(1));
+    }
+
+    @Test
+    public void runNestedFinallyBlocksInOrder() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "3b000d" // TRY no catch, finally +13
+                + "3b0006" // TRY no catch, finally +6
+                + "11" // PUSH1
+                + "3d04" // ENDTRY +4
+                + "12" // PUSH2
+                + "3f" // ENDFINALLY
+                + "3d04" // ENDTRY +4
+                + "13" // PUSH3
+                + "3f" // ENDFINALLY
+                + "40"); // RET
+
+        assertHalt("nested finally", script, integer(1), integer(2), integer(3));
+    }
+
+    @Test
+    public void faultOnRethrowWithoutCatchBlock() throws IOException {
+        byte[] script = hexStringToByteArray(""
+                + "3b000b" // TRY no catch, finally +11
+                + "0c03657272" // PUSHDATA1 "err"
+                + "3a" // THROW
+                + "3d03" // ENDTRY +3
+                + "3f" // ENDFINALLY, rethrows
+                + "40"); // RET
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(), is("An unhandled exception was thrown. err"));
+    }
+
+    @Test
+    public void faultOnEndFinallyOutsideOfTryBlock() throws IOException {
+        byte[] script = new ScriptBuilder().opCode(OpCode.ENDFINALLY).toArray();
+
+        ExecutionEngine engine = execute(script);
+
+        assertThat(engine.getState(), is(VMState.FAULT));
+        assertThat(engine.getFaultMessage(),
+                is("ENDFINALLY is executed outside of a try block."));
+    }
+
+    @Test
+    public void gasLimit() throws IOException {
+        byte[] script = new ScriptBuilder().pushInteger(1).toArray();
+        long price = (OpCode.PUSH1.getPrice() + OpCode.RET.getPrice())
+                * ExecutionEngine.DEFAULT_EXEC_FEE_FACTOR;
+        // Rows: GAS limit, expected state.
+        Object[][] cases = {
+                {price + 1, VMState.HALT},
+                {price, VMState.HALT},
+                {price - 1, VMState.FAULT},
+                {0L, VMState.FAULT},
+        };
+        for (Object[] c : cases) {
+            ExecutionEngine engine = new ExecutionEngine().gasLimit((long) c[0])
+                    .loadScript(script);
+
+            assertThat("GAS limit " + c[0], engine.execute(), is(c[1]));
+            if (c[1] == VMState.FAULT) {
+                assertThat(engine.getFaultMessage(), is("Insufficient GAS."));
+                assertThat(engine.getResultStack().isEmpty(), is(true));
+            } else {
+                assertThat(engine.getGasConsumed(), is(price));
+            }
+        }
+    }
+
+    private ExecutionEngine execute(byte[] script) throws IOException {
+        ExecutionEngine engine = new ExecutionEngine().loadScript(script);
+        engine.execute();
+        return engine;
+    }
+
+    private void assertHalt(String description, byte[] script, StackItem... expected)
+            throws IOException {
+        ExecutionEngine engine = execute(script);
+        assertThat(description + ": " + engine.getFaultMessage(), engine.getState(),
+                is(VMState.HALT));
+        assertThat(description, engine.getResultStack(), is(Arrays.asList(expected)));
+    }
+
+    private void assertFault(String description, byte[] script) throws IOException {
+        assertThat(description, execute(script).getState(), is(VMState.FAULT));
+    }
+
+    private static byte[] binaryOperation(long x1, long x2, OpCode opCode) {
+        return binaryOperation(BigInteger.valueOf(x1), BigInteger.valueOf(x2), opCode);
+    }
+
+    private static byte[] binaryOperation(BigInteger x1, BigInteger x2, OpCode opCode) {
+        return new ScriptBuilder().pushInteger(x1).pushInteger(x2).opCode(opCode).toArray();
+    }
+
+    private static IntegerStackItem integer(long value) {
+        return new IntegerStackItem(BigInteger.valueOf(value));
+    }
+
+    private static ByteStringStackItem byteString(String value) {
+        return new ByteStringStackItem(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
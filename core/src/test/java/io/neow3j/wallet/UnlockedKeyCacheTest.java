@@ -0,0 +1,107 @@
+package io.neow3j.wallet;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import io.neow3j.contract.ScriptHash;
+import io.neow3j.crypto.ECKeyPair;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class UnlockedKeyCacheTest {
+
+    private AtomicLong time;
+    private UnlockedKeyCache cache;
+
+    @Before
+    public void setUp() {
+        time = new AtomicLong(0);
+        cache = new UnlockedKeyCache(2, 10, time::get);
+    }
+
+    @Test
+    public void getCachedKeyPair() {
+        Account account = Account.create();
+        ECKeyPair keyPair = account.getECKeyPair();
+
+        cache.put(account.getScriptHash(), keyPair);
+
+        assertThat(cache.get(account.getScriptHash()), is(keyPair));
+        assertThat(cache.get(ScriptHash.ZERO), is(nullValue()));
+    }
+
+    @Test
+    public void handOutCopiesOfKeyPairs() {
+        Account account = Account.create();
+        ECKeyPair keyPair = account.getECKeyPair();
+        cache.put(account.getScriptHash(), keyPair);
+
+        ECKeyPair copy = cache.get(account.getScriptHash());
+
+        assertThat(copy, is(not(sameInstance(keyPair))));
+        assertThat(copy.getPrivateKey().getBytes(),
+                is(not(sameInstance(keyPair.getPrivateKey().getBytes()))));
+        assertThat(cache.get(account.getScriptHash()), is(not(sameInstance(copy))));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedKeyPairWithoutErasingHeldCopies() {
+        ECKeyPair keyPair1 = Account.create().getECKeyPair();
+        ECKeyPair keyPair2 = Account.create().getECKeyPair();
+        ECKeyPair keyPair3 = Account.create().getECKeyPair();
+        ScriptHash account1 = ScriptHash.fromPublicKey(keyPair1.getPublicKey().getEncoded(true));
+        ScriptHash account2 = ScriptHash.fromPublicKey(keyPair2.getPublicKey().getEncoded(true));
+        ScriptHash account3 = ScriptHash.fromPublicKey(keyPair3.getPublicKey().getEncoded(true));
+        BigInteger privateKey2 = keyPair2.getPrivateKey().getInt();
+        cache.put(account1, keyPair1);
+        cache.put(account2, keyPair2);
+        ECKeyPair heldKeyPair2 = cache.get(account2);
+        cache.get(account1);
+
+        cache.put(account3, keyPair3);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(account2), is(nullValue()));
+        assertThat(keyPair2.getPrivateKey().getInt(), is(privateKey2));
+        assertThat(heldKeyPair2.getPrivateKey().getInt(), is(privateKey2));
+        assertThat(cache.get(account1), is(keyPair1));
+    }
+
+    @Test
+    public void expireKeyPairWithoutErasingHeldCopies() {
+        Account account = Account.create();
+        ECKeyPair keyPair = account.getECKeyPair();
+        BigInteger privateKey = keyPair.getPrivateKey().getInt();
+        cache.put(account.getScriptHash(), keyPair);
+
+        time.set(9);
+        ECKeyPair heldKeyPair = cache.get(account.getScriptHash());
+        assertThat(heldKeyPair, is(keyPair));
+        time.set(10);
+
+        assertThat(cache.get(account.getScriptHash()), is(nullValue()));
+        assertThat(heldKeyPair.getPrivateKey().getInt(), is(privateKey));
+    }
+
+    @Test
+    public void clearRemovesAllKeyPairsWithoutErasingHeldCopies() {
+        ECKeyPair keyPair = Account.create().getECKeyPair();
+        BigInteger privateKey = keyPair.getPrivateKey().getInt();
+        cache.put(ScriptHash.ZERO, keyPair);
+        ECKeyPair heldKeyPair = cache.get(ScriptHash.ZERO);
+
+        cache.clear();
+
+        assertThat(cache.size(), is(0));
+        assertThat(keyPair.getPrivateKey().getInt(), is(privateKey));
+        assertThat(heldKeyPair.getPrivateKey().getInt(), is(privateKey));
+    }
+
+}
@@ -21,6 +21,7 @@ import com.google.common.io.Files;
 import io.neow3j.contract.ScriptHash;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.ScryptParams;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
@@ -37,8 +38,12 @@ import java.net.URL;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -435,6 +440,93 @@ public class WalletTest {
         assertThat(w.getAccounts().get(0).getECKeyPair(), nullValue());
     }
 
+    @Test
+    public void encryptAndDecryptWalletInParallel() throws Exception {
+        Wallet w = Wallet.withAccounts(Account.create(), Account.create(), Account.create())
+                .scryptParams(new ScryptParams(256, 1, 1));
+        Map<ScriptHash, BigInteger> privateKeys = new HashMap<>();
+        w.getAccounts().forEach(a -> privateKeys.put(a.getScriptHash(),
+                a.getECKeyPair().getPrivateKey().getInt()));
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+
+        w.encryptAllAccountsInParallel("pw", 2, (completed, total) -> {
+            assertThat(total, is(3));
+            progress.add(completed);
+        });
+
+        assertThat(progress, containsInAnyOrder(1, 2, 3));
+        for (Account a : w.getAccounts()) {
+            assertThat(a.getEncryptedPrivateKey(), notNullValue());
+            assertThat(a.getEncryptedPrivateKey(),
+                    is(NEP2.encrypt("pw", ECKeyPair.create(privateKeys.get(a.getScriptHash())),
+                            w.getScryptParams())));
+        }
+
+        w.decryptAllAccountsInParallel("pw");
+
+        for (Account a : w.getAccounts()) {
+            assertThat(a.getECKeyPair().getPrivateKey().getInt(),
+                    is(privateKeys.get(a.getScriptHash())));
+        }
+    }
+
+    @Test
+    public void decryptWalletInParallelWithWrongPassword() throws Exception {
+        Wallet w = Wallet.withAccounts(Account.create(), Account.create())
+                .scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccountsInParallel("pw");
+
+        exceptionRule.expect(NEP2InvalidPassphrase.class);
+        w.decryptAllAccountsInParallel("wrong", 2, null);
+    }
+
+    @Test
+    public void decryptAccountLazily() throws Exception {
+        Account a1 = Account.create();
+        Account a2 = Account.create();
+        BigInteger privateKey = a1.getECKeyPair().getPrivateKey().getInt();
+        Wallet w = Wallet.withAccounts(a1, a2).scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccounts("pw");
+        AtomicInteger passwordRequests = new AtomicInteger();
+
+        w.lazyDecryption(account -> {
+            passwordRequests.incrementAndGet();
+            return "pw";
+        });
+
+        assertThat(a1.getECKeyPair().getPrivateKey().getInt(), is(privateKey));
+        assertThat(a1.getECKeyPair().getPrivateKey().getInt(), is(privateKey));
+        assertThat(passwordRequests.get(), is(1));
+        assertThat(w.getUnlockedKeyCache().size(), is(1));
+        // The decrypted key is only held by the cache.
+        assertThat(a1.toNEP6Account().getKey(), is(a1.getEncryptedPrivateKey()));
+
+        w.disableLazyDecryption();
+
+        exceptionRule.expect(IllegalStateException.class);
+        exceptionRule.expectMessage("This account does not hold an EC key pair.");
+        a1.getECKeyPair();
+    }
+
+    @Test
+    public void decryptAccountLazilyWithWrongPassword() throws Exception {
+        Wallet w = Wallet.create().scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccounts("pw");
+        w.lazyDecryption(account -> "wrong");
+
+        exceptionRule.expect(IllegalStateException.class);
+        exceptionRule.expectMessage("could not be decrypted");
+        w.getDefaultAccount().getECKeyPair();
+    }
+
+    @Test
+    public void defaultParallelismIsLimitedByProcessors() {
+        int parallelism = Wallet.getDefaultParallelism(NEP2.DEFAULT_SCRYPT_PARAMS);
+
+        assertTrue(parallelism >= 1);
+        assertTrue(parallelism <= Runtime.getRuntime().availableProcessors());
+    }
+
     @Rule
     public WireMockRule wireMockRule = new WireMockRule(WireMockConfiguration.options().dynamicPort());
 
@@ -13,10 +13,12 @@ import static java.util.Optional.ofNullable;
 
 import io.neow3j.compiler.CompilationUnit;
 import io.neow3j.compiler.Compiler;
+import io.neow3j.compiler.PeepholeOptimizer;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import org.gradle.api.Action;
 import org.gradle.api.logging.configuration.ShowStacktrace;
@@ -27,6 +29,7 @@ public class Neow3jCompileAction implements Action<Neow3jCompileTask> {
     public void execute(Neow3jCompileTask neow3jPluginCompile) {
         String canonicalClassName = neow3jPluginCompile.getOptions().getClassName();
         Boolean debugSymbols = neow3jPluginCompile.getOptions().getDebug();
+        Boolean optimize = neow3jPluginCompile.getOptions().getOptimize();
 
         ofNullable(canonicalClassName).orElseThrow(() ->
                 new IllegalArgumentException("The parameter "
@@ -60,7 +63,10 @@ public class Neow3jCompileAction implements Action<Neow3jCompileTask> {
                 .orElseThrow(() -> new IllegalStateException("Couldn't find the source file "
                         + "belonging to " + canonicalClassName));
 
-        Compiler n = new Compiler(compilerClassLoader);
+        PeepholeOptimizer optimizer = optimize
+                ? new PeepholeOptimizer()
+                : new PeepholeOptimizer(EnumSet.noneOf(PeepholeOptimizer.Rule.class));
+        Compiler n = new Compiler(compilerClassLoader, optimizer);
 
         try {
             // compile
@@ -87,6 +93,10 @@ public class Neow3jCompileAction implements Action<Neow3jCompileTask> {
             System.out.println("Compilation succeeded!");
             System.out.println("NEF file: " + nefFileName);
             System.out.println("Manifest file: " + manifestFileName);
+            if (optimize) {
+                System.out.println("Bytes saved by optimization: "
+                        + compilationUnit.getTotalPeepholeSavings());
+            }
 
             if (debugSymbols) {
                 // Pack the debug info into a ZIP archive.
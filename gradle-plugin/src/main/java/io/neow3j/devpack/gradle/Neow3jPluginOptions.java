@@ -14,6 +14,9 @@ public class Neow3jPluginOptions {
 
     private String outputDir;
 
+    // Default behavior: don't run the peephole optimizer
+    private Boolean optimize = false;
+
     public Neow3jPluginOptions() {
     }
 
@@ -41,6 +44,18 @@ public class Neow3jPluginOptions {
         setDebug(debug);
     }
 
+    public Boolean getOptimize() {
+        return optimize;
+    }
+
+    public void setOptimize(Boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    public void optimize(Boolean optimize) {
+        setOptimize(optimize);
+    }
+
     public Path getOutputDir() {
         if (this.outputDir != null) {
             return Paths.get(outputDir);